@@ -0,0 +1,91 @@
+package com.backend.engineering.benchmark;
+
+import com.backend.engineering.data.ColumnPredicate;
+import com.backend.engineering.data.CsvProjection;
+import com.backend.engineering.data.CsvReader;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.data.EmployeeColumn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CsvReaderBenchmark {
+
+    @Benchmark
+    public List<Employee> readEmpData(DatasetFile dataset) throws IOException {
+        return new CsvReader().readEmpData(dataset.path);
+    }
+
+    @Benchmark
+    public long streamEmpData(DatasetFile dataset) throws IOException {
+        try (Stream<Employee> employees = new CsvReader().streamEmpData(dataset.path)) {
+            return employees.count();
+        }
+    }
+
+    @Benchmark
+    public List<Employee> readEmpDataParallel(DatasetFile dataset) throws IOException {
+        return new CsvReader().readEmpData(dataset.path, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Benchmark
+    public double op08FullRead(DatasetFile dataset) throws IOException {
+        try (Stream<Employee> employees = new CsvReader().streamEmpData(dataset.path)) {
+            return employees.mapToDouble(Employee::getSalary).sum();
+        }
+    }
+
+    @Benchmark
+    public double op08Projected(DatasetFile dataset) throws IOException {
+        try (Stream<Employee> employees = new CsvReader().scan(dataset.path, CsvProjection.of(EmployeeColumn.SALARY))) {
+            return employees.mapToDouble(Employee::getSalary).sum();
+        }
+    }
+
+    @Benchmark
+    public double op21FullRead(DatasetFile dataset) throws IOException {
+        try (Stream<Employee> employees = new CsvReader().streamEmpData(dataset.path)) {
+            return employees.filter(e -> "IT".equals(e.getDepartment())).mapToDouble(Employee::getSalary).sum();
+        }
+    }
+
+    @Benchmark
+    public double op21Projected(DatasetFile dataset) throws IOException {
+        CsvProjection projection = CsvProjection.of(EmployeeColumn.SALARY)
+                .where(ColumnPredicate.equalTo(EmployeeColumn.DEPARTMENT, "IT"));
+        try (Stream<Employee> employees = new CsvReader().scan(dataset.path, projection)) {
+            return employees.mapToDouble(Employee::getSalary).sum();
+        }
+    }
+
+    @Benchmark
+    public List<Integer> op25FullRead(DatasetFile dataset) throws IOException {
+        try (Stream<Employee> employees = new CsvReader().streamEmpData(dataset.path)) {
+            return employees.filter(e -> "John Doe".equals(e.getManager())).map(Employee::getId).collect(Collectors.toList());
+        }
+    }
+
+    @Benchmark
+    public List<Integer> op25Projected(DatasetFile dataset) throws IOException {
+        CsvProjection projection = CsvProjection.of(EmployeeColumn.ID)
+                .where(ColumnPredicate.equalTo(EmployeeColumn.MANAGER, "John Doe"));
+        try (Stream<Employee> employees = new CsvReader().scan(dataset.path, projection)) {
+            return employees.map(Employee::getId).collect(Collectors.toList());
+        }
+    }
+}
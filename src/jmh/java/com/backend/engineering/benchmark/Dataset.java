@@ -0,0 +1,25 @@
+package com.backend.engineering.benchmark;
+
+import com.backend.engineering.data.CsvReader;
+import com.backend.engineering.data.Employee;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The generated dataset loaded into memory once per trial.
+ */
+@State(Scope.Benchmark)
+public class Dataset extends DatasetFile {
+
+    public List<Employee> employees;
+
+    @Setup(Level.Trial)
+    public void load() throws IOException {
+        employees = new CsvReader().readEmpData(path);
+    }
+}
@@ -0,0 +1,40 @@
+package com.backend.engineering.benchmark;
+
+import com.backend.engineering.data.CsvGenerator;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * A generated employees CSV of the requested size. Files are cached under build/jmh-data so forks
+ * and later runs reuse them.
+ */
+@State(Scope.Benchmark)
+public class DatasetFile {
+
+    private static final long SEED = 42L;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int rows;
+
+    public Path path;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        Path directory = Paths.get("build", "jmh-data");
+        Files.createDirectories(directory);
+        path = directory.resolve("employees-" + rows + ".csv");
+        if (!Files.exists(path)) {
+            Path partial = directory.resolve(path.getFileName() + ".tmp");
+            CsvGenerator.generate(partial, rows, SEED);
+            Files.move(partial, path);
+        }
+    }
+}
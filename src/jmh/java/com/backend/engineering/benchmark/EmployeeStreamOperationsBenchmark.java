@@ -0,0 +1,278 @@
+package com.backend.engineering.benchmark;
+
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One benchmark per numbered operation in {@link EmployeeStreamOperations}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeStreamOperationsBenchmark {
+
+    @Benchmark
+    public List<Employee> op01HighEarners(Dataset dataset) {
+        return EmployeeStreamOperations.highEarners(dataset.employees);
+    }
+
+    @Benchmark
+    public Map<String, Long> op02EmployeesPerDepartment(Dataset dataset) {
+        return EmployeeStreamOperations.employeesPerDepartment(dataset.employees);
+    }
+
+    @Benchmark
+    public double op03AverageSalary(Dataset dataset) {
+        return EmployeeStreamOperations.averageSalary(dataset.employees);
+    }
+
+    @Benchmark
+    public List<Employee> op04HiredAfter2015(Dataset dataset) {
+        return EmployeeStreamOperations.hiredAfter2015(dataset.employees);
+    }
+
+    @Benchmark
+    public Employee op05HighestEarner(Dataset dataset) {
+        return EmployeeStreamOperations.highestEarner(dataset.employees);
+    }
+
+    @Benchmark
+    public List<String> op06DistinctPositions(Dataset dataset) {
+        return EmployeeStreamOperations.distinctPositions(dataset.employees);
+    }
+
+    @Benchmark
+    public Map<String, Long> op07EmployeesPerManager(Dataset dataset) {
+        return EmployeeStreamOperations.employeesPerManager(dataset.employees);
+    }
+
+    @Benchmark
+    public double op08TotalSalaries(Dataset dataset) {
+        return EmployeeStreamOperations.totalSalaries(dataset.employees);
+    }
+
+    @Benchmark
+    public List<String> op09FirstNames(Dataset dataset) {
+        return EmployeeStreamOperations.firstNames(dataset.employees);
+    }
+
+    @Benchmark
+    public Employee op10EarliestHired(Dataset dataset) {
+        return EmployeeStreamOperations.earliestHired(dataset.employees);
+    }
+
+    @Benchmark
+    public Map<String, List<String>> op11NamesByDepartment(Dataset dataset) {
+        return EmployeeStreamOperations.namesByDepartment(dataset.employees);
+    }
+
+    @Benchmark
+    public Map<String, Double> op12AverageSalaryPerDepartment(Dataset dataset) {
+        return EmployeeStreamOperations.averageSalaryPerDepartment(dataset.employees);
+    }
+
+    @Benchmark
+    public List<Employee> op13Top3Earners(Dataset dataset) {
+        return EmployeeStreamOperations.top3Earners(dataset.employees);
+    }
+
+    @Benchmark
+    public List<String> op14Emails(Dataset dataset) {
+        return EmployeeStreamOperations.emails(dataset.employees);
+    }
+
+    @Benchmark
+    public List<Employee> op15FirstNameStartsWithJ(Dataset dataset) {
+        return EmployeeStreamOperations.firstNameStartsWithJ(dataset.employees);
+    }
+
+    @Benchmark
+    public Map<String, Double> op16NameToSalary(Dataset dataset) {
+        return EmployeeStreamOperations.nameToSalary(dataset.employees);
+    }
+
+    @Benchmark
+    public long op17DistinctManagers(Dataset dataset) {
+        return EmployeeStreamOperations.distinctManagers(dataset.employees);
+    }
+
+    @Benchmark
+    public List<String> op18PhoneNumbers(Dataset dataset) {
+        return EmployeeStreamOperations.phoneNumbers(dataset.employees);
+    }
+
+    @Benchmark
+    public Employee op19ShortestFirstName(Dataset dataset) {
+        return EmployeeStreamOperations.shortestFirstName(dataset.employees);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Employee>> op20EmployeesByYear(Dataset dataset) {
+        return EmployeeStreamOperations.employeesByYear(dataset.employees);
+    }
+
+    @Benchmark
+    public double op21ItSalaries(Dataset dataset) {
+        return EmployeeStreamOperations.itSalaries(dataset.employees);
+    }
+
+    @Benchmark
+    public List<String> op22SortedNames(Dataset dataset) {
+        return EmployeeStreamOperations.sortedNames(dataset.employees);
+    }
+
+    @Benchmark
+    public long op23LowEarners(Dataset dataset) {
+        return EmployeeStreamOperations.lowEarners(dataset.employees);
+    }
+
+    @Benchmark
+    public String op24MostCommonFirstName(Dataset dataset) {
+        return EmployeeStreamOperations.mostCommonFirstName(dataset.employees);
+    }
+
+    @Benchmark
+    public List<Integer> op25IdsManagedByJohnDoe(Dataset dataset) {
+        return EmployeeStreamOperations.idsManagedByJohnDoe(dataset.employees);
+    }
+
+    @Benchmark
+    public Map<String, Optional<Employee>> op26HighestSalaryInDepartment(Dataset dataset) {
+        return EmployeeStreamOperations.highestSalaryInDepartment(dataset.employees);
+    }
+
+    @Benchmark
+    public long op27TotalEmployees(Dataset dataset) {
+        return EmployeeStreamOperations.totalEmployees(dataset.employees);
+    }
+
+    @Benchmark
+    public String op28DepartmentWithHighestAvgSalary(Dataset dataset) {
+        return EmployeeStreamOperations.departmentWithHighestAvgSalary(dataset.employees);
+    }
+
+    @Benchmark
+    public List<Employee> op29SortedByHireDate(Dataset dataset) {
+        return EmployeeStreamOperations.sortedByHireDate(dataset.employees);
+    }
+
+    @Benchmark
+    public List<String> op30Top5Emails(Dataset dataset) {
+        return EmployeeStreamOperations.top5Emails(dataset.employees);
+    }
+
+    @Benchmark
+    public double op31TotalSalaryManagedByJane(Dataset dataset) {
+        return EmployeeStreamOperations.totalSalaryManagedByJane(dataset.employees);
+    }
+
+    @Benchmark
+    public String op32ManagerWithMostEmployees(Dataset dataset) {
+        return EmployeeStreamOperations.managerWithMostEmployees(dataset.employees);
+    }
+
+    @Benchmark
+    public List<String> op33Managers(Dataset dataset) {
+        return EmployeeStreamOperations.managers(dataset.employees);
+    }
+
+    @Benchmark
+    public LocalDate[] op34HireDateRange(Dataset dataset) {
+        return EmployeeStreamOperations.hireDateRange(dataset.employees);
+    }
+
+    @Benchmark
+    public List<Employee> op35MoreThan10Years(Dataset dataset) {
+        return EmployeeStreamOperations.moreThan10Years(dataset.employees);
+    }
+
+    @Benchmark
+    public Map<String, List<String>> op36NamesByPosition(Dataset dataset) {
+        return EmployeeStreamOperations.namesByPosition(dataset.employees);
+    }
+
+    @Benchmark
+    public double op37MedianSalary(Dataset dataset) {
+        return EmployeeStreamOperations.medianSalary(dataset.employees);
+    }
+
+    @Benchmark
+    public double op38AvgSalaryLast5Years(Dataset dataset) {
+        return EmployeeStreamOperations.avgSalaryLast5Years(dataset.employees);
+    }
+
+    @Benchmark
+    public Map<String, Map<String, Long>> op39EmployeesByDeptAndPos(Dataset dataset) {
+        return EmployeeStreamOperations.employeesByDeptAndPos(dataset.employees);
+    }
+
+    @Benchmark
+    public List<Employee> op40AboveAverageSalary(Dataset dataset) {
+        return EmployeeStreamOperations.aboveAverageSalary(dataset.employees);
+    }
+
+    @Benchmark
+    public List<String> op41HiredOnWeekends(Dataset dataset) {
+        return EmployeeStreamOperations.hiredOnWeekends(dataset.employees);
+    }
+
+    @Benchmark
+    public double op42AvgDeveloperSalary(Dataset dataset) {
+        return EmployeeStreamOperations.avgDeveloperSalary(dataset.employees);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> op43EmployeesHiredPerMonth(Dataset dataset) {
+        return EmployeeStreamOperations.employeesHiredPerMonth(dataset.employees);
+    }
+
+    @Benchmark
+    public List<Employee> op44SortedByLastNameThenFirstName(Dataset dataset) {
+        return EmployeeStreamOperations.sortedByLastNameThenFirstName(dataset.employees);
+    }
+
+    @Benchmark
+    public String op45DeptWithHighestTotalSalary(Dataset dataset) {
+        return EmployeeStreamOperations.deptWithHighestTotalSalary(dataset.employees);
+    }
+
+    @Benchmark
+    public List<String> op46PhoneStartsWith555(Dataset dataset) {
+        return EmployeeStreamOperations.phoneStartsWith555(dataset.employees);
+    }
+
+    @Benchmark
+    public double op47AvgTenure(Dataset dataset) {
+        return EmployeeStreamOperations.avgTenure(dataset.employees);
+    }
+
+    @Benchmark
+    public String op48DeptWithMostEngineers(Dataset dataset) {
+        return EmployeeStreamOperations.deptWithMostEngineers(dataset.employees);
+    }
+
+    @Benchmark
+    public List<String> op49ManagersWithMoreThan5Employees(Dataset dataset) {
+        return EmployeeStreamOperations.managersWithMoreThan5Employees(dataset.employees);
+    }
+
+    @Benchmark
+    public long op50LastNameMoreThan5Letters(Dataset dataset) {
+        return EmployeeStreamOperations.lastNameMoreThan5Letters(dataset.employees);
+    }
+}
@@ -0,0 +1,77 @@
+package com.backend.engineering.benchmark;
+
+import com.backend.engineering.data.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Representative operations (grouping, numeric reduction, filter, sort) run as sequential and
+ * parallel streams over the same data.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelStreamBenchmark {
+
+    @Param({"sequential", "parallel"})
+    public String mode;
+
+    private Stream<Employee> stream(Dataset dataset) {
+        return "parallel".equals(mode) ? dataset.employees.parallelStream() : dataset.employees.stream();
+    }
+
+    @Benchmark
+    public Map<String, Long> employeesPerDepartment(Dataset dataset) {
+        return stream(dataset).collect(Collectors.groupingBy(Employee::getDepartment, Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<String, Double> averageSalaryPerDepartment(Dataset dataset) {
+        return stream(dataset).collect(Collectors.groupingBy(Employee::getDepartment,
+                Collectors.averagingDouble(Employee::getSalary)));
+    }
+
+    @Benchmark
+    public double averageSalary(Dataset dataset) {
+        return stream(dataset).mapToDouble(Employee::getSalary).average().orElse(0.0);
+    }
+
+    @Benchmark
+    public List<Employee> highEarners(Dataset dataset) {
+        return stream(dataset).filter(e -> e.getSalary() > 100000).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Employee> top3Earners(Dataset dataset) {
+        return stream(dataset)
+                .sorted(Comparator.comparingDouble(Employee::getSalary).reversed())
+                .limit(3)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> sortedNames(Dataset dataset) {
+        return stream(dataset)
+                .map(e -> e.getFirstName() + " " + e.getLastName())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
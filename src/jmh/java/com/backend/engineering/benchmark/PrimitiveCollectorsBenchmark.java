@@ -0,0 +1,105 @@
+package com.backend.engineering.benchmark;
+
+import com.backend.engineering.collectors.PrimitiveCollectors;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.data.HireDates;
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The boxed {@code groupingBy} collectors that {@link EmployeeStreamOperations} used to run,
+ * against its current operations built on {@link PrimitiveCollectors}; run with the gc profiler to
+ * compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrimitiveCollectorsBenchmark {
+
+    @Benchmark
+    public Map<String, Long> op02CountingBoxed(Dataset dataset) {
+        return dataset.employees.stream()
+                .collect(Collectors.groupingBy(Employee::getDepartment, Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<String, Long> op02CountingPrimitive(Dataset dataset) {
+        return EmployeeStreamOperations.employeesPerDepartment(dataset.employees);
+    }
+
+    @Benchmark
+    public Map<String, Double> op12AveragingBoxed(Dataset dataset) {
+        return dataset.employees.stream()
+                .collect(Collectors.groupingBy(Employee::getDepartment, Collectors.averagingDouble(Employee::getSalary)));
+    }
+
+    @Benchmark
+    public Map<String, Double> op12AveragingPrimitive(Dataset dataset) {
+        return EmployeeStreamOperations.averageSalaryPerDepartment(dataset.employees);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Employee>> op20GroupingByYearBoxed(Dataset dataset) {
+        return dataset.employees.stream()
+                .filter(Employee::hasHireDate)
+                .collect(Collectors.groupingBy(e -> HireDates.year(e.getHireEpochDay())));
+    }
+
+    @Benchmark
+    public Map<Integer, List<Employee>> op20GroupingByYearPrimitive(Dataset dataset) {
+        return EmployeeStreamOperations.employeesByYear(dataset.employees);
+    }
+
+    @Benchmark
+    public String op24MostCommonBoxed(Dataset dataset) {
+        return dataset.employees.stream()
+                .collect(Collectors.groupingBy(Employee::getFirstName, Collectors.counting()))
+                .entrySet()
+                .stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+
+    @Benchmark
+    public String op24MostCommonPrimitive(Dataset dataset) {
+        return EmployeeStreamOperations.mostCommonFirstName(dataset.employees);
+    }
+
+    @Benchmark
+    public Map<String, Map<String, Long>> op39NestedCountingBoxed(Dataset dataset) {
+        return dataset.employees.stream()
+                .collect(Collectors.groupingBy(Employee::getDepartment,
+                        Collectors.groupingBy(Employee::getPosition, Collectors.counting())));
+    }
+
+    @Benchmark
+    public Map<String, Map<String, Long>> op39NestedCountingPrimitive(Dataset dataset) {
+        return EmployeeStreamOperations.employeesByDeptAndPos(dataset.employees);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> op43CountingByMonthBoxed(Dataset dataset) {
+        return dataset.employees.stream()
+                .filter(Employee::hasHireDate)
+                .collect(Collectors.groupingBy(e -> HireDates.monthValue(e.getHireEpochDay()), Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<Integer, Long> op43CountingByMonthPrimitive(Dataset dataset) {
+        return EmployeeStreamOperations.employeesHiredPerMonth(dataset.employees);
+    }
+}
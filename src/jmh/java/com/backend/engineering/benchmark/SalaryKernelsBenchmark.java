@@ -0,0 +1,108 @@
+package com.backend.engineering.benchmark;
+
+import com.backend.engineering.columnar.EmployeeColumnStore;
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.vector.SalaryKernels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Salary aggregations as streams over the employee objects, and as scalar and vector kernels over
+ * the columnar store's arrays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SalaryKernelsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Columns {
+
+        public double[] salaries;
+        public int[] managers;
+        public int janeSmith;
+
+        @Setup(Level.Trial)
+        public void load(Dataset dataset) {
+            EmployeeColumnStore store = EmployeeColumnStore.of(dataset.employees);
+            salaries = store.salaries();
+            managers = store.codes(Dimension.MANAGER);
+            janeSmith = store.dictionary(Dimension.MANAGER).code("Jane Smith");
+        }
+    }
+
+    private static final SalaryKernels SCALAR = SalaryKernels.scalar();
+    private static final SalaryKernels VECTOR = SalaryKernels.get();
+
+    @Benchmark
+    public double op08SumStream(Dataset dataset) {
+        return dataset.employees.stream().mapToDouble(Employee::getSalary).sum();
+    }
+
+    @Benchmark
+    public double op08SumScalar(Columns columns) {
+        return SCALAR.sum(columns.salaries);
+    }
+
+    @Benchmark
+    public double op08SumVector(Columns columns) {
+        return VECTOR.sum(columns.salaries);
+    }
+
+    @Benchmark
+    public long op23CountLessThanStream(Dataset dataset) {
+        return dataset.employees.stream().filter(e -> e.getSalary() < 50000).count();
+    }
+
+    @Benchmark
+    public long op23CountLessThanScalar(Columns columns) {
+        return SCALAR.countLessThan(columns.salaries, 50000);
+    }
+
+    @Benchmark
+    public long op23CountLessThanVector(Columns columns) {
+        return VECTOR.countLessThan(columns.salaries, 50000);
+    }
+
+    @Benchmark
+    public double op31SumByManagerStream(Dataset dataset) {
+        return dataset.employees.stream()
+                .filter(e -> "Jane Smith".equals(e.getManager()))
+                .mapToDouble(Employee::getSalary)
+                .sum();
+    }
+
+    @Benchmark
+    public double op31SumByManagerScalar(Columns columns) {
+        return SCALAR.sumWhere(columns.salaries, columns.managers, columns.janeSmith);
+    }
+
+    @Benchmark
+    public double op31SumByManagerVector(Columns columns) {
+        return VECTOR.sumWhere(columns.salaries, columns.managers, columns.janeSmith);
+    }
+
+    @Benchmark
+    public int op05IndexOfMaxScalar(Columns columns) {
+        return SCALAR.indexOfMax(columns.salaries);
+    }
+
+    @Benchmark
+    public int op05IndexOfMaxVector(Columns columns) {
+        return VECTOR.indexOfMax(columns.salaries);
+    }
+}
@@ -0,0 +1,42 @@
+package com.backend.engineering.collectors;
+
+/**
+ * Sizing and hashing shared by the open-addressing maps: power-of-two tables probed linearly,
+ * kept at most half full.
+ */
+final class HashSlots {
+
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private HashSlots() {
+    }
+
+    static int capacityFor(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        int capacity = 8;
+        while (capacity < MAX_CAPACITY && capacity / 2 < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    static boolean shouldGrow(int size, int capacity) {
+        if (size * 2 < capacity) {
+            return false;
+        }
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("Map is full at " + size + " entries");
+        }
+        return true;
+    }
+
+    /**
+     * Spreads the bits of a hash so that sequential keys, such as years or ids, do not cluster.
+     */
+    static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,140 @@
+package com.backend.engineering.collectors;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Open-addressing map from int keys to long values, for counting by year, month or id without
+ * boxing either side.
+ */
+public final class IntLongHashMap {
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, long value);
+    }
+
+    private int[] keys;
+    private long[] values;
+    private boolean[] used;
+    private int size;
+
+    public IntLongHashMap() {
+        this(8);
+    }
+
+    public IntLongHashMap(int expectedSize) {
+        allocate(HashSlots.capacityFor(expectedSize));
+    }
+
+    /**
+     * Adds delta to the value of key, starting from zero, and returns the new value.
+     */
+    public long addTo(int key, long delta) {
+        int slot = insert(key);
+        return values[slot] += delta;
+    }
+
+    public void put(int key, long value) {
+        // Insert first: it may rehash and replace the values array
+        int slot = insert(key);
+        values[slot] = value;
+    }
+
+    public long get(int key, long defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(EntryConsumer action) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (used[slot]) {
+                action.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Adds every entry of other into this map.
+     */
+    public IntLongHashMap merge(IntLongHashMap other) {
+        other.forEach(this::addTo);
+        return this;
+    }
+
+    public Map<Integer, Long> toMap() {
+        Map<Integer, Long> map = new HashMap<>(size * 2);
+        forEach(map::put);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    private int find(int key) {
+        int mask = keys.length - 1;
+        for (int slot = HashSlots.mix(key) & mask; used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int insert(int key) {
+        int mask = keys.length - 1;
+        int slot = HashSlots.mix(key) & mask;
+        for (; used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+        if (HashSlots.shouldGrow(size + 1, keys.length)) {
+            rehash(keys.length * 2);
+            return insert(key);
+        }
+        used[slot] = true;
+        keys[slot] = key;
+        size++;
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int slot = HashSlots.mix(oldKeys[i]) & mask;
+                while (used[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                used[slot] = true;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new long[capacity];
+        used = new boolean[capacity];
+    }
+}
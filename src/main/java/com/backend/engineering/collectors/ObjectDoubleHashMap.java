@@ -0,0 +1,200 @@
+package com.backend.engineering.collectors;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Open-addressing map from object keys to a running sum and count of double values, enough for the
+ * total and the average salary per department without boxing.
+ */
+public final class ObjectDoubleHashMap<K> {
+
+    @FunctionalInterface
+    public interface EntryConsumer<K> {
+        void accept(K key, double sum, long count);
+    }
+
+    private Object[] keys;
+    // Mixed key hashes, compared before calling equals on a key elsewhere in memory
+    private int[] hashes;
+    private double[] sums;
+    private long[] counts;
+    private int size;
+
+    public ObjectDoubleHashMap() {
+        this(8);
+    }
+
+    public ObjectDoubleHashMap(int expectedSize) {
+        allocate(HashSlots.capacityFor(expectedSize));
+    }
+
+    public void add(K key, double value) {
+        int slot = insert(key);
+        sums[slot] += value;
+        counts[slot]++;
+    }
+
+    /**
+     * Adds a partial sum of count values, as when merging per-thread results.
+     */
+    public void add(K key, double sum, long count) {
+        int slot = insert(key);
+        sums[slot] += sum;
+        counts[slot] += count;
+    }
+
+    public double sum(Object key) {
+        int slot = find(key);
+        return slot < 0 ? 0.0 : sums[slot];
+    }
+
+    public long count(Object key) {
+        int slot = find(key);
+        return slot < 0 ? 0 : counts[slot];
+    }
+
+    /**
+     * The average of the values added for key, or NaN when there are none.
+     */
+    public double average(Object key) {
+        int slot = find(key);
+        return slot < 0 ? Double.NaN : sums[slot] / counts[slot];
+    }
+
+    public boolean containsKey(Object key) {
+        return find(key) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super K> action) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null) {
+                action.accept((K) keys[slot], sums[slot], counts[slot]);
+            }
+        }
+    }
+
+    /**
+     * The key with the greatest sum, or {@code null} when empty. Ties are broken arbitrarily.
+     */
+    public K keyWithMaxSum() {
+        return keyWithMax(false);
+    }
+
+    /**
+     * The key with the greatest average, or {@code null} when empty. Ties are broken arbitrarily.
+     */
+    public K keyWithMaxAverage() {
+        return keyWithMax(true);
+    }
+
+    public ObjectDoubleHashMap<K> merge(ObjectDoubleHashMap<K> other) {
+        other.forEach(this::add);
+        return this;
+    }
+
+    public Map<K, Double> toSumMap() {
+        Map<K, Double> map = new HashMap<>(size * 2);
+        forEach((key, sum, count) -> map.put(key, sum));
+        return map;
+    }
+
+    public Map<K, Double> toAverageMap() {
+        Map<K, Double> map = new HashMap<>(size * 2);
+        forEach((key, sum, count) -> map.put(key, sum / count));
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toSumMap().toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyWithMax(boolean average) {
+        int best = -1;
+        double bestValue = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null) {
+                double value = average ? sums[slot] / counts[slot] : sums[slot];
+                if (best < 0 || value > bestValue) {
+                    best = slot;
+                    bestValue = value;
+                }
+            }
+        }
+        return best < 0 ? null : (K) keys[best];
+    }
+
+    private int find(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        int hash = HashSlots.mix(key.hashCode());
+        int mask = keys.length - 1;
+        for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && keys[slot].equals(key)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int insert(K key) {
+        Objects.requireNonNull(key, "element cannot be mapped to a null key");
+        int hash = HashSlots.mix(key.hashCode());
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        for (; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && keys[slot].equals(key)) {
+                return slot;
+            }
+        }
+        if (HashSlots.shouldGrow(size + 1, keys.length)) {
+            rehash(keys.length * 2);
+            return insert(key);
+        }
+        keys[slot] = key;
+        hashes[slot] = hash;
+        size++;
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        Object[] oldKeys = keys;
+        int[] oldHashes = hashes;
+        double[] oldSums = sums;
+        long[] oldCounts = counts;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = oldHashes[i] & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                hashes[slot] = oldHashes[i];
+                sums[slot] = oldSums[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        hashes = new int[capacity];
+        sums = new double[capacity];
+        counts = new long[capacity];
+    }
+}
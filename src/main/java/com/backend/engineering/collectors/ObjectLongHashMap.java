@@ -0,0 +1,156 @@
+package com.backend.engineering.collectors;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Open-addressing map from object keys to long values, for counting per department or manager
+ * without a node and a boxed count per group.
+ */
+public final class ObjectLongHashMap<K> {
+
+    private Object[] keys;
+    // Mixed key hashes, compared before calling equals on a key elsewhere in memory
+    private int[] hashes;
+    private long[] values;
+    private int size;
+
+    public ObjectLongHashMap() {
+        this(8);
+    }
+
+    public ObjectLongHashMap(int expectedSize) {
+        allocate(HashSlots.capacityFor(expectedSize));
+    }
+
+    /**
+     * Adds delta to the value of key, starting from zero, and returns the new value.
+     */
+    public long addTo(K key, long delta) {
+        int slot = insert(key);
+        return values[slot] += delta;
+    }
+
+    public void put(K key, long value) {
+        // Insert first: it may rehash and replace the values array
+        int slot = insert(key);
+        values[slot] = value;
+    }
+
+    public long get(Object key, long defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    public boolean containsKey(Object key) {
+        return find(key) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(ObjLongConsumer<? super K> action) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null) {
+                action.accept((K) keys[slot], values[slot]);
+            }
+        }
+    }
+
+    /**
+     * The key with the greatest value, or {@code null} when empty. Ties are broken arbitrarily.
+     */
+    @SuppressWarnings("unchecked")
+    public K keyWithMaxValue() {
+        int best = -1;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null && (best < 0 || values[slot] > values[best])) {
+                best = slot;
+            }
+        }
+        return best < 0 ? null : (K) keys[best];
+    }
+
+    public ObjectLongHashMap<K> merge(ObjectLongHashMap<K> other) {
+        other.forEach(this::addTo);
+        return this;
+    }
+
+    public Map<K, Long> toMap() {
+        Map<K, Long> map = new HashMap<>(size * 2);
+        forEach(map::put);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    private int find(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        int hash = HashSlots.mix(key.hashCode());
+        int mask = keys.length - 1;
+        for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && keys[slot].equals(key)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int insert(K key) {
+        Objects.requireNonNull(key, "element cannot be mapped to a null key");
+        int hash = HashSlots.mix(key.hashCode());
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        for (; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && keys[slot].equals(key)) {
+                return slot;
+            }
+        }
+        if (HashSlots.shouldGrow(size + 1, keys.length)) {
+            rehash(keys.length * 2);
+            return insert(key);
+        }
+        keys[slot] = key;
+        hashes[slot] = hash;
+        size++;
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        Object[] oldKeys = keys;
+        int[] oldHashes = hashes;
+        long[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = oldHashes[i] & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                hashes[slot] = oldHashes[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        hashes = new int[capacity];
+        values = new long[capacity];
+    }
+}
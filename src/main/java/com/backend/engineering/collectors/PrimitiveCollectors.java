@@ -0,0 +1,139 @@
+package com.backend.engineering.collectors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+/**
+ * Group-by and list collectors backed by primitive maps and lists, replacing
+ * {@code groupingBy(..., counting())}, {@code averagingDouble} and {@code toList()} of ids or
+ * salaries where boxed keys, counts and values would otherwise be allocated per element. The
+ * results convert to ordinary maps with {@code toMap()}, boxing once per group instead.
+ * <p>
+ * Sums are plain running sums, without the compensated summation of {@code summingDouble}.
+ */
+public final class PrimitiveCollectors {
+
+    private PrimitiveCollectors() {
+    }
+
+    /**
+     * Like {@code groupingBy(classifier, counting())}.
+     */
+    public static <T, K> Collector<T, ?, ObjectLongHashMap<K>> countingBy(Function<? super T, ? extends K> classifier) {
+        return Collector.of(
+                ObjectLongHashMap::new,
+                (counts, element) -> counts.addTo(classifier.apply(element), 1),
+                ObjectLongHashMap::merge);
+    }
+
+    /**
+     * Like {@code groupingBy(classifier, counting())} for int keys such as years or months.
+     */
+    public static <T> Collector<T, ?, IntLongHashMap> countingByInt(ToIntFunction<? super T> classifier) {
+        return Collector.of(
+                IntLongHashMap::new,
+                (counts, element) -> counts.addTo(classifier.applyAsInt(element), 1),
+                IntLongHashMap::merge);
+    }
+
+    /**
+     * Sum and count of the mapped values per key, covering {@code summingDouble} and
+     * {@code averagingDouble} as the downstream of {@code groupingBy}.
+     */
+    public static <T, K> Collector<T, ?, ObjectDoubleHashMap<K>> summingBy(Function<? super T, ? extends K> classifier,
+                                                                           ToDoubleFunction<? super T> mapper) {
+        return Collector.of(
+                ObjectDoubleHashMap::new,
+                (sums, element) -> sums.add(classifier.apply(element), mapper.applyAsDouble(element)),
+                ObjectDoubleHashMap::merge);
+    }
+
+    /**
+     * Like {@code groupingBy(classifier, downstream)} with an int classifier: the key is only boxed
+     * once per group when the map is built, not once per element.
+     */
+    public static <T, A, D> Collector<T, ?, Map<Integer, D>> groupingByInt(ToIntFunction<? super T> classifier,
+                                                                          Collector<? super T, A, D> downstream) {
+        Supplier<A> supplier = downstream.supplier();
+        BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        BinaryOperator<A> combiner = downstream.combiner();
+        Function<A, D> finisher = downstream.finisher();
+        return Collector.of(
+                IntGroups<A>::new,
+                (groups, element) -> accumulator.accept(groups.container(classifier.applyAsInt(element), supplier), element),
+                (left, right) -> {
+                    for (int i = 0; i < right.keys.size(); i++) {
+                        int key = right.keys.get(i);
+                        int index = (int) left.index.get(key, -1);
+                        if (index < 0) {
+                            left.add(key, right.containers.get(i));
+                        } else {
+                            left.containers.set(index, combiner.apply(left.containers.get(index), right.containers.get(i)));
+                        }
+                    }
+                    return left;
+                },
+                groups -> {
+                    Map<Integer, D> result = new HashMap<>(groups.keys.size() * 2);
+                    for (int i = 0; i < groups.keys.size(); i++) {
+                        result.put(groups.keys.get(i), finisher.apply(groups.containers.get(i)));
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Like {@code map(mapper).collect(toList())} for int values such as ids.
+     */
+    public static <T> Collector<T, ?, IntList> toIntList(ToIntFunction<? super T> mapper) {
+        return Collector.of(
+                IntList::new,
+                (values, element) -> values.add(mapper.applyAsInt(element)),
+                IntList::addAll);
+    }
+
+    /**
+     * Like {@code map(mapper).collect(toList())} for double values such as salaries.
+     */
+    public static <T> Collector<T, ?, DoubleList> toDoubleList(ToDoubleFunction<? super T> mapper) {
+        return Collector.of(
+                DoubleList::new,
+                (values, element) -> values.add(mapper.applyAsDouble(element)),
+                DoubleList::addAll);
+    }
+
+    /**
+     * Downstream containers of {@link #groupingByInt}, addressed through a primitive key index.
+     */
+    private static final class IntGroups<A> {
+
+        final IntLongHashMap index = new IntLongHashMap();
+        final IntList keys = new IntList();
+        final List<A> containers = new ArrayList<>();
+
+        A container(int key, Supplier<A> supplier) {
+            int i = (int) index.get(key, -1);
+            if (i >= 0) {
+                return containers.get(i);
+            }
+            A container = supplier.get();
+            add(key, container);
+            return container;
+        }
+
+        void add(int key, A container) {
+            index.put(key, containers.size());
+            keys.add(key);
+            containers.add(container);
+        }
+    }
+}
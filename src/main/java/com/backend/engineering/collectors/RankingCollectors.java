@@ -0,0 +1,94 @@
+package com.backend.engineering.collectors;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+/**
+ * Collectors for top-K and order statistics that avoid sorting the whole input. They work as
+ * downstream collectors (top 3 per department, median per manager) and in parallel streams.
+ */
+public final class RankingCollectors {
+
+    private RankingCollectors() {
+    }
+
+    /**
+     * The k greatest elements by the comparator, greatest first, using a bounded heap in
+     * O(n log k) time and O(k) space. Ties at the boundary are broken arbitrarily.
+     */
+    public static <T> Collector<T, ?, List<T>> greatest(int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        return Collector.of(
+                () -> new PriorityQueue<T>(Math.max(1, k), comparator),
+                (heap, element) -> offer(heap, element, k, comparator),
+                (left, right) -> {
+                    PriorityQueue<T> larger = left.size() >= right.size() ? left : right;
+                    PriorityQueue<T> smaller = larger == left ? right : left;
+                    for (T element : smaller) {
+                        offer(larger, element, k, comparator);
+                    }
+                    return larger;
+                },
+                heap -> {
+                    List<T> result = new ArrayList<>(heap);
+                    result.sort((a, b) -> comparator.compare(b, a));
+                    return result;
+                });
+    }
+
+    /**
+     * The k least elements by the comparator, least first.
+     */
+    public static <T> Collector<T, ?, List<T>> least(int k, Comparator<? super T> comparator) {
+        Comparator<T> reversed = (a, b) -> comparator.compare(b, a);
+        return greatest(k, reversed);
+    }
+
+    /**
+     * The median of the mapped values, or NaN for no input. Values are collected into a primitive
+     * array and the middle found by quickselect.
+     */
+    public static <T> Collector<T, ?, Double> median(ToDoubleFunction<? super T> mapper) {
+        return percentile(mapper, 0.5);
+    }
+
+    /**
+     * The p-quantile (0 &lt;= p &lt;= 1) of the mapped values, see {@link Selection#percentile}.
+     */
+    public static <T> Collector<T, ?, Double> percentile(ToDoubleFunction<? super T> mapper, double p) {
+        if (p < 0 || p > 1) {
+            throw new IllegalArgumentException("p must be within [0, 1]: " + p);
+        }
+        return Collector.of(
+                DoubleList::new,
+                (values, element) -> values.add(mapper.applyAsDouble(element)),
+                DoubleList::addAll,
+                values -> Selection.percentile(values.array(), values.size(), p));
+    }
+
+    /**
+     * The k-th smallest (0-based) mapped value, or NaN when there are k or fewer values.
+     */
+    public static <T> Collector<T, ?, Double> kthSmallest(ToDoubleFunction<? super T> mapper, int k) {
+        return Collector.of(
+                DoubleList::new,
+                (values, element) -> values.add(mapper.applyAsDouble(element)),
+                DoubleList::addAll,
+                values -> k < values.size() ? Selection.kthSmallest(values.array(), values.size(), k) : Double.NaN);
+    }
+
+    private static <T> void offer(PriorityQueue<T> heap, T element, int k, Comparator<? super T> comparator) {
+        if (heap.size() < k) {
+            heap.add(element);
+        } else if (k > 0 && comparator.compare(element, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.backend.engineering.collectors;
+
+/**
+ * Order statistics on primitive arrays by quickselect, in expected O(n) without sorting.
+ * The methods reorder the first {@code size} elements of the array in place.
+ */
+public final class Selection {
+
+    private Selection() {
+    }
+
+    /**
+     * The k-th smallest (0-based) of the first {@code size} values.
+     */
+    public static double kthSmallest(double[] values, int size, int k) {
+        if (k < 0 || k >= size) {
+            throw new IndexOutOfBoundsException("k " + k + " out of bounds for size " + size);
+        }
+        int low = 0;
+        int high = size - 1;
+        while (low < high) {
+            double pivot = values[medianOfThree(values, low, (low + high) >>> 1, high)];
+            // Three-way partition: [low, less) < pivot, [less, greater] == pivot, (greater, high] > pivot,
+            // so runs of equal values are settled in one pass instead of degrading to O(n^2)
+            int less = low;
+            int greater = high;
+            int i = low;
+            while (i <= greater) {
+                int comparison = Double.compare(values[i], pivot);
+                if (comparison < 0) {
+                    swap(values, less++, i++);
+                } else if (comparison > 0) {
+                    swap(values, i, greater--);
+                } else {
+                    i++;
+                }
+            }
+            if (k < less) {
+                high = less - 1;
+            } else if (k > greater) {
+                low = greater + 1;
+            } else {
+                return values[k];
+            }
+        }
+        return values[k];
+    }
+
+    /**
+     * The p-quantile (0 &lt;= p &lt;= 1) with linear interpolation between the closest ranks, so
+     * p = 0.5 is the usual median: the mean of the two middle values when the size is even.
+     * Returns NaN when there are no values.
+     */
+    public static double percentile(double[] values, int size, double p) {
+        if (p < 0 || p > 1) {
+            throw new IllegalArgumentException("p must be within [0, 1]: " + p);
+        }
+        if (size == 0) {
+            return Double.NaN;
+        }
+        double position = p * (size - 1);
+        int lower = (int) Math.floor(position);
+        double fraction = position - lower;
+        double lowerValue = kthSmallest(values, size, lower);
+        if (fraction == 0 || lower + 1 >= size) {
+            return lowerValue;
+        }
+        // After selection everything right of 'lower' is >= lowerValue, so the next rank is their minimum
+        double upperValue = values[lower + 1];
+        for (int i = lower + 2; i < size; i++) {
+            upperValue = Math.min(upperValue, values[i]);
+        }
+        return lowerValue + fraction * (upperValue - lowerValue);
+    }
+
+    public static double median(double[] values, int size) {
+        return percentile(values, size, 0.5);
+    }
+
+    private static int medianOfThree(double[] values, int a, int b, int c) {
+        double x = values[a];
+        double y = values[b];
+        double z = values[c];
+        if (x < y) {
+            return y < z ? b : (x < z ? c : a);
+        }
+        return x < z ? a : (y < z ? c : b);
+    }
+
+    private static void swap(double[] values, int i, int j) {
+        double tmp = values[i];
+        values[i] = values[j];
+        values[j] = tmp;
+    }
+}
@@ -0,0 +1,342 @@
+package com.backend.engineering.columnar;
+
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.data.HireDates;
+import com.backend.engineering.vector.SalaryKernels;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.stream.Stream;
+
+/**
+ * Column-oriented copy of the employee data. Numeric columns are primitive arrays and the
+ * {@link Dimension} columns are dictionary-encoded, so aggregations scan contiguous arrays instead
+ * of chasing one object per row. Row numbers follow the order the employees were added in.
+ * <p>
+ * The salary scans run on {@link SalaryKernels#get()}, so with the vector kernels totals may differ
+ * from a sequential sum in the last bits.
+ */
+public final class EmployeeColumnStore implements EmployeeColumns {
+
+    private final int size;
+    private final int[] ids;
+    private final double[] salaries;
+    private final int[] hireEpochDays;
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final String[] emails;
+    private final String[] phones;
+    private final StringDictionary[] dictionaries;
+    private final int[][] codes;
+
+    private EmployeeColumnStore(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.salaries = Arrays.copyOf(builder.salaries, size);
+        this.hireEpochDays = Arrays.copyOf(builder.hireEpochDays, size);
+        this.firstNames = Arrays.copyOf(builder.firstNames, size);
+        this.lastNames = Arrays.copyOf(builder.lastNames, size);
+        this.emails = Arrays.copyOf(builder.emails, size);
+        this.phones = Arrays.copyOf(builder.phones, size);
+        this.dictionaries = builder.dictionaries;
+        this.codes = new int[builder.codes.length][];
+        for (int d = 0; d < codes.length; d++) {
+            codes[d] = Arrays.copyOf(builder.codes[d], size);
+        }
+    }
+
+    public static EmployeeColumnStore of(Iterable<Employee> employees) {
+        Builder builder = new Builder();
+        employees.forEach(builder::add);
+        return builder.build();
+    }
+
+    public static EmployeeColumnStore of(Stream<Employee> employees) {
+        Builder builder = new Builder();
+        employees.forEachOrdered(builder::add);
+        return builder.build();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int id(int row) {
+        return ids[row];
+    }
+
+    @Override
+    public double salary(int row) {
+        return salaries[row];
+    }
+
+    @Override
+    public int hireEpochDay(int row) {
+        return hireEpochDays[row];
+    }
+
+    @Override
+    public String firstName(int row) {
+        return firstNames[row];
+    }
+
+    @Override
+    public String lastName(int row) {
+        return lastNames[row];
+    }
+
+    @Override
+    public String email(int row) {
+        return emails[row];
+    }
+
+    @Override
+    public String phone(int row) {
+        return phones[row];
+    }
+
+    @Override
+    public String value(Dimension dimension, int row) {
+        return dictionaries[dimension.ordinal()].decode(codes[dimension.ordinal()][row]);
+    }
+
+    @Override
+    public int code(Dimension dimension, int row) {
+        return codes[dimension.ordinal()][row];
+    }
+
+    @Override
+    public int code(Dimension dimension, String value) {
+        return dictionaries[dimension.ordinal()].code(value);
+    }
+
+    @Override
+    public String decode(Dimension dimension, int code) {
+        return dictionaries[dimension.ordinal()].decode(code);
+    }
+
+    public StringDictionary dictionary(Dimension dimension) {
+        return dictionaries[dimension.ordinal()];
+    }
+
+    /**
+     * Backing salary column, indexed by row. Callers must not modify it.
+     */
+    public double[] salaries() {
+        return salaries;
+    }
+
+    /**
+     * Backing hire date column as epoch days, indexed by row. Callers must not modify it.
+     */
+    public int[] hireEpochDays() {
+        return hireEpochDays;
+    }
+
+    /**
+     * Backing code column for the dimension, indexed by row. Callers must not modify it.
+     */
+    public int[] codes(Dimension dimension) {
+        return codes[dimension.ordinal()];
+    }
+
+    @Override
+    public Employee toEmployee(int row) {
+        Employee employee = new Employee();
+        employee.setId(ids[row]);
+        employee.setFirstName(firstNames[row]);
+        employee.setLastName(lastNames[row]);
+        employee.setEmail(emails[row]);
+        employee.setPhone(phones[row]);
+        employee.setDepartment(value(Dimension.DEPARTMENT, row));
+        employee.setPosition(value(Dimension.POSITION, row));
+        employee.setSalary(salaries[row]);
+        employee.setHireDate(HireDates.format(hireEpochDays[row]));
+        employee.setManager(value(Dimension.MANAGER, row));
+        return employee;
+    }
+
+    @Override
+    public double sumSalary() {
+        return SalaryKernels.get().sum(salaries);
+    }
+
+    @Override
+    public double averageSalary() {
+        return size == 0 ? 0.0 : sumSalary() / size;
+    }
+
+    /**
+     * Row of the highest salary, or -1 when the store is empty.
+     */
+    @Override
+    public int maxSalaryRow() {
+        return SalaryKernels.get().indexOfMax(salaries);
+    }
+
+    @Override
+    public double sumSalaryWhere(Dimension dimension, int code) {
+        return SalaryKernels.get().sumWhere(salaries, codes[dimension.ordinal()], code);
+    }
+
+    @Override
+    public long countSalaryBelow(double threshold) {
+        return SalaryKernels.get().countLessThan(salaries, threshold);
+    }
+
+    @Override
+    public long count(IntPredicate rowFilter) {
+        long count = 0;
+        for (int row = 0; row < size; row++) {
+            if (rowFilter.test(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int[] rows(IntPredicate rowFilter) {
+        int[] rows = new int[16];
+        int n = 0;
+        for (int row = 0; row < size; row++) {
+            if (rowFilter.test(row)) {
+                if (n == rows.length) {
+                    rows = Arrays.copyOf(rows, n * 2);
+                }
+                rows[n++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, n);
+    }
+
+    /**
+     * Row counts per dictionary code of the dimension.
+     */
+    @Override
+    public long[] countBy(Dimension dimension) {
+        int[] column = codes[dimension.ordinal()];
+        long[] counts = new long[dictionaries[dimension.ordinal()].size()];
+        for (int row = 0; row < size; row++) {
+            counts[column[row]]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Salary totals per dictionary code of the dimension.
+     */
+    @Override
+    public double[] sumSalaryBy(Dimension dimension) {
+        int[] column = codes[dimension.ordinal()];
+        double[] sums = new double[dictionaries[dimension.ordinal()].size()];
+        for (int row = 0; row < size; row++) {
+            sums[column[row]] += salaries[row];
+        }
+        return sums;
+    }
+
+    @Override
+    public double[] averageSalaryBy(Dimension dimension) {
+        long[] counts = countBy(dimension);
+        double[] averages = sumSalaryBy(dimension);
+        for (int code = 0; code < averages.length; code++) {
+            averages[code] = counts[code] == 0 ? 0.0 : averages[code] / counts[code];
+        }
+        return averages;
+    }
+
+    @Override
+    public Map<String, Long> toMap(Dimension dimension, long[] perCode) {
+        StringDictionary dictionary = dictionaries[dimension.ordinal()];
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (int code = 0; code < perCode.length; code++) {
+            map.put(dictionary.decode(code), perCode[code]);
+        }
+        return map;
+    }
+
+    @Override
+    public Map<String, Double> toMap(Dimension dimension, double[] perCode) {
+        StringDictionary dictionary = dictionaries[dimension.ordinal()];
+        Map<String, Double> map = new LinkedHashMap<>();
+        for (int code = 0; code < perCode.length; code++) {
+            map.put(dictionary.decode(code), perCode[code]);
+        }
+        return map;
+    }
+
+    /**
+     * Dimension value with the largest per-code metric, or {@code null} when there are no rows.
+     */
+    @Override
+    public String argMax(Dimension dimension, double[] perCode) {
+        int best = -1;
+        for (int code = 0; code < perCode.length; code++) {
+            if (best < 0 || perCode[code] > perCode[best]) {
+                best = code;
+            }
+        }
+        return best < 0 ? null : dictionaries[dimension.ordinal()].decode(best);
+    }
+
+    public static final class Builder {
+
+        private int size;
+        private int[] ids = new int[1024];
+        private double[] salaries = new double[1024];
+        private int[] hireEpochDays = new int[1024];
+        private String[] firstNames = new String[1024];
+        private String[] lastNames = new String[1024];
+        private String[] emails = new String[1024];
+        private String[] phones = new String[1024];
+        private final StringDictionary[] dictionaries = new StringDictionary[Dimension.values().length];
+        private final int[][] codes = new int[Dimension.values().length][1024];
+
+        public Builder() {
+            for (int d = 0; d < dictionaries.length; d++) {
+                dictionaries[d] = new StringDictionary();
+            }
+        }
+
+        public Builder add(Employee employee) {
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = employee.getId();
+            salaries[size] = employee.getSalary();
+            hireEpochDays[size] = employee.getHireEpochDay();
+            firstNames[size] = employee.getFirstName();
+            lastNames[size] = employee.getLastName();
+            emails[size] = employee.getEmail();
+            phones[size] = employee.getPhone();
+            for (Dimension dimension : Dimension.values()) {
+                codes[dimension.ordinal()][size] = dictionaries[dimension.ordinal()].encode(dimension.of(employee));
+            }
+            size++;
+            return this;
+        }
+
+        public EmployeeColumnStore build() {
+            return new EmployeeColumnStore(this);
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+            hireEpochDays = Arrays.copyOf(hireEpochDays, capacity);
+            firstNames = Arrays.copyOf(firstNames, capacity);
+            lastNames = Arrays.copyOf(lastNames, capacity);
+            emails = Arrays.copyOf(emails, capacity);
+            phones = Arrays.copyOf(phones, capacity);
+            for (int d = 0; d < codes.length; d++) {
+                codes[d] = Arrays.copyOf(codes[d], capacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.backend.engineering.columnar;
+
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Row-numbered, column-oriented employee data with dictionary-encoded {@link Dimension} columns,
+ * held on the heap by {@link EmployeeColumnStore} or mapped from disk by
+ * {@link com.backend.engineering.snapshot.EmployeeSnapshot}.
+ */
+public interface EmployeeColumns {
+
+    int size();
+
+    int id(int row);
+
+    double salary(int row);
+
+    int hireEpochDay(int row);
+
+    String firstName(int row);
+
+    String lastName(int row);
+
+    String email(int row);
+
+    String phone(int row);
+
+    String value(Dimension dimension, int row);
+
+    int code(Dimension dimension, int row);
+
+    /**
+     * Returns the code for the value, or -1 if it never occurred.
+     */
+    int code(Dimension dimension, String value);
+
+    String decode(Dimension dimension, int code);
+
+    Employee toEmployee(int row);
+
+    double sumSalary();
+
+    double averageSalary();
+
+    /**
+     * Row of the highest salary, or -1 when there are no rows.
+     */
+    int maxSalaryRow();
+
+    long count(IntPredicate rowFilter);
+
+    /**
+     * Row counts per dictionary code of the dimension.
+     */
+    long[] countBy(Dimension dimension);
+
+    /**
+     * Salary totals per dictionary code of the dimension.
+     */
+    double[] sumSalaryBy(Dimension dimension);
+
+    double[] averageSalaryBy(Dimension dimension);
+
+    /**
+     * Salary total of the rows whose dimension has the given code.
+     */
+    double sumSalaryWhere(Dimension dimension, int code);
+
+    long countSalaryBelow(double threshold);
+
+    Map<String, Long> toMap(Dimension dimension, long[] perCode);
+
+    Map<String, Double> toMap(Dimension dimension, double[] perCode);
+
+    /**
+     * Dimension value with the largest per-code metric, or {@code null} when there are no rows.
+     */
+    String argMax(Dimension dimension, double[] perCode);
+}
@@ -0,0 +1,69 @@
+package com.backend.engineering.data;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.function.DoublePredicate;
+import java.util.function.Predicate;
+
+/**
+ * A filter on the raw text of one CSV column, checked by the parser before an {@link Employee}
+ * is built. Missing fields are tested as the empty string.
+ */
+public record ColumnPredicate(EmployeeColumn column, Predicate<String> condition) {
+
+    public boolean test(String value) {
+        return condition.test(value);
+    }
+
+    public static ColumnPredicate equalTo(EmployeeColumn column, String value) {
+        return new ColumnPredicate(column, value::equals);
+    }
+
+    public static ColumnPredicate in(EmployeeColumn column, String... values) {
+        Set<String> accepted = Set.of(values);
+        return new ColumnPredicate(column, accepted::contains);
+    }
+
+    public static ColumnPredicate contains(EmployeeColumn column, String text) {
+        return new ColumnPredicate(column, value -> value.contains(text));
+    }
+
+    public static ColumnPredicate startsWith(EmployeeColumn column, String prefix) {
+        return new ColumnPredicate(column, value -> value.startsWith(prefix));
+    }
+
+    /**
+     * Tests a numeric column such as {@link EmployeeColumn#SALARY}, parsed the same way as when
+     * mapping it onto an employee.
+     */
+    public static ColumnPredicate number(EmployeeColumn column, DoublePredicate condition) {
+        return new ColumnPredicate(column,
+                value -> condition.test(value.isEmpty() ? 0.0 : Double.parseDouble(value.trim())));
+    }
+
+    public static ColumnPredicate salaryAbove(double salary) {
+        return number(EmployeeColumn.SALARY, value -> value > salary);
+    }
+
+    public static ColumnPredicate salaryBelow(double salary) {
+        return number(EmployeeColumn.SALARY, value -> value < salary);
+    }
+
+    /**
+     * Rows hired strictly after the date; rows without a hire date never match.
+     */
+    public static ColumnPredicate hiredAfter(LocalDate date) {
+        int epochDay = HireDates.toEpochDay(date);
+        return new ColumnPredicate(EmployeeColumn.HIRE_DATE, value -> {
+            int hired = HireDates.toEpochDay(value);
+            return hired != HireDates.UNKNOWN && hired > epochDay;
+        });
+    }
+
+    public ColumnPredicate and(ColumnPredicate other) {
+        if (other.column != column) {
+            throw new IllegalArgumentException("Cannot combine predicates on " + column + " and " + other.column);
+        }
+        return new ColumnPredicate(column, condition.and(other.condition));
+    }
+}
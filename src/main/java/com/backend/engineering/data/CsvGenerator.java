@@ -1,45 +1,232 @@
 package com.backend.engineering.data;
 
-import com.opencsv.CSVWriter;
-
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Random;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 
+/**
+ * Generates employee exports in the format {@link CsvReader} reads.
+ * <p>
+ * Rows are produced in fixed-size blocks, each with its own {@link SplittableRandom} seeded from the
+ * generator seed and the block number, so the output for a given seed is identical no matter how
+ * many threads encode it. Blocks are encoded straight to bytes in parallel and written in order
+ * through a {@link FileChannel}.
+ * <p>
+ * Usage: {@code CsvGenerator [rows] [seed] [path]}
+ */
 public class CsvGenerator {
 
-    private static final String[] DEPARTMENTS = {"HR", "Engineering", "Sales", "Marketing"};
+    private static final String[] DEPARTMENTS = {"HR", "Engineering", "Sales", "Marketing", "IT"};
     private static final String[] POSITIONS = {"Manager", "Developer", "Salesperson", "Marketer"};
+    private static final double[] POSITION_PAY = {1.30, 1.15, 0.95, 1.00};
     private static final String[] MANAGERS = {"John Doe", "Jane Smith", "Jim Brown", "Judy White"};
-    private static final Random RANDOM = new Random();
+
+    private static final byte[] HEADER = ("\"ID\",\"FirstName\",\"LastName\",\"Email\",\"Phone\",\"Department\","
+            + "\"Position\",\"Salary\",\"HireDate\",\"Manager\"\n").getBytes(StandardCharsets.US_ASCII);
+
+    private static final int BLOCK_ROWS = 16_384;
+    private static final long DEFAULT_SEED = 42L;
+
+    // Hire dates fall in [FIRST_HIRE_DAY, LAST_HIRE_DAY], skewed towards recent years.
+    private static final int FIRST_HIRE_DAY = (int) LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final int LAST_HIRE_DAY = (int) LocalDate.of(2025, 12, 31).toEpochDay();
+    private static final double MEAN_DAYS_SINCE_HIRE = 6 * 365.25;
+
+    // Salaries are log-normal around the median, scaled by position.
+    private static final double MEDIAN_SALARY = 70_000;
+    private static final double SALARY_SIGMA = 0.35;
+    private static final double MIN_SALARY = 25_000;
+    private static final double MAX_SALARY = 400_000;
 
     public static void main(String[] args) {
-        try (CSVWriter writer = new CSVWriter(new FileWriter("employees.csv"))) {
-            // Write header
-            String[] header = {"ID", "First Name", "Last Name", "Email", "Phone", "Department", "Position", "Salary", "Hire Date", "Manager"};
-            writer.writeNext(header);
-
-            // Write 1000 records
-            for (int i = 1; i <= 1000; i++) {
-                String[] record = generateRecord(i);
-                writer.writeNext(record);
-            }
+        long rows = args.length > 0 ? Long.parseLong(args[0]) : 1000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+        Path path = Paths.get(args.length > 2 ? args[2] : CsvReader.DEFAULT_PATH);
+        try {
+            generate(path, rows, seed);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
-    private static String[] generateRecord(int id) {
-        String firstName = "FirstName" + id;
-        String lastName = "LastName" + id;
-        String email = "email" + id + "@example.com";
-        String phone = "555-1234" + id;
-        String department = DEPARTMENTS[RANDOM.nextInt(DEPARTMENTS.length)];
-        String position = POSITIONS[RANDOM.nextInt(POSITIONS.length)];
-        double salary = 50000 + (RANDOM.nextDouble() * 50000);
-        String hireDate = "2023-01-" + (RANDOM.nextInt(28) + 1);
-        String manager = MANAGERS[RANDOM.nextInt(MANAGERS.length)];
+    public static void generate(Path path, long rows, long seed) throws IOException {
+        generate(path, rows, seed, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static void generate(Path path, long rows, long seed, int parallelism) throws IOException {
+        if (rows < 0 || rows > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("rows must be between 0 and " + Integer.MAX_VALUE + ": " + rows);
+        }
+        long blocks = (rows + BLOCK_ROWS - 1) / BLOCK_ROWS;
+        int window = parallelism * 2;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            write(channel, ByteBuffer.wrap(HEADER));
+
+            Deque<CompletableFuture<ByteBuffer>> pending = new ArrayDeque<>();
+            long next = 0;
+            while (next < blocks || !pending.isEmpty()) {
+                while (next < blocks && pending.size() < window) {
+                    long block = next++;
+                    long firstId = block * BLOCK_ROWS + 1;
+                    int count = (int) Math.min(BLOCK_ROWS, rows - firstId + 1);
+                    pending.add(CompletableFuture.supplyAsync(() -> encodeBlock(seed, block, (int) firstId, count), pool));
+                }
+                write(channel, pending.poll().join());
+            }
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Failed to encode rows", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static ByteBuffer encodeBlock(long seed, long block, int firstId, int count) {
+        SplittableRandom random = new SplittableRandom(mix(seed ^ mix(block + 1)));
+        RowEncoder out = new RowEncoder(count * 160);
+        for (int id = firstId; id < firstId + count; id++) {
+            int department = random.nextInt(DEPARTMENTS.length);
+            int position = random.nextInt(POSITIONS.length);
+            int manager = random.nextInt(MANAGERS.length);
+
+            double salary = MEDIAN_SALARY * POSITION_PAY[position] * Math.exp(SALARY_SIGMA * gaussian(random));
+            salary = Math.max(MIN_SALARY, Math.min(MAX_SALARY, salary));
+
+            int daysSinceHire = (int) (-Math.log(1 - random.nextDouble()) * MEAN_DAYS_SINCE_HIRE);
+            int hireDay = LAST_HIRE_DAY - Math.min(daysSinceHire, LAST_HIRE_DAY - FIRST_HIRE_DAY);
+
+            out.quoted(id).comma()
+                    .open().ascii("FirstName").digits(id).close().comma()
+                    .open().ascii("LastName").digits(id).close().comma()
+                    .open().ascii("email").digits(id).ascii("@example.com").close().comma()
+                    .open().ascii("555-1234").digits(id).close().comma()
+                    .open().ascii(DEPARTMENTS[department]).close().comma()
+                    .open().ascii(POSITIONS[position]).close().comma()
+                    .open().cents(Math.round(salary * 100)).close().comma()
+                    .open().date(hireDay).close().comma()
+                    .open().ascii(MANAGERS[manager]).close()
+                    .newline();
+        }
+        return out.toBuffer();
+    }
 
-        return new String[]{String.valueOf(id), firstName, lastName, email, phone, department, position, String.valueOf(salary), hireDate, manager};
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller; SplittableRandom has no nextGaussian on Java 17
+        double u = 1 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Appends ASCII CSV text to a growable byte array without intermediate Strings.
+     */
+    private static final class RowEncoder {
+
+        private byte[] bytes;
+        private int length;
+
+        RowEncoder(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        RowEncoder ascii(String text) {
+            ensure(text.length());
+            for (int i = 0; i < text.length(); i++) {
+                bytes[length++] = (byte) text.charAt(i);
+            }
+            return this;
+        }
+
+        RowEncoder digits(long value) {
+            ensure(20);
+            if (value == 0) {
+                bytes[length++] = '0';
+                return this;
+            }
+            int start = length;
+            while (value > 0) {
+                bytes[length++] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            for (int i = start, j = length - 1; i < j; i++, j--) {
+                byte b = bytes[i];
+                bytes[i] = bytes[j];
+                bytes[j] = b;
+            }
+            return this;
+        }
+
+        RowEncoder twoDigits(int value) {
+            ensure(2);
+            bytes[length++] = (byte) ('0' + value / 10);
+            bytes[length++] = (byte) ('0' + value % 10);
+            return this;
+        }
+
+        RowEncoder cents(long cents) {
+            return digits(cents / 100).ascii(".").twoDigits((int) (cents % 100));
+        }
+
+        RowEncoder date(int epochDay) {
+            return digits(HireDates.year(epochDay)).ascii("-")
+                    .twoDigits(HireDates.monthValue(epochDay)).ascii("-")
+                    .twoDigits(HireDates.dayOfMonth(epochDay));
+        }
+
+        RowEncoder quoted(long value) {
+            return open().digits(value).close();
+        }
+
+        RowEncoder open() {
+            return ascii("\"");
+        }
+
+        RowEncoder close() {
+            return ascii("\"");
+        }
+
+        RowEncoder comma() {
+            return ascii(",");
+        }
+
+        RowEncoder newline() {
+            return ascii("\n");
+        }
+
+        ByteBuffer toBuffer() {
+            return ByteBuffer.wrap(bytes, 0, length);
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
     }
 }
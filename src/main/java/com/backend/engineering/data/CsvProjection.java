@@ -0,0 +1,53 @@
+package com.backend.engineering.data;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The columns a query needs and the row filters it can push into the parser. Only the projected
+ * columns are set on the employees it produces; the rest keep their defaults. Predicates may refer
+ * to columns outside the projection.
+ */
+public final class CsvProjection {
+
+    private final Set<EmployeeColumn> columns;
+    private final List<ColumnPredicate> predicates;
+
+    private CsvProjection(Set<EmployeeColumn> columns, List<ColumnPredicate> predicates) {
+        Set<EmployeeColumn> copy = EnumSet.noneOf(EmployeeColumn.class);
+        copy.addAll(columns);
+        this.columns = Collections.unmodifiableSet(copy);
+        this.predicates = List.copyOf(predicates);
+    }
+
+    public static CsvProjection of(Set<EmployeeColumn> columns, ColumnPredicate... predicates) {
+        return new CsvProjection(columns, List.of(predicates));
+    }
+
+    public static CsvProjection of(EmployeeColumn first, EmployeeColumn... rest) {
+        return new CsvProjection(EnumSet.of(first, rest), List.of());
+    }
+
+    public static CsvProjection all() {
+        return new CsvProjection(EnumSet.allOf(EmployeeColumn.class), List.of());
+    }
+
+    /**
+     * Returns a projection with the same columns and the predicate added.
+     */
+    public CsvProjection where(ColumnPredicate predicate) {
+        ColumnPredicate[] combined = predicates.toArray(new ColumnPredicate[predicates.size() + 1]);
+        combined[predicates.size()] = predicate;
+        return new CsvProjection(columns, List.of(combined));
+    }
+
+    public Set<EmployeeColumn> columns() {
+        return columns;
+    }
+
+    public List<ColumnPredicate> predicates() {
+        return predicates;
+    }
+}
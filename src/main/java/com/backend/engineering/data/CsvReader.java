@@ -1,36 +1,128 @@
 package com.backend.engineering.data;
 
-import com.opencsv.bean.CsvToBeanBuilder;
+import com.backend.engineering.metrics.OperationMetrics;
 
-import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class CsvReader {
 
-    public static void main(String[] args) {
-        try (FileReader reader = new FileReader("employees.csv")) {
-            List<Employee> employees = new CsvToBeanBuilder<Employee>(reader)
-                    .withType(Employee.class)
-                    .build()
-                    .parse();
+    public static final String DEFAULT_PATH = "employees.csv";
 
+    public static void main(String[] args) {
+        try (Stream<Employee> employees = new CsvReader().streamEmpData()) {
+            System.out.println("Employees read: " + employees.count());
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
-    public List<Employee> readEmpData() throws FileNotFoundException {
+    public List<Employee> readEmpData() throws IOException {
+        return readEmpData(Paths.get(DEFAULT_PATH));
+    }
+
+    public List<Employee> readEmpData(Path path) throws IOException {
+        try (Stream<Employee> employees = streamEmpData(path)) {
+            return employees.collect(Collectors.toList());
+        }
+    }
 
-        List<Employee> employees;
+    /**
+     * Loads the file on {@code parallelism} threads, keeping file order.
+     */
+    public List<Employee> readEmpData(int parallelism) throws IOException {
+        return readEmpData(Paths.get(DEFAULT_PATH), parallelism);
+    }
+
+    public List<Employee> readEmpData(Path path, int parallelism) throws IOException {
+        return new ParallelCsvLoader(parallelism).load(path);
+    }
+
+    public Stream<Employee> streamEmpData() throws IOException {
+        return streamEmpData(Paths.get(DEFAULT_PATH));
+    }
+
+    /**
+     * Lazily parses the file one record at a time, so heap usage does not grow with the file.
+     * The file stays open until the stream is closed; use it in a try-with-resources block.
+     * Read errors part-way through surface as {@link UncheckedIOException}.
+     */
+    public Stream<Employee> streamEmpData(Path path) throws IOException {
+        return stream(path, null, "ingest.csv");
+    }
+
+    public Stream<Employee> scan(CsvProjection projection) throws IOException {
+        return scan(Paths.get(DEFAULT_PATH), projection);
+    }
+
+    /**
+     * Streams only the rows matching the projection's predicates, with only its columns set. The
+     * parser skips the other fields and drops non-matching rows before building employees, so
+     * narrow queries allocate a fraction of what {@link #streamEmpData(Path)} does.
+     */
+    public Stream<Employee> scan(Path path, CsvProjection projection) throws IOException {
+        return stream(path, projection, "ingest.csv.scan");
+    }
+
+    /**
+     * Streams the file, recording the rows and bytes read as {@code operation} when the stream is
+     * closed.
+     */
+    private static Stream<Employee> stream(Path path, CsvProjection projection, String operation) throws IOException {
+        SeekableByteChannel channel = Files.newByteChannel(path);
+        EmployeeCsvParser parser;
+        try {
+            parser = new EmployeeCsvParser(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        if (projection != null) {
+            parser.project(projection);
+        }
+        OperationMetrics.Probe probe = OperationMetrics.global().start(operation);
 
-        FileReader reader = new FileReader("employees.csv") ;
-            employees = new CsvToBeanBuilder<Employee>(reader)
-                    .withType(Employee.class)
-                    .build()
-                    .parse();
+        Spliterator<Employee> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Employee> action) {
+                Employee employee;
+                try {
+                    employee = parser.next();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (employee == null) {
+                    return false;
+                }
+                probe.addRows(1);
+                action.accept(employee);
+                return true;
+            }
+        };
 
-        return employees;
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> {
+                    try {
+                        probe.bytes(channel.isOpen() ? channel.position() : 0).close();
+                        parser.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
     }
 }
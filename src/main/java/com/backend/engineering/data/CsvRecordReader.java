@@ -0,0 +1,139 @@
+package com.backend.engineering.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 record reader: quoted fields, doubled-quote escapes and line breaks inside quotes.
+ * Reads through its own char buffer, so the underlying reader does not need to be buffered.
+ */
+public class CsvRecordReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private final StringBuilder field = new StringBuilder(64);
+    private final List<String> fields = new ArrayList<>(16);
+    private long recordNumber;
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or {@code null} at end of input. Blank lines are skipped.
+     */
+    public String[] readRecord() throws IOException {
+        return readRecord(null);
+    }
+
+    /**
+     * Like {@link #readRecord()}, but only materializes the fields whose index is set in
+     * {@code wanted}; the others are scanned past without being buffered and come back as
+     * {@code null}. A {@code null} mask keeps every field.
+     */
+    public String[] readRecord(boolean[] wanted) throws IOException {
+        fields.clear();
+        field.setLength(0);
+
+        boolean inQuotes = false;
+        boolean sawData = false;
+        boolean keep = wanted == null || (wanted.length > 0 && wanted[0]);
+        int c;
+        while ((c = read()) != -1) {
+            if (inQuotes) {
+                if (c == '"') {
+                    if (peek() == '"') {
+                        position++;
+                        if (keep) {
+                            field.append('"');
+                        }
+                    } else {
+                        inQuotes = false;
+                    }
+                } else if (keep) {
+                    field.append((char) c);
+                }
+                continue;
+            }
+            if (c == '"') {
+                inQuotes = true;
+                sawData = true;
+            } else if (c == ',') {
+                fields.add(keep ? field.toString() : null);
+                field.setLength(0);
+                int next = fields.size();
+                keep = wanted == null || (next < wanted.length && wanted[next]);
+                sawData = true;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    position++;
+                }
+                if (sawData) {
+                    break;
+                }
+            } else {
+                if (keep) {
+                    field.append((char) c);
+                }
+                sawData = true;
+            }
+        }
+
+        if (!sawData) {
+            return null;
+        }
+        if (inQuotes) {
+            throw new IOException("Unterminated quoted field in record " + (recordNumber + 1));
+        }
+        fields.add(keep ? field.toString() : null);
+        recordNumber++;
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * Number of records returned so far, header included.
+     */
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int n;
+        do {
+            n = reader.read(buffer, 0, buffer.length);
+        } while (n == 0);
+        if (n < 0) {
+            return false;
+        }
+        position = 0;
+        limit = n;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
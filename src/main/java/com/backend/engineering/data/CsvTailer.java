@@ -0,0 +1,143 @@
+package com.backend.engineering.data;
+
+import com.backend.engineering.metrics.OperationMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Follows an employee CSV that is being appended to, parsing only the bytes added since the last
+ * poll.
+ * <p>
+ * Only complete records are consumed: a poll stops at the last newline outside quotes, so a row the
+ * writer is still in the middle of is picked up by a later poll. If the file shrinks it is treated
+ * as replaced, and the next batch restarts from the header and is flagged as a reset.
+ * <p>
+ * Rows that cannot be parsed are logged, counted in {@link #rejected()} and skipped; the rest of the
+ * batch is kept and the offset moves past them, so one bad row never blocks later appends.
+ */
+public class CsvTailer {
+
+    private static final Logger log = LoggerFactory.getLogger(CsvTailer.class);
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+
+    private final Path path;
+    private EmployeeColumn[] columns;
+    private long offset;
+    private long rejected;
+
+    public CsvTailer(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Records appended since the previous poll.
+     *
+     * @param reset whether the file was truncated or replaced, so the batch starts over from the first row
+     */
+    public record Batch(List<Employee> employees, boolean reset, long offset) {
+
+        public boolean isEmpty() {
+            return employees.isEmpty();
+        }
+    }
+
+    public Batch poll() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            boolean reset = false;
+            if (size < offset) {
+                offset = 0;
+                columns = null;
+                reset = true;
+            }
+            long end = lastRecordEnd(channel, offset, size);
+            if (end <= offset) {
+                return new Batch(List.of(), reset, offset);
+            }
+
+            List<Employee> employees = new ArrayList<>();
+            OperationMetrics.Probe probe = OperationMetrics.global().start("ingest.csv.tail").bytes(end - offset);
+            InputStreamReader reader = new InputStreamReader(
+                    new FileRangeInputStream(channel, offset, end, IO_BUFFER_SIZE), StandardCharsets.UTF_8);
+            try (EmployeeCsvParser parser = columns == null
+                    ? new EmployeeCsvParser(reader)
+                    : new EmployeeCsvParser(reader, columns)) {
+                columns = parser.columns();
+                while (true) {
+                    try {
+                        Employee employee = parser.next();
+                        if (employee == null) {
+                            break;
+                        }
+                        employees.add(employee);
+                    } catch (MalformedRecordException e) {
+                        rejected++;
+                        log.warn("Skipping row of {} in bytes {}-{}: {}", path, offset, end, e.getMessage());
+                    }
+                }
+            } finally {
+                probe.rows(employees.size()).close();
+            }
+            offset = end;
+            return new Batch(employees, reset, offset);
+        }
+    }
+
+    /**
+     * Number of malformed rows skipped so far.
+     */
+    public long rejected() {
+        return rejected;
+    }
+
+    /**
+     * Byte offset just past the last complete record consumed.
+     */
+    public long offset() {
+        return offset;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the position after the last newline outside quotes in {@code [start, size)}, or
+     * {@code start} if there is none. {@code start} is always a record boundary, so quote state
+     * starts out closed.
+     */
+    private static long lastRecordEnd(FileChannel channel, long start, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER_SIZE);
+        boolean inQuotes = false;
+        long end = start;
+        long position = start;
+        while (position < size) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), size - position));
+            int n = channel.read(buffer, position);
+            if (n <= 0) {
+                break;
+            }
+            for (int i = 0; i < n; i++) {
+                byte b = buffer.get(i);
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes) {
+                    end = position + i + 1;
+                }
+            }
+            position += n;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,23 @@
+package com.backend.engineering.data;
+
+import java.util.function.Function;
+
+/**
+ * The low-cardinality string columns that queries group and filter on.
+ */
+public enum Dimension {
+
+    DEPARTMENT(Employee::getDepartment),
+    POSITION(Employee::getPosition),
+    MANAGER(Employee::getManager);
+
+    private final Function<Employee, String> extractor;
+
+    Dimension(Function<Employee, String> extractor) {
+        this.extractor = extractor;
+    }
+
+    public String of(Employee employee) {
+        return extractor.apply(employee);
+    }
+}
@@ -1,7 +1,11 @@
 package com.backend.engineering.data;
 
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
+
+import java.time.LocalDate;
 
 @Data
 public class Employee {
@@ -16,4 +20,23 @@ public class Employee {
     private double salary;
     private String hireDate;
     private String manager;
+
+    /**
+     * {@link #hireDate} parsed once when it is set, as an epoch day, or {@link HireDates#UNKNOWN}.
+     */
+    @Setter(AccessLevel.NONE)
+    private int hireEpochDay = HireDates.UNKNOWN;
+
+    public void setHireDate(String hireDate) {
+        this.hireEpochDay = HireDates.toEpochDay(hireDate);
+        this.hireDate = hireDate;
+    }
+
+    public LocalDate getHireLocalDate() {
+        return HireDates.toLocalDate(hireEpochDay);
+    }
+
+    public boolean hasHireDate() {
+        return hireEpochDay != HireDates.UNKNOWN;
+    }
 }
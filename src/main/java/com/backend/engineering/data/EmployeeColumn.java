@@ -0,0 +1,87 @@
+package com.backend.engineering.data;
+
+import java.util.Locale;
+
+/**
+ * The columns of the employee export, in the order {@link CsvGenerator} writes them.
+ */
+public enum EmployeeColumn {
+
+    ID("ID", "id"),
+    FIRST_NAME("FirstName", "firstName"),
+    LAST_NAME("LastName", "lastName"),
+    EMAIL("Email", "email"),
+    PHONE("Phone", "phone"),
+    DEPARTMENT("Department", "department"),
+    POSITION("Position", "position"),
+    SALARY("Salary", "salary"),
+    HIRE_DATE("HireDate", "hireDate"),
+    MANAGER("Manager", "manager");
+
+    private final String header;
+    private final String property;
+
+    EmployeeColumn(String header, String property) {
+        this.header = header;
+        this.property = property;
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    /**
+     * The bean property name, as used for JSON field names.
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Resolves a header cell the way opencsv's header mapping does (case-insensitive), also
+     * accepting the spaced variants such as "First Name". Returns {@code null} for unknown headers.
+     */
+    public static EmployeeColumn forHeader(String name) {
+        String normalized = name.replace(" ", "").trim().toUpperCase(Locale.ROOT);
+        for (EmployeeColumn column : values()) {
+            if (column.header.toUpperCase(Locale.ROOT).equals(normalized)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    public void apply(Employee employee, String value) {
+        switch (this) {
+            case ID -> employee.setId(value.isEmpty() ? 0 : Integer.parseInt(value.trim()));
+            case FIRST_NAME -> employee.setFirstName(value);
+            case LAST_NAME -> employee.setLastName(value);
+            case EMAIL -> employee.setEmail(value);
+            case PHONE -> employee.setPhone(value);
+            case DEPARTMENT -> employee.setDepartment(value);
+            case POSITION -> employee.setPosition(value);
+            case SALARY -> employee.setSalary(value.isEmpty() ? 0.0 : Double.parseDouble(value.trim()));
+            case HIRE_DATE -> employee.setHireDate(value);
+            case MANAGER -> employee.setManager(value);
+        }
+    }
+
+    /**
+     * The field's value on the employee: an Integer for {@link #ID}, a Double for {@link #SALARY},
+     * otherwise a String.
+     */
+    public Object read(Employee employee) {
+        return switch (this) {
+            case ID -> employee.getId();
+            case FIRST_NAME -> employee.getFirstName();
+            case LAST_NAME -> employee.getLastName();
+            case EMAIL -> employee.getEmail();
+            case PHONE -> employee.getPhone();
+            case DEPARTMENT -> employee.getDepartment();
+            case POSITION -> employee.getPosition();
+            case SALARY -> employee.getSalary();
+            case HIRE_DATE -> employee.getHireDate();
+            case MANAGER -> employee.getManager();
+        };
+    }
+}
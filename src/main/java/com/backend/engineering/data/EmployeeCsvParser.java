@@ -0,0 +1,141 @@
+package com.backend.engineering.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maps CSV records onto {@link Employee} beans using the header row, without reflection.
+ */
+public class EmployeeCsvParser implements Closeable {
+
+    private final CsvRecordReader records;
+    private final EmployeeColumn[] columns;
+
+    // Projection state, see project(); by default every field is read and mapped
+    private boolean[] wanted;
+    private EmployeeColumn[] mapped;
+    private int[] filterFields = new int[0];
+    private ColumnPredicate[] filters = new ColumnPredicate[0];
+
+    public EmployeeCsvParser(Reader reader) throws IOException {
+        this.records = new CsvRecordReader(reader);
+        String[] header;
+        try {
+            header = records.readRecord();
+        } catch (IOException e) {
+            records.close();
+            throw e;
+        }
+        this.columns = header == null ? new EmployeeColumn[0] : resolveColumns(header);
+        this.mapped = columns;
+    }
+
+    /**
+     * Parses headerless input, such as a slice of a larger file, with an already resolved header.
+     */
+    public EmployeeCsvParser(Reader reader, EmployeeColumn[] columns) {
+        this.records = new CsvRecordReader(reader);
+        this.columns = columns;
+        this.mapped = columns;
+    }
+
+    public static EmployeeColumn[] resolveColumns(String[] header) {
+        EmployeeColumn[] columns = new EmployeeColumn[header.length];
+        for (int i = 0; i < header.length; i++) {
+            columns[i] = EmployeeColumn.forHeader(header[i]);
+        }
+        return columns;
+    }
+
+    public EmployeeColumn[] columns() {
+        return columns.clone();
+    }
+
+    /**
+     * Restricts what {@link #next()} reads: fields that are neither projected nor filtered on are
+     * skipped without being buffered, and rows failing a predicate are dropped before an employee
+     * is built. Predicates on columns missing from the header see the empty string.
+     */
+    public EmployeeCsvParser project(CsvProjection projection) {
+        boolean[] wanted = new boolean[columns.length];
+        EmployeeColumn[] mapped = new EmployeeColumn[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] != null && projection.columns().contains(columns[i])) {
+                wanted[i] = true;
+                mapped[i] = columns[i];
+            }
+        }
+
+        List<ColumnPredicate> predicates = projection.predicates();
+        int[] filterFields = new int[predicates.size()];
+        for (int p = 0; p < filterFields.length; p++) {
+            filterFields[p] = Arrays.asList(columns).indexOf(predicates.get(p).column());
+            if (filterFields[p] >= 0) {
+                wanted[filterFields[p]] = true;
+            }
+        }
+
+        this.wanted = wanted;
+        this.mapped = mapped;
+        this.filterFields = filterFields;
+        this.filters = predicates.toArray(new ColumnPredicate[0]);
+        return this;
+    }
+
+    /**
+     * Returns the next employee, or {@code null} at end of input.
+     *
+     * @throws MalformedRecordException if a field of the next record cannot be converted; the record
+     *                                  is skipped, so calling {@code next()} again continues after it
+     */
+    public Employee next() throws IOException {
+        String[] fields;
+        do {
+            fields = records.readRecord(wanted);
+            if (fields == null) {
+                return null;
+            }
+        } while (!matches(fields));
+        return toEmployee(mapped, fields, records.getRecordNumber());
+    }
+
+    private boolean matches(String[] fields) throws MalformedRecordException {
+        for (int p = 0; p < filters.length; p++) {
+            int field = filterFields[p];
+            String value = field >= 0 && field < fields.length ? fields[field] : "";
+            try {
+                if (!filters[p].test(value)) {
+                    return false;
+                }
+            } catch (IllegalArgumentException e) {
+                throw new MalformedRecordException("Malformed " + filters[p].column().getHeader() + " '" + value
+                        + "' in record " + records.getRecordNumber(), records.getRecordNumber(), e);
+            }
+        }
+        return true;
+    }
+
+    static Employee toEmployee(EmployeeColumn[] columns, String[] fields, long recordNumber) throws MalformedRecordException {
+        Employee employee = new Employee();
+        int count = Math.min(columns.length, fields.length);
+        for (int i = 0; i < count; i++) {
+            if (columns[i] != null) {
+                try {
+                    columns[i].apply(employee, fields[i]);
+                } catch (IllegalArgumentException e) {
+                    throw new MalformedRecordException("Malformed " + columns[i].getHeader() + " '" + fields[i]
+                            + "' in record " + recordNumber, recordNumber, e);
+                }
+            }
+        }
+        return employee;
+    }
+
+    @Override
+    public void close() throws IOException {
+        records.close();
+    }
+}
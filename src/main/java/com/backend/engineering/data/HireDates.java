@@ -0,0 +1,115 @@
+package com.backend.engineering.data;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * Hire dates as epoch days. Parses {@code yyyy-M-d} text, where month and day may be one or two
+ * digits since older exports contain dates like {@code 2023-01-5}, and extracts calendar fields
+ * from epoch days without allocating.
+ */
+public final class HireDates {
+
+    /** Marker for a missing hire date. */
+    public static final int UNKNOWN = Integer.MIN_VALUE;
+
+    private HireDates() {
+    }
+
+    public static int toEpochDay(String hireDate) {
+        if (hireDate == null || hireDate.isBlank()) {
+            return UNKNOWN;
+        }
+        String text = hireDate.trim();
+        int firstDash = text.indexOf('-');
+        int secondDash = text.indexOf('-', firstDash + 1);
+        if (firstDash <= 0 || secondDash < 0) {
+            throw new IllegalArgumentException("Invalid hire date: " + hireDate);
+        }
+        int year = parseInt(text, 0, firstDash, hireDate);
+        int month = parseInt(text, firstDash + 1, secondDash, hireDate);
+        int day = parseInt(text, secondDash + 1, text.length(), hireDate);
+        try {
+            return (int) LocalDate.of(year, month, day).toEpochDay();
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid hire date: " + hireDate, e);
+        }
+    }
+
+    public static int toEpochDay(LocalDate date) {
+        return (int) date.toEpochDay();
+    }
+
+    public static LocalDate toLocalDate(int epochDay) {
+        return epochDay == UNKNOWN ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * ISO-8601 text for the epoch day, or {@code null} for {@link #UNKNOWN}.
+     */
+    public static String format(int epochDay) {
+        return epochDay == UNKNOWN ? null : LocalDate.ofEpochDay(epochDay).toString();
+    }
+
+    // Calendar fields use the days-to-civil algorithm for the proleptic Gregorian calendar.
+
+    public static int year(int epochDay) {
+        long dayOfEra = dayOfEra(epochDay);
+        long yearOfEra = yearOfEra(dayOfEra);
+        long era = era(epochDay);
+        return (int) (yearOfEra + era * 400 + (monthValue(epochDay) <= 2 ? 1 : 0));
+    }
+
+    public static int monthValue(int epochDay) {
+        long mp = monthPrime(epochDay);
+        return (int) (mp < 10 ? mp + 3 : mp - 9);
+    }
+
+    public static int dayOfMonth(int epochDay) {
+        long dayOfYear = dayOfYear(epochDay);
+        return (int) (dayOfYear - (153 * monthPrime(epochDay) + 2) / 5 + 1);
+    }
+
+    public static DayOfWeek dayOfWeek(int epochDay) {
+        // 1970-01-01 was a Thursday
+        return DayOfWeek.of(Math.floorMod(epochDay + 3, 7) + 1);
+    }
+
+    private static long era(int epochDay) {
+        return Math.floorDiv(epochDay + 719468L, 146097);
+    }
+
+    private static long dayOfEra(int epochDay) {
+        return epochDay + 719468L - era(epochDay) * 146097;
+    }
+
+    private static long yearOfEra(long dayOfEra) {
+        return (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    }
+
+    private static long dayOfYear(int epochDay) {
+        long dayOfEra = dayOfEra(epochDay);
+        long yearOfEra = yearOfEra(dayOfEra);
+        return dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    }
+
+    private static long monthPrime(int epochDay) {
+        return (5 * dayOfYear(epochDay) + 2) / 153;
+    }
+
+    private static int parseInt(String text, int from, int to, String original) {
+        if (from >= to || to - from > 9) {
+            throw new IllegalArgumentException("Invalid hire date: " + original);
+        }
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Invalid hire date: " + original);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,26 @@
+package com.backend.engineering.data;
+
+import java.io.IOException;
+
+/**
+ * A record whose fields could not be mapped onto an employee. The record has already been consumed
+ * when this is thrown, so the parser can carry on with the next one.
+ */
+public class MalformedRecordException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long recordNumber;
+
+    public MalformedRecordException(String message, long recordNumber, Throwable cause) {
+        super(message, cause);
+        this.recordNumber = recordNumber;
+    }
+
+    /**
+     * 1-based number of the record within the parser's input, including the header if it read one.
+     */
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+}
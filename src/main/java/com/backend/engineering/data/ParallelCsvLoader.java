@@ -0,0 +1,221 @@
+package com.backend.engineering.data;
+
+import com.backend.engineering.metrics.OperationMetrics;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Loads an employee CSV on a dedicated ForkJoinPool by splitting the file into byte ranges that
+ * start on record boundaries.
+ * <p>
+ * A newline is a record boundary only outside quotes. Since quotes inside quoted fields are always
+ * doubled, the quote state at any offset is the parity of the quote count before it: the loader
+ * counts quotes per range in parallel, takes prefix parities, then moves each range start to the
+ * first newline outside quotes before parsing the ranges in parallel.
+ */
+public class ParallelCsvLoader {
+
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+    private static final long MAX_CHUNK_SIZE = 64L << 20;
+
+    private final int parallelism;
+
+    /**
+     * @param parallelism number of parser threads
+     */
+    public ParallelCsvLoader(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Loads the file into a list in file order.
+     */
+    public List<Employee> load(Path path) throws IOException {
+        try (OperationMetrics.Probe probe = OperationMetrics.global().start("ingest.csv.parallel");
+             FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            probe.bytes(size);
+            EmployeeColumn[] columns;
+            try (EmployeeCsvParser header = new EmployeeCsvParser(reader(channel, 0, size))) {
+                columns = header.columns();
+            }
+            long dataStart = nextBoundary(channel, 0, size, false);
+            if (dataStart >= size) {
+                return new ArrayList<>();
+            }
+
+            long[] starts = split(dataStart, size);
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                List<Employee> employees = pool.invoke(new LoadTask(channel, columns, starts, size));
+                probe.rows(employees.size());
+                return employees;
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private long[] split(long dataStart, long size) {
+        long length = size - dataStart;
+        long chunkSize = Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, length / (parallelism * 4L)));
+        int chunks = (int) Math.max(1, (length + chunkSize - 1) / chunkSize);
+        long[] starts = new long[chunks];
+        for (int i = 0; i < chunks; i++) {
+            starts[i] = dataStart + i * chunkSize;
+        }
+        return starts;
+    }
+
+    private static final class LoadTask extends RecursiveTask<List<Employee>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final EmployeeColumn[] columns;
+        private final long[] starts;
+        private final long size;
+
+        private LoadTask(FileChannel channel, EmployeeColumn[] columns, long[] starts, long size) {
+            this.channel = channel;
+            this.columns = columns;
+            this.starts = starts;
+            this.size = size;
+        }
+
+        @Override
+        protected List<Employee> compute() {
+            int chunks = starts.length;
+
+            long[] quotes = new long[chunks];
+            forEachChunk(chunks, i -> quotes[i] = countQuotes(channel, starts[i], end(i)));
+
+            boolean[] inQuotes = new boolean[chunks];
+            long quotesBefore = 0;
+            for (int i = 0; i < chunks; i++) {
+                inQuotes[i] = (quotesBefore & 1) == 1;
+                quotesBefore += quotes[i];
+            }
+
+            long[] aligned = new long[chunks + 1];
+            aligned[chunks] = size;
+            forEachChunk(chunks, i -> aligned[i] = i == 0
+                    ? starts[0]
+                    : nextBoundary(channel, starts[i], size, inQuotes[i]));
+            for (int i = chunks - 1; i >= 0; i--) {
+                aligned[i] = Math.min(aligned[i], aligned[i + 1]);
+            }
+
+            // Each task sets its own slot; invokeAll's join publishes the writes to this thread
+            List<List<Employee>> parsed = new ArrayList<>(Collections.nCopies(chunks, null));
+            forEachChunk(chunks, i -> parsed.set(i, parse(channel, columns, aligned[i], aligned[i + 1])));
+
+            long total = 0;
+            for (List<Employee> chunk : parsed) {
+                total += chunk.size();
+            }
+            List<Employee> employees = new ArrayList<>((int) Math.min(Integer.MAX_VALUE - 8, total));
+            for (List<Employee> chunk : parsed) {
+                employees.addAll(chunk);
+            }
+            return employees;
+        }
+
+        private long end(int chunk) {
+            return chunk + 1 < starts.length ? starts[chunk + 1] : size;
+        }
+    }
+
+    private interface ChunkAction {
+        void run(int chunk) throws IOException;
+    }
+
+    private static void forEachChunk(int chunks, ChunkAction action) {
+        List<RecursiveAction> tasks = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            int chunk = i;
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    try {
+                        action.run(chunk);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        }
+        RecursiveAction.invokeAll(tasks);
+    }
+
+    private static List<Employee> parse(FileChannel channel, EmployeeColumn[] columns, long start, long end) throws IOException {
+        List<Employee> employees = new ArrayList<>();
+        try (EmployeeCsvParser parser = new EmployeeCsvParser(reader(channel, start, end), columns)) {
+            Employee employee;
+            while ((employee = parser.next()) != null) {
+                employees.add(employee);
+            }
+        }
+        return employees;
+    }
+
+    private static long countQuotes(FileChannel channel, long start, long end) throws IOException {
+        FileRangeInputStream in = new FileRangeInputStream(channel, start, end, IO_BUFFER_SIZE);
+        byte[] bytes = new byte[IO_BUFFER_SIZE];
+        long quotes = 0;
+        int n;
+        while ((n = in.read(bytes, 0, bytes.length)) > 0) {
+            for (int i = 0; i < n; i++) {
+                if (bytes[i] == '"') {
+                    quotes++;
+                }
+            }
+        }
+        return quotes;
+    }
+
+    /**
+     * Offset just past the first newline at or after {@code start} that lies outside quotes, or
+     * {@code end} if there is none.
+     */
+    private static long nextBoundary(FileChannel channel, long start, long end, boolean inQuotes) throws IOException {
+        FileRangeInputStream in = new FileRangeInputStream(channel, start, end, IO_BUFFER_SIZE);
+        byte[] bytes = new byte[IO_BUFFER_SIZE];
+        long position = start;
+        int n;
+        while ((n = in.read(bytes, 0, bytes.length)) > 0) {
+            for (int i = 0; i < n; i++) {
+                byte b = bytes[i];
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes) {
+                    return position + i + 1;
+                }
+            }
+            position += n;
+        }
+        return end;
+    }
+
+    private static InputStreamReader reader(FileChannel channel, long start, long end) {
+        return new InputStreamReader(new FileRangeInputStream(channel, start, end, IO_BUFFER_SIZE), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,196 @@
+package com.backend.engineering.export;
+
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.data.EmployeeColumn;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Writes records as newline-delimited JSON, one object or value per line, through a fixed-size
+ * buffer. The first record is flushed straight away so consumers see output without waiting for
+ * the query to finish, and later records every {@code flushEvery} lines.
+ * <p>
+ * Nothing is queued beyond the buffer: records are pulled from the source only as fast as the
+ * underlying stream accepts bytes, so a slow consumer (a full socket send buffer) blocks the
+ * writer and with it the pipeline feeding it.
+ */
+public final class NdjsonWriter implements Closeable, Flushable {
+
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    public static final int DEFAULT_FLUSH_EVERY = 1_000;
+
+    private static final Set<EmployeeColumn> ALL_COLUMNS = EnumSet.allOf(EmployeeColumn.class);
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer out;
+    private final int flushEvery;
+    private long count;
+
+    public NdjsonWriter(OutputStream out, int bufferSize, int flushEvery) {
+        if (flushEvery < 1) {
+            throw new IllegalArgumentException("flushEvery must be positive: " + flushEvery);
+        }
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferSize);
+        this.flushEvery = flushEvery;
+    }
+
+    public NdjsonWriter(OutputStream out) {
+        this(out, DEFAULT_BUFFER_SIZE, DEFAULT_FLUSH_EVERY);
+    }
+
+    /**
+     * Writes every element of the stream, in encounter order, and returns how many were written.
+     * The stream is consumed but not closed.
+     */
+    public long writeAll(Stream<?> records) throws IOException {
+        long before = count;
+        try {
+            records.forEachOrdered(record -> {
+                try {
+                    write(record);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count - before;
+    }
+
+    /**
+     * Writes one record; employees become objects of their columns, see {@link #writeValue}.
+     */
+    public void write(Object record) throws IOException {
+        writeValue(record);
+        endRecord();
+    }
+
+    /**
+     * Writes an employee restricted to the given columns, in the set's order (column order for an
+     * {@link EnumSet}).
+     */
+    public void write(Employee employee, Set<EmployeeColumn> columns) throws IOException {
+        writeEmployee(employee, columns);
+        endRecord();
+    }
+
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void endRecord() throws IOException {
+        out.write('\n');
+        count++;
+        if (count == 1 || count % flushEvery == 0) {
+            out.flush();
+        }
+    }
+
+    /**
+     * Encodes strings, numbers, booleans, maps (keys as strings), iterables and employees; any
+     * other object is written as its {@code toString()}. Non-finite numbers become {@code null}.
+     */
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            out.write("null");
+        } else if (value instanceof CharSequence text) {
+            writeString(text);
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            out.write(Double.isFinite(number) ? value.toString() : "null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.write(value.toString());
+        } else if (value instanceof Employee employee) {
+            writeEmployee(employee, ALL_COLUMNS);
+        } else if (value instanceof Map<?, ?> map) {
+            out.write('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    out.write(',');
+                }
+                first = false;
+                writeString(String.valueOf(entry.getKey()));
+                out.write(':');
+                writeValue(entry.getValue());
+            }
+            out.write('}');
+        } else if (value instanceof Iterable<?> iterable) {
+            out.write('[');
+            Iterator<?> elements = iterable.iterator();
+            while (elements.hasNext()) {
+                writeValue(elements.next());
+                if (elements.hasNext()) {
+                    out.write(',');
+                }
+            }
+            out.write(']');
+        } else {
+            writeString(value.toString());
+        }
+    }
+
+    private void writeEmployee(Employee employee, Set<EmployeeColumn> columns) throws IOException {
+        out.write('{');
+        boolean first = true;
+        for (EmployeeColumn column : columns) {
+            if (!first) {
+                out.write(',');
+            }
+            first = false;
+            writeString(column.getProperty());
+            out.write(':');
+            writeValue(column.read(employee));
+        }
+        out.write('}');
+    }
+
+    private void writeString(CharSequence text) throws IOException {
+        out.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.write("\\u00");
+                        out.write(HEX[c >> 4]);
+                        out.write(HEX[c & 0xF]);
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+}
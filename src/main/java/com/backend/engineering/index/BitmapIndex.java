@@ -0,0 +1,132 @@
+package com.backend.engineering.index;
+
+import com.backend.engineering.columnar.EmployeeColumnStore;
+import com.backend.engineering.columnar.StringDictionary;
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Compressed (Roaring) bitmaps of row numbers for every distinct value of each {@link Dimension}.
+ * Filters combine bitmaps with AND/OR/NOT via {@link RowFilter}, and the resulting row set is used
+ * to touch only the matching rows.
+ */
+public final class BitmapIndex {
+
+    private final int rowCount;
+    private final Map<Dimension, Map<String, RoaringBitmap>> bitmaps;
+
+    private BitmapIndex(int rowCount, Map<Dimension, Map<String, RoaringBitmap>> bitmaps) {
+        this.rowCount = rowCount;
+        this.bitmaps = bitmaps;
+    }
+
+    public static BitmapIndex of(List<Employee> employees) {
+        Map<Dimension, Map<String, RoaringBitmap>> bitmaps = new EnumMap<>(Dimension.class);
+        for (Dimension dimension : Dimension.values()) {
+            Map<String, RoaringBitmap> byValue = new HashMap<>();
+            for (int row = 0; row < employees.size(); row++) {
+                byValue.computeIfAbsent(dimension.of(employees.get(row)), value -> new RoaringBitmap()).add(row);
+            }
+            byValue.values().forEach(RoaringBitmap::runOptimize);
+            bitmaps.put(dimension, byValue);
+        }
+        return new BitmapIndex(employees.size(), bitmaps);
+    }
+
+    public static BitmapIndex of(EmployeeColumnStore store) {
+        Map<Dimension, Map<String, RoaringBitmap>> bitmaps = new EnumMap<>(Dimension.class);
+        for (Dimension dimension : Dimension.values()) {
+            StringDictionary dictionary = store.dictionary(dimension);
+            RoaringBitmap[] byCode = new RoaringBitmap[dictionary.size()];
+            for (int code = 0; code < byCode.length; code++) {
+                byCode[code] = new RoaringBitmap();
+            }
+            int[] codes = store.codes(dimension);
+            for (int row = 0; row < store.size(); row++) {
+                byCode[codes[row]].add(row);
+            }
+            Map<String, RoaringBitmap> byValue = new HashMap<>();
+            for (int code = 0; code < byCode.length; code++) {
+                byCode[code].runOptimize();
+                byValue.put(dictionary.decode(code), byCode[code]);
+            }
+            bitmaps.put(dimension, byValue);
+        }
+        return new BitmapIndex(store.size(), bitmaps);
+    }
+
+    /**
+     * Returns an index over these rows followed by the added ones, numbered from {@link #rowCount()}.
+     * Only the bitmaps of values that gain rows are copied; this index is unchanged.
+     */
+    public BitmapIndex append(List<Employee> added) {
+        if (added.isEmpty()) {
+            return this;
+        }
+        Map<Dimension, Map<String, RoaringBitmap>> extended = new EnumMap<>(Dimension.class);
+        for (Dimension dimension : Dimension.values()) {
+            Map<String, RoaringBitmap> shared = bitmaps.get(dimension);
+            Map<String, RoaringBitmap> byValue = new HashMap<>(shared);
+            Map<String, RoaringBitmap> copied = new HashMap<>();
+            for (int i = 0; i < added.size(); i++) {
+                copied.computeIfAbsent(dimension.of(added.get(i)), value -> {
+                    RoaringBitmap rows = shared.get(value);
+                    return rows == null ? new RoaringBitmap() : rows.clone();
+                }).add(rowCount + i);
+            }
+            copied.values().forEach(RoaringBitmap::runOptimize);
+            byValue.putAll(copied);
+            extended.put(dimension, byValue);
+        }
+        return new BitmapIndex(rowCount + added.size(), extended);
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public Set<String> values(Dimension dimension) {
+        return Collections.unmodifiableSet(bitmaps.get(dimension).keySet());
+    }
+
+    /**
+     * Rows where the dimension equals the value. The bitmap is shared; callers must not modify it.
+     */
+    public RoaringBitmap rows(Dimension dimension, String value) {
+        RoaringBitmap rows = bitmaps.get(dimension).get(value);
+        return rows == null ? new RoaringBitmap() : rows;
+    }
+
+    public RoaringBitmap allRows() {
+        RoaringBitmap rows = new RoaringBitmap();
+        rows.add(0L, rowCount);
+        return rows;
+    }
+
+    public RoaringBitmap filter(RowFilter filter) {
+        return filter.evaluate(this);
+    }
+
+    public long sizeInBytes() {
+        long bytes = 0;
+        for (Map<String, RoaringBitmap> byValue : bitmaps.values()) {
+            for (RoaringBitmap rows : byValue.values()) {
+                bytes += rows.getSizeInBytes();
+            }
+        }
+        return bytes;
+    }
+
+    public static <T> List<T> select(RoaringBitmap rows, List<T> data) {
+        return rows.stream().mapToObj(data::get).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,198 @@
+package com.backend.engineering.index;
+
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.data.HireDates;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Row numbers sorted by hire date. Range lookups are two binary searches and return the matching
+ * rows as a contiguous slice; per-year and per-month counts need one search per bucket instead of a
+ * scan. Rows without a hire date are left out.
+ */
+public final class HireDateIndex {
+
+    private final int rowCount;
+    private final int[] days;
+    private final int[] rows;
+
+    private HireDateIndex(int rowCount, int[] days, int[] rows) {
+        this.rowCount = rowCount;
+        this.days = days;
+        this.rows = rows;
+    }
+
+    public static HireDateIndex of(List<Employee> employees) {
+        int[] hireEpochDays = new int[employees.size()];
+        for (int row = 0; row < hireEpochDays.length; row++) {
+            hireEpochDays[row] = employees.get(row).getHireEpochDay();
+        }
+        return of(hireEpochDays);
+    }
+
+    /**
+     * Builds the index over a hire date column, where the array index is the row number.
+     */
+    public static HireDateIndex of(int[] hireEpochDays) {
+        return new HireDateIndex(0, new int[0], new int[0]).append(hireEpochDays);
+    }
+
+    /**
+     * Returns an index over these rows followed by the added ones, numbered from the end of the
+     * indexed column. The new rows are sorted on their own and merged in; this index is unchanged.
+     */
+    public HireDateIndex append(List<Employee> added) {
+        int[] hireEpochDays = new int[added.size()];
+        for (int i = 0; i < hireEpochDays.length; i++) {
+            hireEpochDays[i] = added.get(i).getHireEpochDay();
+        }
+        return append(hireEpochDays);
+    }
+
+    private HireDateIndex append(int[] hireEpochDays) {
+        // Pack (day, row) into one long so a primitive sort orders by day, then row
+        long[] packed = new long[hireEpochDays.length];
+        int n = 0;
+        for (int i = 0; i < hireEpochDays.length; i++) {
+            if (hireEpochDays[i] != HireDates.UNKNOWN) {
+                packed[n++] = ((long) hireEpochDays[i] << 32) | ((rowCount + i) & 0xFFFFFFFFL);
+            }
+        }
+        Arrays.sort(packed, 0, n);
+
+        // Added rows come after every indexed row, so on equal days the indexed rows go first
+        int[] mergedDays = new int[days.length + n];
+        int[] mergedRows = new int[days.length + n];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < mergedDays.length; k++) {
+            if (j == n || (i < days.length && days[i] <= (int) (packed[j] >> 32))) {
+                mergedDays[k] = days[i];
+                mergedRows[k] = rows[i++];
+            } else {
+                mergedDays[k] = (int) (packed[j] >> 32);
+                mergedRows[k] = (int) packed[j++];
+            }
+        }
+        return new HireDateIndex(rowCount + hireEpochDays.length, mergedDays, mergedRows);
+    }
+
+    public int size() {
+        return days.length;
+    }
+
+    public LocalDate earliest() {
+        return days.length == 0 ? null : LocalDate.ofEpochDay(days[0]);
+    }
+
+    public LocalDate latest() {
+        return days.length == 0 ? null : LocalDate.ofEpochDay(days[days.length - 1]);
+    }
+
+    /**
+     * All indexed rows, ordered by hire date.
+     */
+    public int[] rowsInHireOrder() {
+        return rows.clone();
+    }
+
+    public int[] rowsHiredAfter(LocalDate date) {
+        return slice(upperBound(HireDates.toEpochDay(date)), days.length);
+    }
+
+    public int[] rowsHiredBefore(LocalDate date) {
+        return slice(0, lowerBound(HireDates.toEpochDay(date)));
+    }
+
+    /**
+     * Rows hired between the two dates, both inclusive.
+     */
+    public int[] rowsHiredBetween(LocalDate from, LocalDate to) {
+        int start = lowerBound(HireDates.toEpochDay(from));
+        int end = upperBound(HireDates.toEpochDay(to));
+        return start < end ? slice(start, end) : new int[0];
+    }
+
+    public int countHiredBetween(LocalDate from, LocalDate to) {
+        return Math.max(0, upperBound(HireDates.toEpochDay(to)) - lowerBound(HireDates.toEpochDay(from)));
+    }
+
+    public <T> List<T> select(List<T> employees, int[] rows) {
+        return Arrays.stream(rows).mapToObj(employees::get).collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> countByYear() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        if (days.length == 0) {
+            return counts;
+        }
+        for (int year = HireDates.year(days[0]); year <= HireDates.year(days[days.length - 1]); year++) {
+            int count = countHiredBetween(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+            if (count > 0) {
+                counts.put(year, (long) count);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Hires per month of the year (1-12), across all years.
+     */
+    public Map<Integer, Long> countByMonth() {
+        long[] counts = new long[13];
+        if (days.length > 0) {
+            LocalDate month = earliest().withDayOfMonth(1);
+            LocalDate last = latest();
+            while (!month.isAfter(last)) {
+                counts[month.getMonthValue()] += countHiredBetween(month, month.plusMonths(1).minusDays(1));
+                month = month.plusMonths(1);
+            }
+        }
+        Map<Integer, Long> byMonth = new TreeMap<>();
+        for (int monthValue = 1; monthValue <= 12; monthValue++) {
+            if (counts[monthValue] > 0) {
+                byMonth.put(monthValue, counts[monthValue]);
+            }
+        }
+        return byMonth;
+    }
+
+    private int[] slice(int from, int to) {
+        return Arrays.copyOfRange(rows, from, to);
+    }
+
+    /** First position whose day is >= the given day. */
+    private int lowerBound(int day) {
+        int low = 0;
+        int high = days.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days[mid] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** First position whose day is > the given day. */
+    private int upperBound(int day) {
+        int low = 0;
+        int high = days.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days[mid] <= day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
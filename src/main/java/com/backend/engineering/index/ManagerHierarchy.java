@@ -0,0 +1,408 @@
+package com.backend.engineering.index;
+
+import com.backend.engineering.data.Employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The reporting graph implied by each employee's free-text manager name, as int arrays over row
+ * numbers. A manager name resolves to the first row (in row order) whose "first last" name equals
+ * it; names that match no employee become virtual nodes, which report to no one. Employees without
+ * a manager are roots.
+ * <p>
+ * Direct reports are stored in compressed sparse row form, so a manager's reports are one
+ * contiguous slice in row order. The graph is also laid out in preorder, where every subtree is a
+ * contiguous range, with subtree sizes and salary totals computed bottom-up: transitive report
+ * lists are a slice, and transitive headcount and payroll are single lookups.
+ * <p>
+ * Names are free text, so reporting lines can loop (A manages B manages A). Each loop is broken
+ * in the preorder layout at the node where it was found, and every member of the loop uses that
+ * node's range, so every member of a loop has all the others, and everyone below them, as
+ * transitive reports. Direct reports always keep every edge.
+ */
+public final class ManagerHierarchy {
+
+    private static final int NONE = -1;
+
+    private final int size;
+    private final int[] ids;
+    private final int[] parents;
+    private final int[] firstReport;
+    private final int[] reports;
+    private final double[] directPayroll;
+    private final int[] reach;
+    private final int[] preorder;
+    private final int[] position;
+    private final int[] subtreeSize;
+    private final double[] subtreePayroll;
+    private final double[] salaries;
+    private final Map<String, Integer> managers;
+    private final int[] ranked;
+    private final String[] rankedNames;
+
+    private ManagerHierarchy(List<Employee> employees) {
+        size = employees.size();
+        ids = new int[size];
+        salaries = new double[size];
+        for (int row = 0; row < size; row++) {
+            ids[row] = employees.get(row).getId();
+            salaries[row] = employees.get(row).getSalary();
+        }
+
+        managers = resolveManagers(employees);
+        int nodes = size + (int) managers.values().stream().filter(node -> node >= size).count();
+
+        parents = new int[nodes];
+        Arrays.fill(parents, NONE);
+        for (int row = 0; row < size; row++) {
+            String manager = employees.get(row).getManager();
+            if (hasManager(manager)) {
+                parents[row] = managers.get(manager);
+            }
+        }
+
+        // Direct reports: count per manager, prefix sums, then fill in row order
+        firstReport = new int[nodes + 1];
+        directPayroll = new double[nodes];
+        for (int row = 0; row < size; row++) {
+            if (parents[row] != NONE) {
+                firstReport[parents[row] + 1]++;
+                directPayroll[parents[row]] += salaries[row];
+            }
+        }
+        for (int node = 0; node < nodes; node++) {
+            firstReport[node + 1] += firstReport[node];
+        }
+        reports = new int[firstReport[nodes]];
+        int[] next = Arrays.copyOf(firstReport, nodes);
+        for (int row = 0; row < size; row++) {
+            if (parents[row] != NONE) {
+                reports[next[parents[row]]++] = row;
+            }
+        }
+
+        int[] treeParents = parents.clone();
+        reach = breakCycles(parents, treeParents);
+
+        // Preorder over the forest; children are pushed in reverse so they come out in row order
+        preorder = new int[nodes];
+        position = new int[nodes];
+        int[] stack = new int[nodes];
+        int visited = 0;
+        for (int root = 0; root < nodes; root++) {
+            if (treeParents[root] != NONE) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = root;
+            while (top > 0) {
+                int node = stack[--top];
+                position[node] = visited;
+                preorder[visited++] = node;
+                for (int i = firstReport[node + 1] - 1; i >= firstReport[node]; i--) {
+                    if (treeParents[reports[i]] == node) {
+                        stack[top++] = reports[i];
+                    }
+                }
+            }
+        }
+
+        subtreeSize = new int[nodes];
+        subtreePayroll = new double[nodes];
+        for (int i = nodes - 1; i >= 0; i--) {
+            int node = preorder[i];
+            subtreeSize[node]++;
+            if (node < size) {
+                subtreePayroll[node] += salaries[node];
+            }
+            if (treeParents[node] != NONE) {
+                subtreeSize[treeParents[node]] += subtreeSize[node];
+                subtreePayroll[treeParents[node]] += subtreePayroll[node];
+            }
+        }
+
+        // Managers by direct report count, descending, ties in order of first appearance as a manager
+        long[] packed = new long[managers.size()];
+        String[] names = managers.keySet().toArray(new String[0]);
+        for (int i = 0; i < names.length; i++) {
+            int count = directCountOf(managers.get(names[i]));
+            packed[i] = ((long) (Integer.MAX_VALUE - count) << 32) | i;
+        }
+        Arrays.sort(packed);
+        ranked = new int[packed.length];
+        rankedNames = new String[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            rankedNames[i] = names[(int) packed[i]];
+            ranked[i] = managers.get(rankedNames[i]);
+        }
+    }
+
+    public static ManagerHierarchy of(List<Employee> employees) {
+        return new ManagerHierarchy(employees);
+    }
+
+    /**
+     * Number of employee rows indexed.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Row of the employee the manager name resolved to, or -1 when it matched no employee or
+     * manages no one.
+     */
+    public int managerRow(String manager) {
+        int node = node(manager);
+        return node < size ? node : NONE;
+    }
+
+    /**
+     * Row of the employee's direct manager, or -1 when the employee has none or the manager's
+     * name matched no employee.
+     */
+    public int managerOf(int row) {
+        int parent = parents[checkRow(row)];
+        return parent < size ? parent : NONE;
+    }
+
+    public int directReportCount(String manager) {
+        int node = node(manager);
+        return node == NONE ? 0 : directCountOf(node);
+    }
+
+    public int directReportCount(int row) {
+        return directCountOf(checkRow(row));
+    }
+
+    /**
+     * Rows reporting directly to the manager, in row order.
+     */
+    public int[] directReports(String manager) {
+        int node = node(manager);
+        return node == NONE ? new int[0] : directReportsOf(node);
+    }
+
+    public int[] directReports(int row) {
+        return directReportsOf(checkRow(row));
+    }
+
+    public double directPayroll(String manager) {
+        int node = node(manager);
+        return node == NONE ? 0.0 : directPayroll[node];
+    }
+
+    public double directPayroll(int row) {
+        return directPayroll[checkRow(row)];
+    }
+
+    /**
+     * Number of employees reporting to the manager directly or through other managers.
+     */
+    public int reportCount(String manager) {
+        int node = node(manager);
+        return node == NONE ? 0 : reportCountOf(node);
+    }
+
+    public int reportCount(int row) {
+        return reportCountOf(checkRow(row));
+    }
+
+    /**
+     * Rows reporting to the manager directly or indirectly, in preorder: each report is followed by
+     * everyone below them.
+     */
+    public int[] allReports(String manager) {
+        int node = node(manager);
+        return node == NONE ? new int[0] : allReportsOf(node);
+    }
+
+    public int[] allReports(int row) {
+        return allReportsOf(checkRow(row));
+    }
+
+    /**
+     * Total salary of everyone reporting to the manager directly or indirectly, excluding the
+     * manager's own.
+     */
+    public double totalPayroll(String manager) {
+        int node = node(manager);
+        return node == NONE ? 0.0 : totalPayrollOf(node);
+    }
+
+    public double totalPayroll(int row) {
+        return totalPayrollOf(checkRow(row));
+    }
+
+    /**
+     * Direct report counts of every manager name, largest first.
+     */
+    public Map<String, Long> directReportCounts() {
+        return managersWithMoreThan(0).stream()
+                .collect(Collectors.toMap(name -> name, name -> (long) directCountOf(managers.get(name)),
+                        (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * Manager names with more than the given number of direct reports, largest first.
+     */
+    public List<String> managersWithMoreThan(int directReports) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < ranked.length && directCountOf(ranked[i]) > directReports; i++) {
+            names.add(rankedNames[i]);
+        }
+        return names;
+    }
+
+    /**
+     * The manager name with the most direct reports, or null when nobody has a manager.
+     */
+    public String managerWithMostReports() {
+        return ranked.length == 0 ? null : rankedNames[0];
+    }
+
+    /**
+     * Employee ids of the given rows.
+     */
+    public int[] ids(int[] rows) {
+        int[] result = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            result[i] = ids[rows[i]];
+        }
+        return result;
+    }
+
+    private int node(String manager) {
+        Integer node = manager == null ? null : managers.get(manager);
+        return node == null ? NONE : node;
+    }
+
+    private int directCountOf(int node) {
+        return firstReport[node + 1] - firstReport[node];
+    }
+
+    private int[] directReportsOf(int node) {
+        return Arrays.copyOfRange(reports, firstReport[node], firstReport[node + 1]);
+    }
+
+    private int reportCountOf(int node) {
+        return subtreeSize[reach[node]] - 1;
+    }
+
+    private double totalPayrollOf(int node) {
+        return subtreePayroll[reach[node]] - (node < size ? salaries[node] : 0.0);
+    }
+
+    private int[] allReportsOf(int node) {
+        int root = reach[node];
+        int[] rows = new int[subtreeSize[root] - 1];
+        int n = 0;
+        int end = position[root] + subtreeSize[root];
+        // A loop member other than the root appears inside the root's range; leave it out
+        if (root != node) {
+            rows[n++] = root;
+        }
+        for (int i = position[root] + 1; i < end; i++) {
+            if (preorder[i] != node) {
+                rows[n++] = preorder[i];
+            }
+        }
+        return rows;
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of range for " + size + " employees");
+        }
+        return row;
+    }
+
+    private static boolean hasManager(String manager) {
+        return manager != null && !manager.isEmpty();
+    }
+
+    /**
+     * Maps each distinct manager name to the first row with that full name, or to a new virtual
+     * node numbered from {@code employees.size()}. Names are matched in place against first and
+     * last name, without building a full name per row.
+     */
+    private static Map<String, Integer> resolveManagers(List<Employee> employees) {
+        Map<String, Integer> managers = new LinkedHashMap<>();
+        // Candidate manager names keyed by the part before each space, which may be the first name
+        Map<String, List<String>> byFirstName = new HashMap<>();
+        for (Employee employee : employees) {
+            String manager = employee.getManager();
+            if (hasManager(manager) && managers.putIfAbsent(manager, NONE) == null) {
+                for (int space = manager.indexOf(' '); space >= 0; space = manager.indexOf(' ', space + 1)) {
+                    byFirstName.computeIfAbsent(manager.substring(0, space), first -> new ArrayList<>()).add(manager);
+                }
+            }
+        }
+        int unresolved = managers.size();
+        for (int row = 0; row < employees.size() && unresolved > 0; row++) {
+            Employee employee = employees.get(row);
+            List<String> candidates = employee.getFirstName() == null ? null : byFirstName.get(employee.getFirstName());
+            if (candidates == null || employee.getLastName() == null) {
+                continue;
+            }
+            int offset = employee.getFirstName().length() + 1;
+            for (String manager : candidates) {
+                if (manager.length() == offset + employee.getLastName().length()
+                        && manager.startsWith(employee.getLastName(), offset)
+                        && managers.get(manager) == NONE) {
+                    managers.put(manager, row);
+                    unresolved--;
+                }
+            }
+        }
+        int virtual = employees.size();
+        for (Map.Entry<String, Integer> entry : managers.entrySet()) {
+            if (entry.getValue() == NONE) {
+                entry.setValue(virtual++);
+            }
+        }
+        return managers;
+    }
+
+    /**
+     * Follows every node's chain of managers once. A chain that returns to a node already on it
+     * is a loop: that node is detached from its manager in {@code treeParents} and becomes the
+     * root whose range every member of the loop uses.
+     *
+     * @return for every node, the node whose preorder range holds its transitive reports
+     */
+    private static int[] breakCycles(int[] parents, int[] treeParents) {
+        int nodes = parents.length;
+        int[] reach = new int[nodes];
+        for (int node = 0; node < nodes; node++) {
+            reach[node] = node;
+        }
+        byte[] state = new byte[nodes];
+        int[] path = new int[nodes];
+        for (int start = 0; start < nodes; start++) {
+            int length = 0;
+            int node = start;
+            while (node != NONE && state[node] == 0) {
+                state[node] = 1;
+                path[length++] = node;
+                node = parents[node];
+            }
+            if (node != NONE && state[node] == 1) {
+                treeParents[node] = NONE;
+                for (int i = length - 1; path[i] != node; i--) {
+                    reach[path[i]] = node;
+                }
+            }
+            for (int i = 0; i < length; i++) {
+                state[path[i]] = 2;
+            }
+        }
+        return reach;
+    }
+}
@@ -0,0 +1,87 @@
+package com.backend.engineering.index;
+
+import com.backend.engineering.data.Dimension;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+
+/**
+ * A predicate over the categorical columns, evaluated to a row bitmap by a {@link BitmapIndex}.
+ * String predicates such as {@link #contains} are checked against the distinct values only, never
+ * against rows.
+ */
+@FunctionalInterface
+public interface RowFilter {
+
+    RoaringBitmap evaluate(BitmapIndex index);
+
+    static RowFilter eq(Dimension dimension, String value) {
+        return index -> index.rows(dimension, value).clone();
+    }
+
+    static RowFilter in(Dimension dimension, String... values) {
+        return index -> {
+            RoaringBitmap rows = new RoaringBitmap();
+            for (String value : values) {
+                rows.or(index.rows(dimension, value));
+            }
+            return rows;
+        };
+    }
+
+    static RowFilter contains(Dimension dimension, String text) {
+        return index -> {
+            RoaringBitmap rows = new RoaringBitmap();
+            for (String value : index.values(dimension)) {
+                if (value != null && value.contains(text)) {
+                    rows.or(index.rows(dimension, value));
+                }
+            }
+            return rows;
+        };
+    }
+
+    static RowFilter all(RowFilter... filters) {
+        return index -> Arrays.stream(filters)
+                .map(filter -> filter.evaluate(index))
+                .reduce((left, right) -> {
+                    left.and(right);
+                    return left;
+                })
+                .orElseGet(index::allRows);
+    }
+
+    static RowFilter any(RowFilter... filters) {
+        return index -> {
+            RoaringBitmap rows = new RoaringBitmap();
+            for (RowFilter filter : filters) {
+                rows.or(filter.evaluate(index));
+            }
+            return rows;
+        };
+    }
+
+    default RowFilter and(RowFilter other) {
+        return all(this, other);
+    }
+
+    default RowFilter or(RowFilter other) {
+        return any(this, other);
+    }
+
+    default RowFilter andNot(RowFilter other) {
+        return index -> {
+            RoaringBitmap rows = evaluate(index);
+            rows.andNot(other.evaluate(index));
+            return rows;
+        };
+    }
+
+    default RowFilter negate() {
+        return index -> {
+            RoaringBitmap rows = evaluate(index);
+            rows.flip(0L, index.rowCount());
+            return rows;
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package com.backend.engineering.ingest;
+
+import com.backend.engineering.data.CsvTailer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Tails an employee CSV and folds every appended row into {@link IncrementalAggregates}.
+ * <p>
+ * {@link #start()} watches the file's directory and ingests on each change, also polling at a fixed
+ * interval since file watching is best-effort on some file systems. {@link #ingest()} can be
+ * called directly instead. When the file is truncated or replaced, the aggregates are rebuilt from
+ * the new content. Malformed rows are skipped by the {@link CsvTailer}; I/O failures while watching
+ * are logged and retried on the next change or interval.
+ */
+public class AppendIngestor implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(AppendIngestor.class);
+
+    private final CsvTailer tailer;
+    private final IncrementalAggregates aggregates;
+    private final Consumer<CsvTailer.Batch> listener;
+    private final Duration pollInterval;
+
+    private volatile boolean running;
+    private boolean closed;
+    private Thread thread;
+    private WatchService watchService;
+
+    /**
+     * @param listener called with every non-empty batch, after the aggregates include it
+     */
+    public AppendIngestor(Path path, IncrementalAggregates aggregates, Consumer<CsvTailer.Batch> listener,
+                          Duration pollInterval) {
+        this.tailer = new CsvTailer(path);
+        this.aggregates = aggregates;
+        this.listener = listener;
+        this.pollInterval = pollInterval;
+    }
+
+    public AppendIngestor(Path path, IncrementalAggregates aggregates) {
+        this(path, aggregates, batch -> { }, Duration.ofSeconds(1));
+    }
+
+    /**
+     * Ingests whatever has been appended since the last call.
+     */
+    public synchronized CsvTailer.Batch ingest() throws IOException {
+        if (closed) {
+            return new CsvTailer.Batch(List.of(), false, tailer.offset());
+        }
+        CsvTailer.Batch batch = tailer.poll();
+        if (batch.reset()) {
+            aggregates.clear();
+        }
+        aggregates.addAll(batch.employees());
+        if (!batch.isEmpty() || batch.reset()) {
+            listener.accept(batch);
+        }
+        return batch;
+    }
+
+    public synchronized void start() throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Ingestor is closed");
+        }
+        if (running) {
+            return;
+        }
+        Path path = tailer.getPath().toAbsolutePath();
+        watchService = FileSystems.getDefault().newWatchService();
+        path.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        running = true;
+        WatchService watcher = watchService;
+        thread = new Thread(() -> watch(watcher), "csv-ingest-" + path.getFileName());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watch(WatchService watcher) {
+        boolean failing = false;
+        while (running) {
+            try {
+                ingest();
+                if (failing) {
+                    log.info("Reading {} again", tailer.getPath());
+                    failing = false;
+                }
+                WatchKey key = watcher.poll(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    // Changes to other files in the directory only cost an empty poll
+                    key.pollEvents();
+                    key.reset();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            } catch (NoSuchFileException e) {
+                // Mid-rotation: the new file shows up as a change
+                log.debug("{} is missing, waiting for it", tailer.getPath());
+            } catch (IOException e) {
+                // Log once per run of failures rather than on every interval
+                if (!failing) {
+                    log.warn("Reading {} failed, retrying: {}", tailer.getPath(), e.toString());
+                    failing = true;
+                }
+            }
+        }
+    }
+
+    public IncrementalAggregates getAggregates() {
+        return aggregates;
+    }
+
+    public long offset() {
+        return tailer.offset();
+    }
+
+    @Override
+    public void close() throws IOException {
+        Thread watcher;
+        synchronized (this) {
+            running = false;
+            closed = true;
+            watcher = thread;
+            thread = null;
+            if (watchService != null) {
+                watchService.close();
+                watchService = null;
+            }
+        }
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+    }
+}
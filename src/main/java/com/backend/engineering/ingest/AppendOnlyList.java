@@ -0,0 +1,74 @@
+package com.backend.engineering.ingest;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list that shares its storage with the lists appended from it. Elements are kept in
+ * fixed-size chunks, so {@link #append} copies only the chunk directory and the last partial chunk
+ * before adding the new elements, not the elements already held.
+ */
+public final class AppendOnlyList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final Object[][] NO_CHUNKS = new Object[0][];
+
+    private final Object[][] chunks;
+    private final int size;
+
+    private AppendOnlyList(Object[][] chunks, int size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    public static <E> AppendOnlyList<E> empty() {
+        return new AppendOnlyList<>(NO_CHUNKS, 0);
+    }
+
+    public static <E> AppendOnlyList<E> of(List<? extends E> elements) {
+        return AppendOnlyList.<E>empty().append(elements);
+    }
+
+    /**
+     * Returns a list of these elements followed by the given ones; this list is unchanged.
+     */
+    public AppendOnlyList<E> append(List<? extends E> elements) {
+        if (elements.isEmpty()) {
+            return this;
+        }
+        int newSize = Math.addExact(size, elements.size());
+        Object[][] grown = Arrays.copyOf(chunks, ((newSize - 1) >>> CHUNK_BITS) + 1);
+        int partial = size & (CHUNK_SIZE - 1);
+        if (partial != 0) {
+            // Later lists write past the end of the last chunk, so it cannot stay shared
+            int last = size >>> CHUNK_BITS;
+            grown[last] = Arrays.copyOf(chunks[last], CHUNK_SIZE);
+        }
+        int index = size;
+        for (E element : elements) {
+            int chunk = index >>> CHUNK_BITS;
+            if (grown[chunk] == null) {
+                grown[chunk] = new Object[CHUNK_SIZE];
+            }
+            grown[chunk][index & (CHUNK_SIZE - 1)] = element;
+            index++;
+        }
+        return new AppendOnlyList<>(grown, newSize);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) chunks[index >>> CHUNK_BITS][index & (CHUNK_SIZE - 1)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
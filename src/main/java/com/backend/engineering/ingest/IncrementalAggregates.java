@@ -0,0 +1,106 @@
+package com.backend.engineering.ingest;
+
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Materialized salary statistics, overall and per department, position and manager, kept up to
+ * date as rows arrive. Appending costs one hash update per dimension; reads touch only the groups,
+ * never the rows. Rows with no value for a dimension are grouped under the empty string.
+ */
+public class IncrementalAggregates {
+
+    private final RunningStats total = new RunningStats();
+    private final Map<Dimension, Map<String, RunningStats>> groups = new EnumMap<>(Dimension.class);
+
+    public IncrementalAggregates() {
+        for (Dimension dimension : Dimension.values()) {
+            groups.put(dimension, new HashMap<>());
+        }
+    }
+
+    public synchronized void add(Employee employee) {
+        double salary = employee.getSalary();
+        total.add(salary);
+        for (Map.Entry<Dimension, Map<String, RunningStats>> entry : groups.entrySet()) {
+            String key = Objects.toString(entry.getKey().of(employee), "");
+            entry.getValue().computeIfAbsent(key, k -> new RunningStats()).add(salary);
+        }
+    }
+
+    public synchronized void addAll(Iterable<Employee> employees) {
+        for (Employee employee : employees) {
+            add(employee);
+        }
+    }
+
+    public synchronized void clear() {
+        total.reset();
+        groups.values().forEach(Map::clear);
+    }
+
+    public synchronized RunningStats total() {
+        return total.copy();
+    }
+
+    public synchronized long count() {
+        return total.getCount();
+    }
+
+    public synchronized double totalSalary() {
+        return total.getSum();
+    }
+
+    public synchronized double averageSalary() {
+        return total.getAverage();
+    }
+
+    /**
+     * Copy of the per-group statistics, sorted by group.
+     */
+    public synchronized Map<String, RunningStats> stats(Dimension dimension) {
+        Map<String, RunningStats> copy = new TreeMap<>();
+        groups.get(dimension).forEach((key, stats) -> copy.put(key, stats.copy()));
+        return copy;
+    }
+
+    public Map<String, Long> countBy(Dimension dimension) {
+        return mapStats(dimension, RunningStats::getCount);
+    }
+
+    public Map<String, Double> totalSalaryBy(Dimension dimension) {
+        return mapStats(dimension, RunningStats::getSum);
+    }
+
+    public Map<String, Double> averageSalaryBy(Dimension dimension) {
+        return mapStats(dimension, RunningStats::getAverage);
+    }
+
+    public Map<String, Double> minSalaryBy(Dimension dimension) {
+        return mapStats(dimension, RunningStats::getMin);
+    }
+
+    public Map<String, Double> maxSalaryBy(Dimension dimension) {
+        return mapStats(dimension, RunningStats::getMax);
+    }
+
+    public synchronized Optional<String> highestTotalSalary(Dimension dimension) {
+        return groups.get(dimension).entrySet().stream()
+                .max(Map.Entry.comparingByValue((a, b) -> Double.compare(a.getSum(), b.getSum())))
+                .map(Map.Entry::getKey);
+    }
+
+    private synchronized <V> Map<String, V> mapStats(Dimension dimension, Function<RunningStats, V> value) {
+        Map<String, V> result = new TreeMap<>();
+        groups.get(dimension).forEach((key, stats) -> result.put(key, value.apply(stats)));
+        return result;
+    }
+}
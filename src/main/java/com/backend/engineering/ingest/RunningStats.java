@@ -0,0 +1,65 @@
+package com.backend.engineering.ingest;
+
+/**
+ * Count, sum, min and max of salaries, updated one row at a time.
+ */
+public final class RunningStats {
+
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public void add(double salary) {
+        count++;
+        sum += salary;
+        min = Math.min(min, salary);
+        max = Math.max(max, salary);
+    }
+
+    public void merge(RunningStats other) {
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public void reset() {
+        count = 0;
+        sum = 0.0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+    }
+
+    public RunningStats copy() {
+        RunningStats copy = new RunningStats();
+        copy.merge(this);
+        return copy;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMin() {
+        return count == 0 ? 0.0 : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? 0.0 : max;
+    }
+
+    public double getAverage() {
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    @Override
+    public String toString() {
+        return "RunningStats(count=" + count + ", sum=" + sum + ", min=" + getMin() + ", max=" + getMax()
+                + ", average=" + getAverage() + ")";
+    }
+}
@@ -0,0 +1,61 @@
+package com.backend.engineering.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes operation samples as Micrometer meters tagged with the operation name:
+ * <ul>
+ *     <li>{@code employees.operation} timer with a percentile histogram</li>
+ *     <li>{@code employees.operation.rows}, {@code employees.operation.bytes} and
+ *     {@code employees.operation.allocated} distribution summaries</li>
+ * </ul>
+ */
+public class MicrometerOperationRecorder implements OperationRecorder {
+
+    private final MeterRegistry registry;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public MicrometerOperationRecorder(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void record(OperationSample sample) {
+        Meters operation = meters.computeIfAbsent(sample.operation(), this::register);
+        operation.time.record(sample.wallNanos(), TimeUnit.NANOSECONDS);
+        operation.rows.record(sample.rows());
+        operation.bytes.record(sample.bytes());
+        if (sample.allocatedBytes() >= 0) {
+            operation.allocated.record(sample.allocatedBytes());
+        }
+    }
+
+    private Meters register(String operation) {
+        return new Meters(
+                Timer.builder("employees.operation")
+                        .description("Wall time of ingest and query operations")
+                        .tag("operation", operation)
+                        .publishPercentileHistogram()
+                        .register(registry),
+                summary("employees.operation.rows", "rows", operation),
+                summary("employees.operation.bytes", "bytes", operation),
+                summary("employees.operation.allocated", "bytes", operation));
+    }
+
+    private DistributionSummary summary(String name, String unit, String operation) {
+        return DistributionSummary.builder(name)
+                .baseUnit(unit)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private record Meters(Timer time, DistributionSummary rows, DistributionSummary bytes, DistributionSummary allocated) {
+    }
+}
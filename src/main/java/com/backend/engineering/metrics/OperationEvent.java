@@ -0,0 +1,34 @@
+package com.backend.engineering.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one instrumented operation. Disabled unless a recording enables
+ * {@code com.backend.engineering.Operation}, in which case it costs one event per operation.
+ */
+@Name("com.backend.engineering.Operation")
+@Label("Employee Operation")
+@Category({"Employee Analytics"})
+@Description("An instrumented ingest or query operation")
+@StackTrace(false)
+class OperationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Rows")
+    long rows;
+
+    @Label("Bytes Parsed")
+    @DataAmount
+    long bytes;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
@@ -0,0 +1,143 @@
+package com.backend.engineering.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Measures ingest and query operations: wall time, rows and bytes processed, and bytes allocated
+ * by the calling thread. Samples always feed the in-process {@link OperationStatistics}, go to any
+ * added {@link OperationRecorder} such as a Micrometer binding, and are emitted as JFR
+ * {@code com.backend.engineering.Operation} events when a recording enables them.
+ * <p>
+ * Allocation is read from the per-thread counter of {@code com.sun.management.ThreadMXBean}, so
+ * it covers only the thread that started the probe, not work handed to other threads.
+ */
+public final class OperationMetrics {
+
+    private static final OperationMetrics GLOBAL = new OperationMetrics();
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+    private final OperationStatistics statistics = new OperationStatistics();
+    private final List<OperationRecorder> recorders = new CopyOnWriteArrayList<>();
+    private volatile boolean jfrEvents = true;
+
+    public OperationMetrics() {
+        recorders.add(statistics);
+    }
+
+    /**
+     * The instance that {@code CsvReader}, the loaders and the query layers report to.
+     */
+    public static OperationMetrics global() {
+        return GLOBAL;
+    }
+
+    public OperationStatistics statistics() {
+        return statistics;
+    }
+
+    public void addRecorder(OperationRecorder recorder) {
+        recorders.add(recorder);
+    }
+
+    public void removeRecorder(OperationRecorder recorder) {
+        recorders.remove(recorder);
+    }
+
+    public void setJfrEvents(boolean enabled) {
+        this.jfrEvents = enabled;
+    }
+
+    public Probe start(String operation) {
+        return new Probe(operation);
+    }
+
+    public <T> T measure(String operation, long rows, Supplier<T> action) {
+        try (Probe probe = start(operation)) {
+            probe.rows(rows);
+            return action.get();
+        }
+    }
+
+    /**
+     * Bytes allocated so far by the current thread, or -1 if the JVM does not support it.
+     */
+    public static long allocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    private void record(OperationSample sample) {
+        for (OperationRecorder recorder : recorders) {
+            recorder.record(sample);
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        }
+        return null;
+    }
+
+    /**
+     * One running operation; closing it records the sample. Must be closed on the thread that
+     * started it for the allocation figure to be meaningful.
+     */
+    public final class Probe implements AutoCloseable {
+
+        private final String operation;
+        private final long startNanos;
+        private final long startAllocated;
+        private final OperationEvent event;
+        private long rows;
+        private long bytes;
+        private boolean closed;
+
+        private Probe(String operation) {
+            this.operation = operation;
+            this.event = jfrEvents ? new OperationEvent() : null;
+            if (event != null) {
+                event.begin();
+            }
+            this.startAllocated = allocatedBytes();
+            this.startNanos = System.nanoTime();
+        }
+
+        public Probe rows(long rows) {
+            this.rows = rows;
+            return this;
+        }
+
+        public Probe addRows(long rows) {
+            this.rows += rows;
+            return this;
+        }
+
+        public Probe bytes(long bytes) {
+            this.bytes = bytes;
+            return this;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            long wallNanos = System.nanoTime() - startNanos;
+            long allocated = startAllocated < 0 ? -1 : allocatedBytes() - startAllocated;
+            if (event != null && event.shouldCommit()) {
+                event.operation = operation;
+                event.rows = rows;
+                event.bytes = bytes;
+                event.allocatedBytes = allocated;
+                event.commit();
+            }
+            record(new OperationSample(operation, wallNanos, rows, bytes, allocated));
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.backend.engineering.metrics;
+
+/**
+ * Receives every {@link OperationSample} recorded through {@link OperationMetrics}.
+ */
+@FunctionalInterface
+public interface OperationRecorder {
+
+    void record(OperationSample sample);
+}
@@ -0,0 +1,16 @@
+package com.backend.engineering.metrics;
+
+/**
+ * Measurements of one run of an operation. Row and byte counts are 0 when the operation does not
+ * report them, and allocated bytes are -1 when the JVM cannot measure per-thread allocation.
+ */
+public record OperationSample(String operation, long wallNanos, long rows, long bytes, long allocatedBytes) {
+
+    public double rowsPerSecond() {
+        return wallNanos == 0 ? 0.0 : rows * 1e9 / wallNanos;
+    }
+
+    public double bytesPerSecond() {
+        return wallNanos == 0 ? 0.0 : bytes * 1e9 / wallNanos;
+    }
+}
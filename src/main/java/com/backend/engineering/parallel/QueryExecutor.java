@@ -0,0 +1,105 @@
+package com.backend.engineering.parallel;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs stream queries on a dedicated ForkJoinPool instead of the common pool, which is shared with
+ * everything else in the JVM. A parallel stream's terminal operation runs in the pool of the task
+ * that invokes it, so each query is submitted to this pool as a task.
+ * <p>
+ * Inputs smaller than the threshold run sequentially on the calling thread, where splitting and
+ * merging would cost more than they save. Larger inputs are split through a SIZED|SUBSIZED
+ * spliterator, so every split is an exact half and the work stays balanced across workers.
+ */
+public final class QueryExecutor implements AutoCloseable {
+
+    public static final int DEFAULT_THRESHOLD = 20_000;
+
+    private static final AtomicInteger POOLS = new AtomicInteger();
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * @param parallelism worker threads, or 0 for one per available processor
+     * @param threshold   smallest input size run in parallel
+     */
+    public QueryExecutor(int parallelism, int threshold) {
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("parallelism must not be negative: " + parallelism);
+        }
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must not be negative: " + threshold);
+        }
+        int threads = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+        String prefix = "employee-query-" + POOLS.incrementAndGet() + "-";
+        this.pool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(prefix + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+        this.threshold = threshold;
+    }
+
+    public QueryExecutor() {
+        this(0, DEFAULT_THRESHOLD);
+    }
+
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    public int threshold() {
+        return threshold;
+    }
+
+    public boolean isParallel(int size) {
+        return size >= threshold && pool.getParallelism() > 1;
+    }
+
+    /**
+     * Applies the query to a stream over the data, parallel on this executor's pool when the data
+     * reaches the threshold. Runtime exceptions thrown by the query propagate to the caller.
+     */
+    public <T, R> R execute(List<T> data, Function<? super Stream<T>, ? extends R> query) {
+        if (!isParallel(data.size())) {
+            return query.apply(data.stream());
+        }
+        Stream<T> stream = StreamSupport.stream(spliterator(data), true);
+        if (ForkJoinTask.getPool() == pool) {
+            return query.apply(stream);
+        }
+        return pool.submit(() -> query.apply(stream)).join();
+    }
+
+    /**
+     * The list's own spliterator when it splits into exact halves, as ArrayList's does; otherwise a
+     * copy of the list behind an array spliterator. LinkedList reports SUBSIZED too, but splits off
+     * growing batches, so only random-access lists are used as they are.
+     */
+    static <T> Spliterator<T> spliterator(List<T> data) {
+        if (data instanceof RandomAccess) {
+            Spliterator<T> spliterator = data.spliterator();
+            if (spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)) {
+                return spliterator;
+            }
+        }
+        return Spliterators.spliterator(data.toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,20 @@
+package com.backend.engineering.report;
+
+import com.backend.engineering.data.Employee;
+
+import java.util.function.Consumer;
+
+/**
+ * A query that needs first-scan results before it can look at rows, such as "above average".
+ * All dependent queries of a report share one second scan.
+ */
+@FunctionalInterface
+public non-sealed interface DependentQuery<R> extends ReportQuery<R> {
+
+    SecondPass<R> secondPass(ScanResult scan);
+
+    interface SecondPass<R> extends Consumer<Employee> {
+
+        R finish();
+    }
+}
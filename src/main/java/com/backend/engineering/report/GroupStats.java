@@ -0,0 +1,55 @@
+package com.backend.engineering.report;
+
+import com.backend.engineering.data.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-group aggregates gathered during the first scan.
+ */
+public final class GroupStats {
+
+    private long count;
+    private double salarySum;
+    private Employee highestPaid;
+    private final List<String> firstNames;
+
+    GroupStats(boolean collectFirstNames) {
+        this.firstNames = collectFirstNames ? new ArrayList<>() : null;
+    }
+
+    void add(Employee employee) {
+        count++;
+        salarySum += employee.getSalary();
+        if (highestPaid == null || employee.getSalary() > highestPaid.getSalary()) {
+            highestPaid = employee;
+        }
+        if (firstNames != null) {
+            firstNames.add(employee.getFirstName());
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSalarySum() {
+        return salarySum;
+    }
+
+    public double getAverageSalary() {
+        return count == 0 ? 0.0 : salarySum / count;
+    }
+
+    public Employee getHighestPaid() {
+        return highestPaid;
+    }
+
+    /**
+     * First names in scan order, or {@code null} if the plan did not ask for them.
+     */
+    public List<String> getFirstNames() {
+        return firstNames;
+    }
+}
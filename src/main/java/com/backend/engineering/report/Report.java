@@ -0,0 +1,37 @@
+package com.backend.engineering.report;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Results of a {@link ReportEngine} run, by query name in registration order.
+ */
+public final class Report {
+
+    private final Map<String, Object> results;
+    private final int scans;
+
+    Report(Map<String, Object> results, int scans) {
+        this.results = Collections.unmodifiableMap(results);
+        this.scans = scans;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> R get(String name) {
+        if (!results.containsKey(name)) {
+            throw new IllegalArgumentException("No query registered as " + name);
+        }
+        return (R) results.get(name);
+    }
+
+    public Map<String, Object> asMap() {
+        return results;
+    }
+
+    /**
+     * Number of full scans over the data the run needed: one, or two with dependent queries.
+     */
+    public int getScans() {
+        return scans;
+    }
+}
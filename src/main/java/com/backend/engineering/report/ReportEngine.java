@@ -0,0 +1,63 @@
+package com.backend.engineering.report;
+
+import com.backend.engineering.data.Employee;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs a set of registered queries together. One scan computes the global aggregates plus every
+ * grouping any query asked for; a second scan runs only if dependent queries are registered.
+ */
+public final class ReportEngine {
+
+    private final Map<String, ReportQuery<?>> queries = new LinkedHashMap<>();
+
+    public ReportEngine register(String name, ReportQuery<?> query) {
+        if (queries.putIfAbsent(name, query) != null) {
+            throw new IllegalArgumentException("Query already registered: " + name);
+        }
+        return this;
+    }
+
+    /**
+     * Runs the registered queries over the employees. Takes a list rather than any iterable because
+     * dependent queries read the rows a second time.
+     */
+    public Report run(List<Employee> employees) {
+        ScanPlan plan = new ScanPlan();
+        queries.values().forEach(query -> query.plan(plan));
+
+        ScanResult scan = new ScanResult(plan);
+        for (Employee employee : employees) {
+            scan.add(employee);
+        }
+        int scans = 1;
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        Map<String, DependentQuery.SecondPass<?>> secondPasses = new LinkedHashMap<>();
+        for (Map.Entry<String, ReportQuery<?>> entry : queries.entrySet()) {
+            if (entry.getValue() instanceof ScanQuery<?> query) {
+                results.put(entry.getKey(), query.result(scan));
+            } else if (entry.getValue() instanceof DependentQuery<?> dependent) {
+                secondPasses.put(entry.getKey(), dependent.secondPass(scan));
+                results.put(entry.getKey(), null);
+            }
+        }
+
+        if (!secondPasses.isEmpty()) {
+            List<DependentQuery.SecondPass<?>> passes = new ArrayList<>(secondPasses.values());
+            for (Employee employee : employees) {
+                for (DependentQuery.SecondPass<?> pass : passes) {
+                    pass.accept(employee);
+                }
+            }
+            secondPasses.forEach((name, pass) -> results.put(name, pass.finish()));
+            scans++;
+        }
+
+        return new Report(results, scans);
+    }
+}
@@ -0,0 +1,162 @@
+package com.backend.engineering.report;
+
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Factory methods for the report queries, mirroring the operations in EmployeeStreamOperations.
+ */
+public final class ReportQueries {
+
+    private ReportQueries() {
+    }
+
+    public static ScanQuery<Long> employeeCount() {
+        return ScanResult::getCount;
+    }
+
+    public static ScanQuery<Double> totalSalary() {
+        return ScanResult::getSalarySum;
+    }
+
+    public static ScanQuery<Double> averageSalary() {
+        return ScanResult::getAverageSalary;
+    }
+
+    public static ScanQuery<Employee> highestEarner() {
+        return ScanResult::getHighestEarner;
+    }
+
+    public static ScanQuery<Employee> earliestHired() {
+        return hireDateQuery(ScanResult::getEarliestHired);
+    }
+
+    public static ScanQuery<LocalDate> oldestHireDate() {
+        return hireDateQuery(ScanResult::getOldestHireDate);
+    }
+
+    public static ScanQuery<LocalDate> newestHireDate() {
+        return hireDateQuery(ScanResult::getNewestHireDate);
+    }
+
+    public static ScanQuery<Map<String, Long>> countBy(Dimension dimension) {
+        return groupQuery(dimension, groups -> mapValues(groups, GroupStats::getCount));
+    }
+
+    public static ScanQuery<Map<String, Double>> totalSalaryBy(Dimension dimension) {
+        return groupQuery(dimension, groups -> mapValues(groups, GroupStats::getSalarySum));
+    }
+
+    public static ScanQuery<Map<String, Double>> averageSalaryBy(Dimension dimension) {
+        return groupQuery(dimension, groups -> mapValues(groups, GroupStats::getAverageSalary));
+    }
+
+    public static ScanQuery<Map<String, Optional<Employee>>> highestPaidBy(Dimension dimension) {
+        return groupQuery(dimension, groups -> mapValues(groups, stats -> Optional.ofNullable(stats.getHighestPaid())));
+    }
+
+    public static ScanQuery<String> largestBy(Dimension dimension) {
+        return groupQuery(dimension, groups -> argMax(groups, GroupStats::getCount));
+    }
+
+    public static ScanQuery<String> highestAverageSalaryBy(Dimension dimension) {
+        return groupQuery(dimension, groups -> argMax(groups, GroupStats::getAverageSalary));
+    }
+
+    public static ScanQuery<String> highestTotalSalaryBy(Dimension dimension) {
+        return groupQuery(dimension, groups -> argMax(groups, GroupStats::getSalarySum));
+    }
+
+    public static ScanQuery<List<String>> groupsLargerThan(Dimension dimension, long size) {
+        return groupQuery(dimension, groups -> groups.entrySet().stream()
+                .filter(entry -> entry.getValue().getCount() > size)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList()));
+    }
+
+    public static ScanQuery<Map<String, List<String>>> firstNamesBy(Dimension dimension) {
+        return new ScanQuery<>() {
+            @Override
+            public void plan(ScanPlan plan) {
+                plan.firstNamesBy(dimension);
+            }
+
+            @Override
+            public Map<String, List<String>> result(ScanResult scan) {
+                return mapValues(scan.groups(dimension), GroupStats::getFirstNames);
+            }
+        };
+    }
+
+    public static DependentQuery<List<Employee>> aboveAverageSalary() {
+        return scan -> {
+            double average = scan.getAverageSalary();
+            List<Employee> matches = new ArrayList<>();
+            return new DependentQuery.SecondPass<>() {
+                @Override
+                public void accept(Employee employee) {
+                    if (employee.getSalary() > average) {
+                        matches.add(employee);
+                    }
+                }
+
+                @Override
+                public List<Employee> finish() {
+                    return matches;
+                }
+            };
+        };
+    }
+
+    private static <R> ScanQuery<R> hireDateQuery(Function<ScanResult, R> extractor) {
+        return new ScanQuery<>() {
+            @Override
+            public void plan(ScanPlan plan) {
+                plan.hireDates();
+            }
+
+            @Override
+            public R result(ScanResult scan) {
+                return extractor.apply(scan);
+            }
+        };
+    }
+
+    private static <R> ScanQuery<R> groupQuery(Dimension dimension, Function<Map<String, GroupStats>, R> extractor) {
+        return new ScanQuery<>() {
+            @Override
+            public void plan(ScanPlan plan) {
+                plan.groupBy(dimension);
+            }
+
+            @Override
+            public R result(ScanResult scan) {
+                return extractor.apply(scan.groups(dimension));
+            }
+        };
+    }
+
+    private static <V> Map<String, V> mapValues(Map<String, GroupStats> groups, Function<GroupStats, V> mapper) {
+        Map<String, V> values = new HashMap<>();
+        groups.forEach((key, stats) -> values.put(key, mapper.apply(stats)));
+        return values;
+    }
+
+    private static String argMax(Map<String, GroupStats> groups, ToDoubleFunction<GroupStats> metric) {
+        return groups.entrySet().stream()
+                .max(Comparator.comparingDouble(entry -> metric.applyAsDouble(entry.getValue())))
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,14 @@
+package com.backend.engineering.report;
+
+/**
+ * A query registered with a {@link ReportEngine}: either a {@link ScanQuery} answered from the
+ * shared first-scan aggregates, or a {@link DependentQuery} that needs a second scan.
+ */
+public sealed interface ReportQuery<R> permits ScanQuery, DependentQuery {
+
+    /**
+     * Declares the shared aggregates this query reads.
+     */
+    default void plan(ScanPlan plan) {
+    }
+}
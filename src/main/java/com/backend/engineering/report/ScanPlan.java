@@ -0,0 +1,45 @@
+package com.backend.engineering.report;
+
+import com.backend.engineering.data.Dimension;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The shared aggregates the registered queries need from the first scan. Queries only declare what
+ * they read; the engine computes each grouping once no matter how many queries ask for it.
+ */
+public final class ScanPlan {
+
+    private final Set<Dimension> groupings = EnumSet.noneOf(Dimension.class);
+    private final Set<Dimension> firstNames = EnumSet.noneOf(Dimension.class);
+    private boolean hireDates;
+
+    public ScanPlan groupBy(Dimension dimension) {
+        groupings.add(dimension);
+        return this;
+    }
+
+    public ScanPlan firstNamesBy(Dimension dimension) {
+        groupings.add(dimension);
+        firstNames.add(dimension);
+        return this;
+    }
+
+    public ScanPlan hireDates() {
+        hireDates = true;
+        return this;
+    }
+
+    Set<Dimension> groupings() {
+        return groupings;
+    }
+
+    boolean collectsFirstNames(Dimension dimension) {
+        return firstNames.contains(dimension);
+    }
+
+    boolean needsHireDates() {
+        return hireDates;
+    }
+}
@@ -0,0 +1,10 @@
+package com.backend.engineering.report;
+
+/**
+ * A query answered from the shared first-scan aggregates.
+ */
+@FunctionalInterface
+public non-sealed interface ScanQuery<R> extends ReportQuery<R> {
+
+    R result(ScanResult scan);
+}
@@ -0,0 +1,92 @@
+package com.backend.engineering.report;
+
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.data.HireDates;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Everything computed by the first scan, shared by all queries of a report run.
+ */
+public final class ScanResult {
+
+    private final ScanPlan plan;
+    private long count;
+    private double salarySum;
+    private Employee highestEarner;
+    private Employee earliestHired;
+    private int minHireEpochDay = Integer.MAX_VALUE;
+    private int maxHireEpochDay = Integer.MIN_VALUE;
+    private final Map<Dimension, Map<String, GroupStats>> groups = new EnumMap<>(Dimension.class);
+
+    ScanResult(ScanPlan plan) {
+        this.plan = plan;
+        for (Dimension dimension : plan.groupings()) {
+            groups.put(dimension, new HashMap<>());
+        }
+    }
+
+    void add(Employee employee) {
+        count++;
+        salarySum += employee.getSalary();
+        if (highestEarner == null || employee.getSalary() > highestEarner.getSalary()) {
+            highestEarner = employee;
+        }
+        if (plan.needsHireDates()) {
+            int hireEpochDay = employee.getHireEpochDay();
+            if (hireEpochDay != HireDates.UNKNOWN) {
+                if (hireEpochDay < minHireEpochDay) {
+                    minHireEpochDay = hireEpochDay;
+                    earliestHired = employee;
+                }
+                maxHireEpochDay = Math.max(maxHireEpochDay, hireEpochDay);
+            }
+        }
+        for (Map.Entry<Dimension, Map<String, GroupStats>> entry : groups.entrySet()) {
+            Dimension dimension = entry.getKey();
+            entry.getValue()
+                    .computeIfAbsent(dimension.of(employee), key -> new GroupStats(plan.collectsFirstNames(dimension)))
+                    .add(employee);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSalarySum() {
+        return salarySum;
+    }
+
+    public double getAverageSalary() {
+        return count == 0 ? 0.0 : salarySum / count;
+    }
+
+    public Employee getHighestEarner() {
+        return highestEarner;
+    }
+
+    public Employee getEarliestHired() {
+        return earliestHired;
+    }
+
+    public LocalDate getOldestHireDate() {
+        return earliestHired == null ? null : LocalDate.ofEpochDay(minHireEpochDay);
+    }
+
+    public LocalDate getNewestHireDate() {
+        return earliestHired == null ? null : LocalDate.ofEpochDay(maxHireEpochDay);
+    }
+
+    public Map<String, GroupStats> groups(Dimension dimension) {
+        Map<String, GroupStats> grouped = groups.get(dimension);
+        if (grouped == null) {
+            throw new IllegalStateException("No query planned a grouping by " + dimension);
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,37 @@
+package com.backend.engineering.sketch;
+
+/**
+ * 64-bit hashing for sketch keys. Strings are hashed over their chars (FNV-1a), other keys from
+ * their hashCode, and the result is run through a 64-bit finalizer so every bit is well mixed.
+ */
+final class Hashing {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Hashing() {
+    }
+
+    static long hash64(Object key) {
+        if (key == null) {
+            return mix64(0);
+        }
+        if (key instanceof CharSequence text) {
+            long hash = FNV_OFFSET;
+            for (int i = 0; i < text.length(); i++) {
+                hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+            }
+            return mix64(hash);
+        }
+        if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+            return mix64(((Number) key).longValue());
+        }
+        return mix64(key.hashCode());
+    }
+
+    static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
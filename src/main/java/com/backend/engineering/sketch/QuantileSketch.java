@@ -0,0 +1,217 @@
+package com.backend.engineering.sketch;
+
+import com.backend.engineering.collectors.DoubleList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * KLL quantile sketch. Values live in a hierarchy of compactors where an item at level h stands
+ * for 2^h inputs; when the sketch is full, the lowest full level is sorted and every other item
+ * is promoted. Memory is O(k) and the rank error is roughly 1.7 / k (k = 200 gives about 1%).
+ * Sketches with the same k merge into a sketch with the same guarantees.
+ */
+public final class QuantileSketch {
+
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final int MIN_LEVEL_CAPACITY = 2;
+
+    private final int k;
+    private final List<DoubleList> levels = new ArrayList<>();
+    private final SplittableRandom random;
+    private int[] capacities;
+    private int totalCapacity;
+    private int retained;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileSketch(int k) {
+        if (k < 8) {
+            throw new IllegalArgumentException("k must be at least 8: " + k);
+        }
+        this.k = k;
+        this.random = new SplittableRandom(k);
+        levels.add(new DoubleList());
+        updateCapacities();
+    }
+
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("NaN cannot be ranked");
+        }
+        levels.get(0).add(value);
+        retained++;
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (retained > totalCapacity) {
+            compress();
+        }
+    }
+
+    public QuantileSketch merge(QuantileSketch other) {
+        if (other.k != k) {
+            throw new IllegalArgumentException("Cannot merge k=" + other.k + " into k=" + k);
+        }
+        while (levels.size() < other.levels.size()) {
+            levels.add(new DoubleList());
+        }
+        updateCapacities();
+        for (int h = 0; h < other.levels.size(); h++) {
+            levels.get(h).addAll(other.levels.get(h));
+        }
+        retained += other.retained;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        compress();
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    public double median() {
+        return quantile(0.5);
+    }
+
+    /**
+     * Approximate value at normalized rank q (0 &lt;= q &lt;= 1), or NaN when empty.
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("q must be within [0, 1]: " + q);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (q == 0) {
+            return min;
+        }
+        if (q == 1) {
+            return max;
+        }
+        Weighted weighted = weighted();
+        double target = q * count;
+        long cumulative = 0;
+        for (int i = 0; i < weighted.values.length; i++) {
+            cumulative += weighted.weights[i];
+            if (cumulative >= target) {
+                return weighted.values[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Approximate fraction of inputs less than or equal to the value.
+     */
+    public double rank(double value) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long below = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            DoubleList level = levels.get(h);
+            for (int i = 0; i < level.size(); i++) {
+                if (level.get(i) <= value) {
+                    below += 1L << h;
+                }
+            }
+        }
+        return (double) below / count;
+    }
+
+    /**
+     * Number of values currently retained, which stays O(k).
+     */
+    public int retained() {
+        return retained;
+    }
+
+    /**
+     * Level capacities shrink geometrically with depth below the top level, so they only change
+     * when a level is added.
+     */
+    private void updateCapacities() {
+        capacities = new int[levels.size()];
+        totalCapacity = 0;
+        for (int h = 0; h < capacities.length; h++) {
+            int depth = capacities.length - h - 1;
+            capacities[h] = Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+            totalCapacity += capacities[h];
+        }
+    }
+
+    private void compress() {
+        while (retained > totalCapacity) {
+            for (int h = 0; h < levels.size(); h++) {
+                if (levels.get(h).size() >= capacities[h]) {
+                    compact(h);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void compact(int h) {
+        if (h + 1 == levels.size()) {
+            levels.add(new DoubleList());
+            updateCapacities();
+        }
+        double[] values = levels.get(h).toArray();
+        Arrays.sort(values);
+
+        DoubleList kept = new DoubleList();
+        int paired = values.length;
+        if (paired % 2 == 1) {
+            kept.add(values[--paired]);
+        }
+        DoubleList next = levels.get(h + 1);
+        for (int i = random.nextInt(2); i < paired; i += 2) {
+            next.add(values[i]);
+        }
+        levels.set(h, kept);
+        retained -= paired / 2;
+    }
+
+    /**
+     * Retained values in ascending order with the number of inputs each one stands for, merged
+     * from the individually sorted levels.
+     */
+    private Weighted weighted() {
+        double[][] sorted = new double[levels.size()][];
+        for (int h = 0; h < sorted.length; h++) {
+            sorted[h] = levels.get(h).toArray();
+            Arrays.sort(sorted[h]);
+        }
+        int[] next = new int[sorted.length];
+        Weighted weighted = new Weighted(new double[retained], new long[retained]);
+        for (int i = 0; i < retained; i++) {
+            int lowest = -1;
+            for (int h = 0; h < sorted.length; h++) {
+                if (next[h] < sorted[h].length && (lowest < 0 || sorted[h][next[h]] < sorted[lowest][next[lowest]])) {
+                    lowest = h;
+                }
+            }
+            weighted.values[i] = sorted[lowest][next[lowest]++];
+            weighted.weights[i] = 1L << lowest;
+        }
+        return weighted;
+    }
+
+    private record Weighted(double[] values, long[] weights) {
+    }
+}
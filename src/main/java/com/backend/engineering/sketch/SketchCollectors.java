@@ -0,0 +1,47 @@
+package com.backend.engineering.sketch;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+/**
+ * Collectors that build fixed-size sketches, for inputs too large to count exactly. The result is
+ * the sketch itself so partial results from parallel segments or separate files can be merged.
+ */
+public final class SketchCollectors {
+
+    private SketchCollectors() {
+    }
+
+    public static <T> Collector<T, ?, HyperLogLog> distinctCount(Function<? super T, ?> key, int precision) {
+        return Collector.of(
+                () -> new HyperLogLog(precision),
+                (sketch, element) -> sketch.add(key.apply(element)),
+                HyperLogLog::merge,
+                Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    public static <T> Collector<T, ?, QuantileSketch> quantiles(ToDoubleFunction<? super T> mapper, int k) {
+        return Collector.of(
+                () -> new QuantileSketch(k),
+                (sketch, element) -> sketch.add(mapper.applyAsDouble(element)),
+                QuantileSketch::merge,
+                Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    public static <T, K> Collector<T, ?, SpaceSaving<K>> heavyHitters(Function<? super T, ? extends K> key, int capacity) {
+        return Collector.of(
+                () -> new SpaceSaving<K>(capacity),
+                (sketch, element) -> sketch.add(key.apply(element)),
+                SpaceSaving::merge,
+                Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    public static <T> Collector<T, ?, CountMinSketch> frequencies(Function<? super T, ?> key, double epsilon, double delta) {
+        return Collector.of(
+                () -> CountMinSketch.withError(epsilon, delta),
+                (sketch, element) -> sketch.add(key.apply(element)),
+                CountMinSketch::merge,
+                Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH);
+    }
+}
@@ -0,0 +1,176 @@
+package com.backend.engineering.sketch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy hitters summary. Tracks at most {@code capacity} keys; every key with true
+ * frequency above total / capacity is guaranteed to be tracked, and each reported count
+ * overestimates the true count by at most its {@link HeavyHitter#error()}. Counters sit in an
+ * indexed min-heap, so an update costs O(log capacity).
+ */
+public final class SpaceSaving<K> {
+
+    private final int capacity;
+    private final Object[] keys;
+    private final long[] counts;
+    private final long[] errors;
+    private final Map<K, Integer> slots;
+    private int size;
+    private long total;
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.keys = new Object[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.slots = new HashMap<>(capacity * 2);
+    }
+
+    public void add(K key) {
+        add(key, 1);
+    }
+
+    public void add(K key, long count) {
+        total += count;
+        Integer slot = slots.get(key);
+        if (slot != null) {
+            counts[slot] += count;
+            siftDown(slot);
+        } else if (size < capacity) {
+            keys[size] = key;
+            counts[size] = count;
+            errors[size] = 0;
+            slots.put(key, size);
+            siftUp(size++);
+        } else {
+            // Replace the smallest counter; the new key inherits its count as error bound
+            slots.remove(key(0));
+            long minimum = counts[0];
+            keys[0] = key;
+            errors[0] = minimum;
+            counts[0] = minimum + count;
+            slots.put(key, 0);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Merges another summary using the mergeable-summaries rule: a key missing from a full summary
+     * may have occurred up to that summary's minimum count times.
+     */
+    public SpaceSaving<K> merge(SpaceSaving<K> other) {
+        long thisFloor = size == capacity ? counts[0] : 0;
+        long otherFloor = other.size == other.capacity ? other.counts[0] : 0;
+
+        Map<K, long[]> merged = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            merged.put(key(i), new long[]{counts[i] + otherFloor, errors[i] + otherFloor});
+        }
+        for (int i = 0; i < other.size; i++) {
+            K key = other.key(i);
+            long[] entry = merged.get(key);
+            if (entry == null) {
+                merged.put(key, new long[]{other.counts[i] + thisFloor, other.errors[i] + thisFloor});
+            } else {
+                entry[0] += other.counts[i] - otherFloor;
+                entry[1] += other.errors[i] - otherFloor;
+            }
+        }
+
+        List<Map.Entry<K, long[]>> entries = new ArrayList<>(merged.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<K, long[]> entry) -> entry.getValue()[0]).reversed());
+
+        long mergedTotal = total + other.total;
+        slots.clear();
+        size = 0;
+        for (Map.Entry<K, long[]> entry : entries.subList(0, Math.min(capacity, entries.size()))) {
+            keys[size] = entry.getKey();
+            counts[size] = entry.getValue()[0];
+            errors[size] = entry.getValue()[1];
+            slots.put(entry.getKey(), size);
+            siftUp(size++);
+        }
+        total = mergedTotal;
+        return this;
+    }
+
+    /**
+     * The n most frequent tracked keys, most frequent first.
+     */
+    public List<HeavyHitter<K>> top(int n) {
+        List<HeavyHitter<K>> hitters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            hitters.add(new HeavyHitter<>(key(i), counts[i], errors[i]));
+        }
+        hitters.sort(Comparator.comparingLong((HeavyHitter<K> hitter) -> hitter.count()).reversed());
+        return hitters.subList(0, Math.min(n, hitters.size()));
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public record HeavyHitter<K>(K key, long count, long error) {
+
+        /** Lower bound of the true frequency. */
+        public long guaranteedCount() {
+            return count - error;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(int slot) {
+        return (K) keys[slot];
+    }
+
+    private void siftUp(int slot) {
+        while (slot > 0) {
+            int parent = (slot - 1) / 2;
+            if (counts[parent] <= counts[slot]) {
+                return;
+            }
+            swap(slot, parent);
+            slot = parent;
+        }
+    }
+
+    private void siftDown(int slot) {
+        while (true) {
+            int smallest = slot;
+            int left = 2 * slot + 1;
+            int right = left + 1;
+            if (left < size && counts[left] < counts[smallest]) {
+                smallest = left;
+            }
+            if (right < size && counts[right] < counts[smallest]) {
+                smallest = right;
+            }
+            if (smallest == slot) {
+                return;
+            }
+            swap(slot, smallest);
+            slot = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        Object key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        long count = counts[a];
+        counts[a] = counts[b];
+        counts[b] = count;
+        long error = errors[a];
+        errors[a] = errors[b];
+        errors[b] = error;
+        slots.put(key(a), a);
+        slots.put(key(b), b);
+    }
+}
@@ -0,0 +1,50 @@
+package com.backend.engineering.snapshot;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A dimension dictionary as a list indexed by code, decoded from its string table on access. The
+ * value-to-code map is built the first time a code is looked up by value.
+ */
+final class DictionaryView extends AbstractList<String> implements RandomAccess {
+
+    private final StringTable table;
+    private volatile Map<String, Integer> codes;
+
+    DictionaryView(StringTable table) {
+        this.table = table;
+    }
+
+    @Override
+    public String get(int code) {
+        Objects.checkIndex(code, table.size());
+        return table.get(code);
+    }
+
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    @Override
+    public int indexOf(Object value) {
+        Map<String, Integer> map = codes;
+        if (map == null) {
+            map = new HashMap<>();
+            for (int code = 0; code < table.size(); code++) {
+                map.putIfAbsent(table.get(code), code);
+            }
+            codes = map;
+        }
+        return map.getOrDefault(value, -1);
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        return indexOf(value) >= 0;
+    }
+}
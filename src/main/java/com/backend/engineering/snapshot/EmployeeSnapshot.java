@@ -0,0 +1,370 @@
+package com.backend.engineering.snapshot;
+
+import com.backend.engineering.columnar.EmployeeColumnStore;
+import com.backend.engineering.columnar.EmployeeColumns;
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.data.HireDates;
+import com.backend.engineering.snapshot.SnapshotFormat.Section;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.zip.CRC32;
+
+/**
+ * Employee snapshot served straight from a memory-mapped file written by {@link SnapshotWriter}.
+ * <p>
+ * Opening reads and checks only the header and maps each section, so it costs the same for any
+ * row count or number of distinct values; the OS pages column data in as queries touch it. Numeric
+ * and dimension columns are read in place and strings, dictionary entries included, are decoded per
+ * access. The header checksum is checked on open; {@link #verify()} checks the body.
+ * <p>
+ * Hire dates are stored as epoch days, so {@link #toEmployee(int)} returns them in ISO form
+ * ({@code 2023-01-8} reads back as {@code 2023-01-08}), as {@link EmployeeColumnStore} does.
+ */
+public final class EmployeeSnapshot implements EmployeeColumns {
+
+    private final int size;
+    private final long bodyChecksum;
+    private final long[] offsets;
+    private final ByteBuffer[] sections;
+    private final IntBuffer ids;
+    private final DoubleBuffer salaries;
+    private final IntBuffer hireEpochDays;
+    private final IntBuffer[] codes = new IntBuffer[Dimension.values().length];
+    private final DictionaryView[] dictionaries = new DictionaryView[Dimension.values().length];
+    private final StringTable firstNames;
+    private final StringTable lastNames;
+    private final StringTable emails;
+    private final StringTable phones;
+
+    private EmployeeSnapshot(int size, long bodyChecksum, long[] offsets, ByteBuffer[] sections) {
+        this.size = size;
+        this.bodyChecksum = bodyChecksum;
+        this.offsets = offsets;
+        this.sections = sections;
+        this.ids = section(Section.IDS).asIntBuffer();
+        this.salaries = section(Section.SALARIES).asDoubleBuffer();
+        this.hireEpochDays = section(Section.HIRE_EPOCH_DAYS).asIntBuffer();
+        for (Dimension dimension : Dimension.values()) {
+            codes[dimension.ordinal()] = section(Section.codes(dimension)).asIntBuffer();
+            dictionaries[dimension.ordinal()] = new DictionaryView(new StringTable(section(Section.dictionary(dimension))));
+        }
+        this.firstNames = new StringTable(section(Section.FIRST_NAMES));
+        this.lastNames = new StringTable(section(Section.LAST_NAMES));
+        this.emails = new StringTable(section(Section.EMAILS));
+        this.phones = new StringTable(section(Section.PHONES));
+    }
+
+    public static EmployeeSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            int headerSize = SnapshotFormat.headerSize();
+            if (fileSize < headerSize) {
+                throw new IOException("Not an employee snapshot: " + path);
+            }
+            ByteBuffer header = ByteBuffer.allocate(headerSize).order(SnapshotFormat.ORDER);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Truncated snapshot header in " + path);
+                }
+            }
+            header.flip();
+
+            if (header.getInt() != SnapshotFormat.MAGIC) {
+                throw new IOException("Not an employee snapshot: " + path);
+            }
+            int version = header.getInt();
+            if (version != SnapshotFormat.VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + " in " + path);
+            }
+            int rows = header.getInt();
+            int sectionCount = header.getInt();
+            if (sectionCount != Section.values().length || rows < 0) {
+                throw new IOException("Corrupt snapshot header in " + path);
+            }
+            long[] offsets = new long[sectionCount];
+            long[] lengths = new long[sectionCount];
+            for (int i = 0; i < sectionCount; i++) {
+                offsets[i] = header.getLong();
+                lengths[i] = header.getLong();
+            }
+            long bodyChecksum = header.getLong();
+            CRC32 crc = new CRC32();
+            crc.update(header.array(), 0, header.position());
+            if (header.getInt() != (int) crc.getValue()) {
+                throw new IOException("Snapshot header checksum mismatch in " + path);
+            }
+
+            ByteBuffer[] sections = new ByteBuffer[sectionCount];
+            for (int i = 0; i < sectionCount; i++) {
+                if (offsets[i] < headerSize || lengths[i] < 0 || lengths[i] > Integer.MAX_VALUE
+                        || offsets[i] + lengths[i] > fileSize) {
+                    throw new IOException("Corrupt snapshot section " + Section.values()[i] + " in " + path);
+                }
+                sections[i] = channel.map(FileChannel.MapMode.READ_ONLY, offsets[i], lengths[i]).order(SnapshotFormat.ORDER);
+            }
+            return new EmployeeSnapshot(rows, bodyChecksum, offsets, sections);
+        }
+    }
+
+    private ByteBuffer section(Section section) {
+        return sections[section.ordinal()].duplicate().order(SnapshotFormat.ORDER);
+    }
+
+    /**
+     * Recomputes the body checksum, reading the whole file.
+     *
+     * @throws IOException if it does not match the one recorded in the header
+     */
+    public void verify() throws IOException {
+        CRC32 crc = new CRC32();
+        long position = SnapshotFormat.headerSize();
+        for (int i = 0; i < sections.length; i++) {
+            // Sections follow each other, separated only by zero padding to the alignment
+            for (; position < offsets[i]; position++) {
+                crc.update(0);
+            }
+            crc.update(sections[i].duplicate());
+            position += sections[i].limit();
+        }
+        if (crc.getValue() != bodyChecksum) {
+            throw new IOException("Snapshot body checksum mismatch");
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int id(int row) {
+        return ids.get(row);
+    }
+
+    @Override
+    public double salary(int row) {
+        return salaries.get(row);
+    }
+
+    @Override
+    public int hireEpochDay(int row) {
+        return hireEpochDays.get(row);
+    }
+
+    @Override
+    public String firstName(int row) {
+        return firstNames.get(row);
+    }
+
+    @Override
+    public String lastName(int row) {
+        return lastNames.get(row);
+    }
+
+    @Override
+    public String email(int row) {
+        return emails.get(row);
+    }
+
+    @Override
+    public String phone(int row) {
+        return phones.get(row);
+    }
+
+    @Override
+    public String value(Dimension dimension, int row) {
+        return dictionaries[dimension.ordinal()].get(code(dimension, row));
+    }
+
+    @Override
+    public int code(Dimension dimension, int row) {
+        return codes[dimension.ordinal()].get(row);
+    }
+
+    /**
+     * Distinct values of the dimension, indexed by code. The list is read-only and decodes entries
+     * on access.
+     */
+    public List<String> dictionary(Dimension dimension) {
+        return dictionaries[dimension.ordinal()];
+    }
+
+    /**
+     * Returns the code for the value, or -1 if it never occurred. The first lookup for a dimension
+     * builds a hash map of its dictionary.
+     */
+    @Override
+    public int code(Dimension dimension, String value) {
+        return dictionary(dimension).indexOf(value);
+    }
+
+    @Override
+    public String decode(Dimension dimension, int code) {
+        return dictionary(dimension).get(code);
+    }
+
+    /**
+     * Rebuilds the row as an employee; the hire date comes back in ISO form.
+     */
+    @Override
+    public Employee toEmployee(int row) {
+        Employee employee = new Employee();
+        employee.setId(id(row));
+        employee.setFirstName(firstName(row));
+        employee.setLastName(lastName(row));
+        employee.setEmail(email(row));
+        employee.setPhone(phone(row));
+        employee.setDepartment(value(Dimension.DEPARTMENT, row));
+        employee.setPosition(value(Dimension.POSITION, row));
+        employee.setSalary(salary(row));
+        employee.setHireDate(HireDates.format(hireEpochDay(row)));
+        employee.setManager(value(Dimension.MANAGER, row));
+        return employee;
+    }
+
+    @Override
+    public double sumSalary() {
+        double sum = 0;
+        for (int row = 0; row < size; row++) {
+            sum += salaries.get(row);
+        }
+        return sum;
+    }
+
+    @Override
+    public double averageSalary() {
+        return size == 0 ? 0.0 : sumSalary() / size;
+    }
+
+    /**
+     * Row of the highest salary, or -1 when the snapshot is empty.
+     */
+    @Override
+    public int maxSalaryRow() {
+        int best = -1;
+        double max = 0;
+        for (int row = 0; row < size; row++) {
+            double salary = salaries.get(row);
+            if (best < 0 || salary > max) {
+                best = row;
+                max = salary;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public long count(IntPredicate rowFilter) {
+        long count = 0;
+        for (int row = 0; row < size; row++) {
+            if (rowFilter.test(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Row counts per dictionary code of the dimension.
+     */
+    @Override
+    public long[] countBy(Dimension dimension) {
+        IntBuffer column = codes[dimension.ordinal()];
+        long[] counts = new long[dictionary(dimension).size()];
+        for (int row = 0; row < size; row++) {
+            counts[column.get(row)]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Salary totals per dictionary code of the dimension.
+     */
+    @Override
+    public double[] sumSalaryBy(Dimension dimension) {
+        IntBuffer column = codes[dimension.ordinal()];
+        double[] sums = new double[dictionary(dimension).size()];
+        for (int row = 0; row < size; row++) {
+            sums[column.get(row)] += salaries.get(row);
+        }
+        return sums;
+    }
+
+    @Override
+    public double[] averageSalaryBy(Dimension dimension) {
+        long[] counts = countBy(dimension);
+        double[] averages = sumSalaryBy(dimension);
+        for (int code = 0; code < averages.length; code++) {
+            averages[code] = counts[code] == 0 ? 0.0 : averages[code] / counts[code];
+        }
+        return averages;
+    }
+
+    @Override
+    public double sumSalaryWhere(Dimension dimension, int code) {
+        IntBuffer column = codes[dimension.ordinal()];
+        double sum = 0;
+        for (int row = 0; row < size; row++) {
+            if (column.get(row) == code) {
+                sum += salaries.get(row);
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public long countSalaryBelow(double threshold) {
+        long count = 0;
+        for (int row = 0; row < size; row++) {
+            if (salaries.get(row) < threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Map<String, Long> toMap(Dimension dimension, long[] perCode) {
+        List<String> dictionary = dictionary(dimension);
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (int code = 0; code < perCode.length; code++) {
+            map.put(dictionary.get(code), perCode[code]);
+        }
+        return map;
+    }
+
+    @Override
+    public Map<String, Double> toMap(Dimension dimension, double[] perCode) {
+        List<String> dictionary = dictionary(dimension);
+        Map<String, Double> map = new LinkedHashMap<>();
+        for (int code = 0; code < perCode.length; code++) {
+            map.put(dictionary.get(code), perCode[code]);
+        }
+        return map;
+    }
+
+    /**
+     * Dimension value with the largest per-code metric, or {@code null} when there are no rows.
+     */
+    @Override
+    public String argMax(Dimension dimension, double[] perCode) {
+        int best = -1;
+        for (int code = 0; code < perCode.length; code++) {
+            if (best < 0 || perCode[code] > perCode[best]) {
+                best = code;
+            }
+        }
+        return best < 0 ? null : dictionary(dimension).get(best);
+    }
+}
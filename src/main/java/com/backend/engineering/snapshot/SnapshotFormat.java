@@ -0,0 +1,72 @@
+package com.backend.engineering.snapshot;
+
+import com.backend.engineering.data.Dimension;
+
+import java.nio.ByteOrder;
+
+/**
+ * Layout of the binary employee snapshot. All values are little-endian.
+ * <pre>
+ * header
+ *   int    magic "EMPS"
+ *   int    format version
+ *   int    row count
+ *   int    section count n
+ *   n x    long offset, long length
+ *   long   CRC32 of everything after the header
+ *   int    CRC32 of the header bytes before this field
+ * sections, in {@link Section} order, each starting on an 8 byte boundary
+ *   int[rows] / double[rows]      fixed-width columns
+ *   string table                  int count, int[count + 1] offsets, UTF-8 bytes
+ * </pre>
+ * In a string table, entry {@code i} spans {@code offsets[i]} to {@code offsets[i + 1]} of the
+ * bytes; a {@code null} entry is marked by the high bit of {@code offsets[i + 1]}.
+ */
+final class SnapshotFormat {
+
+    static final int MAGIC = 0x53504D45;
+    static final int VERSION = 1;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    static final int ALIGNMENT = 8;
+    static final int NULL_FLAG = 0x8000_0000;
+
+    enum Section {
+        IDS,
+        SALARIES,
+        HIRE_EPOCH_DAYS,
+        DEPARTMENT_CODES,
+        POSITION_CODES,
+        MANAGER_CODES,
+        FIRST_NAMES,
+        LAST_NAMES,
+        EMAILS,
+        PHONES,
+        DEPARTMENT_DICTIONARY,
+        POSITION_DICTIONARY,
+        MANAGER_DICTIONARY;
+
+        static Section codes(Dimension dimension) {
+            return values()[DEPARTMENT_CODES.ordinal() + dimension.ordinal()];
+        }
+
+        static Section dictionary(Dimension dimension) {
+            return values()[DEPARTMENT_DICTIONARY.ordinal() + dimension.ordinal()];
+        }
+    }
+
+    static int headerSize() {
+        int size = 16 + Section.values().length * 16 + 8 + 4;
+        return align(size);
+    }
+
+    static int align(int position) {
+        return (position + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    static long align(long position) {
+        return (position + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    private SnapshotFormat() {
+    }
+}
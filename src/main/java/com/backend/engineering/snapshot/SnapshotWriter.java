@@ -0,0 +1,226 @@
+package com.backend.engineering.snapshot;
+
+import com.backend.engineering.columnar.EmployeeColumnStore;
+import com.backend.engineering.columnar.StringDictionary;
+import com.backend.engineering.data.CsvReader;
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.snapshot.SnapshotFormat.Section;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Writes an {@link EmployeeColumnStore} in the snapshot format read by {@link EmployeeSnapshot}.
+ * The file is written next to the target and moved into place, so readers never see a partial
+ * snapshot.
+ */
+public final class SnapshotWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    public static void main(String[] args) throws IOException {
+        Path csv = Paths.get(args.length > 0 ? args[0] : CsvReader.DEFAULT_PATH);
+        Path target = Paths.get(args.length > 1 ? args[1] : "employees.snap");
+
+        long start = System.nanoTime();
+        int rows = convert(csv, target);
+        System.out.printf("Wrote %d rows to %s (%d bytes) in %d ms%n",
+                rows, target, Files.size(target), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Converts an employee CSV to a snapshot and returns the number of rows.
+     */
+    public static int convert(Path csv, Path target) throws IOException {
+        EmployeeColumnStore store;
+        try (Stream<Employee> employees = new CsvReader().streamEmpData(csv)) {
+            store = EmployeeColumnStore.of(employees);
+        }
+        write(store, target);
+        return store.size();
+    }
+
+    public static void write(EmployeeColumnStore store, Path target) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                write(store, channel);
+                channel.force(false);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void write(EmployeeColumnStore store, FileChannel channel) throws IOException {
+        int rows = store.size();
+        Section[] sections = Section.values();
+        long[] offsets = new long[sections.length];
+        long[] lengths = new long[sections.length];
+
+        SectionOutput out = new SectionOutput(channel, SnapshotFormat.headerSize());
+        for (Section section : sections) {
+            out.align();
+            offsets[section.ordinal()] = out.position();
+            switch (section) {
+                case IDS -> out.putInts(store::id, rows);
+                case SALARIES -> {
+                    double[] salaries = store.salaries();
+                    for (int row = 0; row < rows; row++) {
+                        out.putDouble(salaries[row]);
+                    }
+                }
+                case HIRE_EPOCH_DAYS -> out.putInts(store::hireEpochDay, rows);
+                case DEPARTMENT_CODES, POSITION_CODES, MANAGER_CODES -> {
+                    int[] codes = store.codes(Dimension.values()[section.ordinal() - Section.DEPARTMENT_CODES.ordinal()]);
+                    out.putInts(row -> codes[row], rows);
+                }
+                case FIRST_NAMES -> out.putStrings(store::firstName, rows);
+                case LAST_NAMES -> out.putStrings(store::lastName, rows);
+                case EMAILS -> out.putStrings(store::email, rows);
+                case PHONES -> out.putStrings(store::phone, rows);
+                case DEPARTMENT_DICTIONARY -> out.putDictionary(store.dictionary(Dimension.DEPARTMENT));
+                case POSITION_DICTIONARY -> out.putDictionary(store.dictionary(Dimension.POSITION));
+                case MANAGER_DICTIONARY -> out.putDictionary(store.dictionary(Dimension.MANAGER));
+            }
+            lengths[section.ordinal()] = out.position() - offsets[section.ordinal()];
+            if (lengths[section.ordinal()] > Integer.MAX_VALUE) {
+                // EmployeeSnapshot maps each section as a single buffer
+                throw new IOException("Snapshot section " + section + " is " + lengths[section.ordinal()]
+                        + " bytes for " + rows + " rows; sections are limited to " + Integer.MAX_VALUE + " bytes");
+            }
+        }
+        out.flush();
+
+        ByteBuffer header = ByteBuffer.allocate(SnapshotFormat.headerSize()).order(SnapshotFormat.ORDER);
+        header.putInt(SnapshotFormat.MAGIC).putInt(SnapshotFormat.VERSION).putInt(rows).putInt(sections.length);
+        for (int i = 0; i < sections.length; i++) {
+            header.putLong(offsets[i]).putLong(lengths[i]);
+        }
+        header.putLong(out.checksum());
+        CRC32 headerCrc = new CRC32();
+        headerCrc.update(header.array(), 0, header.position());
+        header.putInt((int) headerCrc.getValue());
+        header.clear();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+    }
+
+    /**
+     * Buffered little-endian writer that tracks the file position and the body checksum.
+     */
+    private static final class SectionOutput {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(SnapshotFormat.ORDER);
+        private final CRC32 crc = new CRC32();
+        private long flushed;
+
+        SectionOutput(FileChannel channel, long start) {
+            this.channel = channel;
+            this.flushed = start;
+        }
+
+        long position() {
+            return flushed + buffer.position();
+        }
+
+        long checksum() {
+            return crc.getValue();
+        }
+
+        void align() throws IOException {
+            while (position() % SnapshotFormat.ALIGNMENT != 0) {
+                ensure(1);
+                buffer.put((byte) 0);
+            }
+        }
+
+        void putInts(IntUnaryOperator column, int rows) throws IOException {
+            for (int row = 0; row < rows; row++) {
+                putInt(column.applyAsInt(row));
+            }
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putDouble(double value) throws IOException {
+            ensure(Double.BYTES);
+            buffer.putDouble(value);
+        }
+
+        void putStrings(IntFunction<String> column, int count) throws IOException {
+            putInt(count);
+            int offset = 0;
+            putInt(offset);
+            for (int i = 0; i < count; i++) {
+                String value = column.apply(i);
+                if (value == null) {
+                    putInt(offset | SnapshotFormat.NULL_FLAG);
+                } else {
+                    offset += value.getBytes(StandardCharsets.UTF_8).length;
+                    if (offset < 0) {
+                        throw new IOException("String table exceeds 2 GB");
+                    }
+                    putInt(offset);
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                String value = column.apply(i);
+                if (value != null) {
+                    putBytes(value.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        }
+
+        void putDictionary(StringDictionary dictionary) throws IOException {
+            putStrings(dictionary::decode, dictionary.size());
+        }
+
+        private void putBytes(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensure(1);
+                int n = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, n);
+                offset += n;
+            }
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            crc.update(buffer.array(), 0, buffer.limit());
+            while (buffer.hasRemaining()) {
+                flushed += channel.write(buffer, flushed);
+            }
+            buffer.clear();
+        }
+    }
+
+    private SnapshotWriter() {
+    }
+}
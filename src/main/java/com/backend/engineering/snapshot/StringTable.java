@@ -0,0 +1,37 @@
+package com.backend.engineering.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only view of a string table section; entries are decoded on access.
+ */
+final class StringTable {
+
+    private final int count;
+    private final IntBuffer offsets;
+    private final ByteBuffer bytes;
+
+    StringTable(ByteBuffer section) {
+        this.count = section.getInt(0);
+        this.offsets = section.slice(Integer.BYTES, (count + 1) * Integer.BYTES).order(SnapshotFormat.ORDER).asIntBuffer();
+        int dataStart = (count + 2) * Integer.BYTES;
+        this.bytes = section.slice(dataStart, section.limit() - dataStart);
+    }
+
+    int size() {
+        return count;
+    }
+
+    String get(int index) {
+        int end = offsets.get(index + 1);
+        if ((end & SnapshotFormat.NULL_FLAG) != 0) {
+            return null;
+        }
+        int start = offsets.get(index) & ~SnapshotFormat.NULL_FLAG;
+        byte[] data = new byte[end - start];
+        bytes.get(start, data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+}
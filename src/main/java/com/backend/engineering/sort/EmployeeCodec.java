@@ -0,0 +1,67 @@
+package com.backend.engineering.sort;
+
+import com.backend.engineering.data.Employee;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Field-by-field binary encoding of an {@link Employee}. The hire date is kept as the original
+ * text, so records read back equal the ones written.
+ */
+public final class EmployeeCodec implements RecordCodec<Employee> {
+
+    public static final EmployeeCodec INSTANCE = new EmployeeCodec();
+
+    @Override
+    public void write(DataOutput out, Employee employee) throws IOException {
+        out.writeInt(employee.getId());
+        RecordCodec.writeNullable(out, employee.getFirstName());
+        RecordCodec.writeNullable(out, employee.getLastName());
+        RecordCodec.writeNullable(out, employee.getEmail());
+        RecordCodec.writeNullable(out, employee.getPhone());
+        RecordCodec.writeNullable(out, employee.getDepartment());
+        RecordCodec.writeNullable(out, employee.getPosition());
+        out.writeDouble(employee.getSalary());
+        RecordCodec.writeNullable(out, employee.getHireDate());
+        RecordCodec.writeNullable(out, employee.getManager());
+    }
+
+    @Override
+    public Employee read(DataInput in) throws IOException {
+        Employee employee = new Employee();
+        employee.setId(in.readInt());
+        employee.setFirstName(RecordCodec.readNullable(in));
+        employee.setLastName(RecordCodec.readNullable(in));
+        employee.setEmail(RecordCodec.readNullable(in));
+        employee.setPhone(RecordCodec.readNullable(in));
+        employee.setDepartment(RecordCodec.readNullable(in));
+        employee.setPosition(RecordCodec.readNullable(in));
+        employee.setSalary(in.readDouble());
+        employee.setHireDate(RecordCodec.readNullable(in));
+        employee.setManager(RecordCodec.readNullable(in));
+        return employee;
+    }
+
+    @Override
+    public long estimateSize(Employee employee) {
+        // Object header and fields, plus a String with its backing array per text field
+        return 64
+                + textSize(employee.getFirstName())
+                + textSize(employee.getLastName())
+                + textSize(employee.getEmail())
+                + textSize(employee.getPhone())
+                + textSize(employee.getDepartment())
+                + textSize(employee.getPosition())
+                + textSize(employee.getHireDate())
+                + textSize(employee.getManager());
+    }
+
+    private static long textSize(String value) {
+        return value == null ? 0 : 48L + value.length();
+    }
+
+    private EmployeeCodec() {
+    }
+}
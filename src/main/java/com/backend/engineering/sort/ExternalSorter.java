@@ -0,0 +1,280 @@
+package com.backend.engineering.sort;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sorts more records than fit in memory. Input is cut into runs that fit the memory budget, each
+ * run is sorted and spilled to a temporary file through a {@link RecordCodec}, and the runs are
+ * merged k ways into a lazily consumed stream. Input that fits the budget is sorted in memory and
+ * never touches disk.
+ * <p>
+ * The sort is stable, like {@link Stream#sorted(Comparator)} on an ordered stream: runs are sorted
+ * stably and merge ties go to the earlier run. Temporary files are deleted when the returned
+ * stream is closed, so consume it in a try-with-resources block.
+ */
+public final class ExternalSorter<T> {
+
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    private static final long DEFAULT_MEMORY_BUDGET = Math.max(16L << 20, Runtime.getRuntime().maxMemory() / 4);
+    private static final int DEFAULT_MAX_FAN_IN = 64;
+
+    private final RecordCodec<T> codec;
+    private final Comparator<? super T> comparator;
+    private final long memoryBudget;
+    private final Path tempDirectory;
+    private final int maxFanIn;
+
+    /**
+     * @param memoryBudget  estimated heap bytes of records held at once while building runs
+     * @param tempDirectory where runs are spilled
+     * @param maxFanIn      most runs merged at once; more runs are first merged in passes
+     */
+    public ExternalSorter(RecordCodec<T> codec, Comparator<? super T> comparator, long memoryBudget,
+                          Path tempDirectory, int maxFanIn) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("memoryBudget must be positive: " + memoryBudget);
+        }
+        if (maxFanIn < 2) {
+            throw new IllegalArgumentException("maxFanIn must be at least 2: " + maxFanIn);
+        }
+        this.codec = codec;
+        this.comparator = comparator;
+        this.memoryBudget = memoryBudget;
+        this.tempDirectory = tempDirectory;
+        this.maxFanIn = maxFanIn;
+    }
+
+    /**
+     * Sorter with a quarter of the max heap as budget, spilling to {@code java.io.tmpdir}.
+     */
+    public ExternalSorter(RecordCodec<T> codec, Comparator<? super T> comparator) {
+        this(codec, comparator, DEFAULT_MEMORY_BUDGET, Paths.get(System.getProperty("java.io.tmpdir")), DEFAULT_MAX_FAN_IN);
+    }
+
+    public ExternalSorter<T> withMemoryBudget(long memoryBudget) {
+        return new ExternalSorter<>(codec, comparator, memoryBudget, tempDirectory, maxFanIn);
+    }
+
+    public ExternalSorter<T> withTempDirectory(Path tempDirectory) {
+        return new ExternalSorter<>(codec, comparator, memoryBudget, tempDirectory, maxFanIn);
+    }
+
+    public ExternalSorter<T> withMaxFanIn(int maxFanIn) {
+        return new ExternalSorter<>(codec, comparator, memoryBudget, tempDirectory, maxFanIn);
+    }
+
+    public Stream<T> sort(Stream<? extends T> input) throws IOException {
+        return sort(input.iterator());
+    }
+
+    /**
+     * Consumes the input, spilling runs as the budget fills, and returns the merged output.
+     */
+    public Stream<T> sort(Iterator<? extends T> input) throws IOException {
+        List<Run> runs = new ArrayList<>();
+        try {
+            List<T> buffer = new ArrayList<>();
+            long buffered = 0;
+            while (input.hasNext()) {
+                T value = input.next();
+                buffer.add(value);
+                buffered += codec.estimateSize(value);
+                if (buffered >= memoryBudget) {
+                    buffer.sort(comparator);
+                    runs.add(spill(buffer.iterator(), buffer.size()));
+                    buffer.clear();
+                    buffered = 0;
+                }
+            }
+            buffer.sort(comparator);
+            if (runs.isEmpty()) {
+                return buffer.stream();
+            }
+            if (!buffer.isEmpty()) {
+                runs.add(spill(buffer.iterator(), buffer.size()));
+            }
+            buffer = null;
+
+            // Each pass merges consecutive groups of maxFanIn runs, so every record is rewritten
+            // once per pass and the run count drops by a factor of maxFanIn
+            while (runs.size() > maxFanIn) {
+                for (int first = 0; first < runs.size(); first++) {
+                    List<Run> group = runs.subList(first, Math.min(first + maxFanIn, runs.size()));
+                    if (group.size() > 1) {
+                        Run merged = mergePass(new ArrayList<>(group));
+                        group.clear();
+                        runs.add(first, merged);
+                    }
+                }
+            }
+            return merge(runs);
+        } catch (IOException | RuntimeException e) {
+            for (Run run : runs) {
+                run.delete();
+            }
+            throw e;
+        }
+    }
+
+    private Run spill(Iterator<T> values, long count) throws IOException {
+        Path file = Files.createTempFile(tempDirectory, "sort-run-", ".bin");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), IO_BUFFER_SIZE))) {
+            while (values.hasNext()) {
+                codec.write(out, values.next());
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new Run(file, count);
+    }
+
+    /**
+     * Merges the runs into a single new run, deleting the inputs. Merging adjacent runs in place
+     * keeps the earlier-run-wins tie order intact.
+     */
+    private Run mergePass(List<Run> group) throws IOException {
+        long count = group.stream().mapToLong(run -> run.count).sum();
+        try (Merger merger = new Merger(group)) {
+            return spill(merger, count);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Stream<T> merge(List<Run> runs) throws IOException {
+        Merger merger = new Merger(runs);
+        long count = runs.stream().mapToLong(run -> run.count).sum();
+        Spliterator<T> spliterator = Spliterators.spliterator(merger, count, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(merger::close);
+    }
+
+    private final class Run {
+
+        final Path file;
+        final long count;
+
+        Run(Path file, long count) {
+            this.file = file;
+            this.count = count;
+        }
+
+        void delete() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    private final class RunReader {
+
+        final int index;
+        final DataInputStream in;
+        long remaining;
+        T head;
+
+        RunReader(int index, Run run) throws IOException {
+            this.index = index;
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.file), IO_BUFFER_SIZE));
+            this.remaining = run.count;
+        }
+
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                head = null;
+                return false;
+            }
+            remaining--;
+            head = codec.read(in);
+            return true;
+        }
+    }
+
+    /**
+     * k-way merge over the run files, deleting them when closed.
+     */
+    private final class Merger implements Iterator<T>, Closeable {
+
+        private final List<Run> runs;
+        private final List<RunReader> readers = new ArrayList<>();
+        private final PriorityQueue<RunReader> heap;
+
+        Merger(List<Run> runs) throws IOException {
+            this.runs = runs;
+            this.heap = new PriorityQueue<>(Math.max(1, runs.size()), (a, b) -> {
+                int order = comparator.compare(a.head, b.head);
+                return order != 0 ? order : Integer.compare(a.index, b.index);
+            });
+            try {
+                for (int i = 0; i < runs.size(); i++) {
+                    RunReader reader = new RunReader(i, runs.get(i));
+                    readers.add(reader);
+                    if (reader.advance()) {
+                        heap.add(reader);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heap.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            RunReader reader = heap.poll();
+            if (reader == null) {
+                throw new java.util.NoSuchElementException();
+            }
+            T value = reader.head;
+            try {
+                if (reader.advance()) {
+                    heap.add(reader);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return value;
+        }
+
+        @Override
+        public void close() {
+            for (RunReader reader : readers) {
+                try {
+                    reader.in.close();
+                } catch (IOException ignored) {
+                    // Deleting the file below is what matters
+                }
+            }
+            for (Run run : runs) {
+                run.delete();
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.backend.engineering.sort;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary encoding of the records an {@link ExternalSorter} spills to disk.
+ */
+public interface RecordCodec<T> {
+
+    void write(DataOutput out, T value) throws IOException;
+
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Approximate heap footprint of the value, used to size in-memory runs.
+     */
+    default long estimateSize(T value) {
+        return 64;
+    }
+
+    /**
+     * Codec for non-null strings, such as the names of op 22.
+     */
+    static RecordCodec<String> strings() {
+        return StringCodec.INSTANCE;
+    }
+
+    /**
+     * Writes a possibly-null string as a presence flag and UTF-8 bytes.
+     */
+    static void writeNullable(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            StringCodec.INSTANCE.write(out, value);
+        }
+    }
+
+    static String readNullable(DataInput in) throws IOException {
+        return in.readBoolean() ? StringCodec.INSTANCE.read(in) : null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.backend.engineering.sort;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Length-prefixed UTF-8; unlike {@link DataOutput#writeUTF} it has no 64 KB limit.
+ */
+final class StringCodec implements RecordCodec<String> {
+
+    static final StringCodec INSTANCE = new StringCodec();
+
+    @Override
+    public void write(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Override
+    public String read(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public long estimateSize(String value) {
+        return 56L + value.length();
+    }
+
+    private StringCodec() {
+    }
+}
@@ -1,381 +1,1088 @@
 package com.backend.engineering.streams;
 
 
+import com.backend.engineering.collectors.IntList;
+import com.backend.engineering.collectors.ObjectLongHashMap;
+import com.backend.engineering.collectors.PrimitiveCollectors;
+import com.backend.engineering.collectors.RankingCollectors;
+import com.backend.engineering.columnar.EmployeeColumnStore;
+import com.backend.engineering.columnar.EmployeeColumns;
+import com.backend.engineering.data.ColumnPredicate;
+import com.backend.engineering.data.CsvProjection;
 import com.backend.engineering.data.CsvReader;
+import com.backend.engineering.data.Dimension;
 import com.backend.engineering.data.Employee;
+import com.backend.engineering.data.EmployeeColumn;
+import com.backend.engineering.data.HireDates;
+import com.backend.engineering.export.NdjsonWriter;
+import com.backend.engineering.index.BitmapIndex;
+import com.backend.engineering.index.HireDateIndex;
+import com.backend.engineering.index.ManagerHierarchy;
+import com.backend.engineering.index.RowFilter;
+import com.backend.engineering.ingest.IncrementalAggregates;
+import com.backend.engineering.metrics.OperationMetrics;
+import com.backend.engineering.parallel.QueryExecutor;
+import com.backend.engineering.report.Report;
+import com.backend.engineering.report.ReportEngine;
+import com.backend.engineering.report.ReportQueries;
+import com.backend.engineering.sketch.SketchCollectors;
+import com.backend.engineering.sketch.SpaceSaving;
+import com.backend.engineering.snapshot.EmployeeSnapshot;
+import com.backend.engineering.snapshot.SnapshotWriter;
+import com.backend.engineering.sort.EmployeeCodec;
+import com.backend.engineering.sort.ExternalSorter;
+import com.backend.engineering.sort.RecordCodec;
+import com.backend.engineering.vector.SalaryKernels;
 
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 public class EmployeeStreamOperations {
 
-    public static void main(String[] args) throws FileNotFoundException {
+    private static final int END_OF_2015 = HireDates.toEpochDay(LocalDate.of(2015, 12, 31));
+    // Sketch sizes of the approximate operations: about 1.6% distinct-count error, 256 tracked
+    // names and a quantile rank error well under 1%
+    private static final int DISTINCT_PRECISION = 12;
+    private static final int HEAVY_HITTERS = 256;
+    private static final int QUANTILE_K = 200;
+    private static final Set<EmployeeColumn> NAMES_BY_POSITION =
+            EnumSet.of(EmployeeColumn.FIRST_NAME, EmployeeColumn.LAST_NAME, EmployeeColumn.POSITION);
+
+    public static void main(String[] args) throws IOException {
 
         CsvReader csvReader = new CsvReader();
         List<Employee> employees = csvReader.readEmpData();
+        OperationMetrics metrics = OperationMetrics.global();
+        long rows = employees.size();
+
+        System.out.println("High Earners: " + metrics.measure("highEarners", rows, () -> highEarners(employees)).size());
+        System.out.println("Employees per Department: " + metrics.measure("employeesPerDepartment", rows, () -> employeesPerDepartment(employees)));
+        System.out.println("Average Salary: " + metrics.measure("averageSalary", rows, () -> averageSalary(employees)));
+        System.out.println("Hired After 2015: " + metrics.measure("hiredAfter2015", rows, () -> hiredAfter2015(employees)).size());
+        System.out.println("Highest Earner: " + metrics.measure("highestEarner", rows, () -> highestEarner(employees)));
+        System.out.println("Distinct Positions: " + metrics.measure("distinctPositions", rows, () -> distinctPositions(employees)));
+        System.out.println("Employees per Manager: " + metrics.measure("employeesPerManager", rows, () -> employeesPerManager(employees)));
+        System.out.println("Total Salaries: " + metrics.measure("totalSalaries", rows, () -> totalSalaries(employees)));
+        System.out.println("First Names: " + metrics.measure("firstNames", rows, () -> firstNames(employees)).size());
+        System.out.println("Earliest Hired: " + metrics.measure("earliestHired", rows, () -> earliestHired(employees)));
+        System.out.println("Names by Department: " + metrics.measure("namesByDepartment", rows, () -> namesByDepartment(employees)));
+        System.out.println("Average Salary per Department: " + metrics.measure("averageSalaryPerDepartment", rows, () -> averageSalaryPerDepartment(employees)));
+        System.out.println("Top 3 Earners: " + metrics.measure("top3Earners", rows, () -> top3Earners(employees)));
+        System.out.println("Emails: " + metrics.measure("emails", rows, () -> emails(employees)).size());
+        System.out.println("First Name starts with J: " + metrics.measure("firstNameStartsWithJ", rows, () -> firstNameStartsWithJ(employees)).size());
+        System.out.println("Name to Salary: " + metrics.measure("nameToSalary", rows, () -> nameToSalary(employees)));
+        System.out.println("Distinct Managers: " + metrics.measure("distinctManagers", rows, () -> distinctManagers(employees)));
+        System.out.println("Phone Numbers: " + metrics.measure("phoneNumbers", rows, () -> phoneNumbers(employees)).size());
+        System.out.println("Shortest First Name: " + metrics.measure("shortestFirstName", rows, () -> shortestFirstName(employees)));
+        System.out.println("Employees by Year: " + metrics.measure("employeesByYear", rows, () -> employeesByYear(employees)));
+        System.out.println("IT Salaries: " + metrics.measure("itSalaries", rows, () -> itSalaries(employees)));
+        System.out.println("Sorted Names: " + metrics.measure("sortedNames", rows, () -> sortedNames(employees)));
+        System.out.println("Low Earners: " + metrics.measure("lowEarners", rows, () -> lowEarners(employees)));
+        System.out.println("Most Common First Name: " + metrics.measure("mostCommonFirstName", rows, () -> mostCommonFirstName(employees)));
+        System.out.println("IDs Managed by John Doe: " + metrics.measure("idsManagedByJohnDoe", rows, () -> idsManagedByJohnDoe(employees)));
+        System.out.println("IDs Managed by John Doe (primitive): " + metrics.measure("idsManagedByJohnDoe.primitive", rows, () -> idsManagedByJohnDoe(employees.stream())).size());
+        System.out.println("Highest Salary in Department: " + metrics.measure("highestSalaryInDepartment", rows, () -> highestSalaryInDepartment(employees)));
+        System.out.println("Total Employees: " + metrics.measure("totalEmployees", rows, () -> totalEmployees(employees)));
+        System.out.println("Department with Highest Avg Salary: " + metrics.measure("departmentWithHighestAvgSalary", rows, () -> departmentWithHighestAvgSalary(employees)));
+        System.out.println("Sorted by Hire Date: " + metrics.measure("sortedByHireDate", rows, () -> sortedByHireDate(employees)).size());
+        System.out.println("Top 5 Emails: " + metrics.measure("top5Emails", rows, () -> top5Emails(employees)));
+        System.out.println("Total Salary Managed by Jane Smith: " + metrics.measure("totalSalaryManagedByJane", rows, () -> totalSalaryManagedByJane(employees)));
+        System.out.println("Manager with Most Employees: " + metrics.measure("managerWithMostEmployees", rows, () -> managerWithMostEmployees(employees)));
+        System.out.println("Managers: " + metrics.measure("managers", rows, () -> managers(employees)));
+        LocalDate[] hireDateRange = metrics.measure("hireDateRange", rows, () -> hireDateRange(employees));
+        System.out.println("Oldest Hire Date: " + hireDateRange[0]);
+        System.out.println("Newest Hire Date: " + hireDateRange[1]);
+        System.out.println("More than 10 Years: " + metrics.measure("moreThan10Years", rows, () -> moreThan10Years(employees)).size());
+        System.out.println("Names by Position: " + metrics.measure("namesByPosition", rows, () -> namesByPosition(employees)));
+        System.out.println("Median Salary: " + metrics.measure("medianSalary", rows, () -> medianSalary(employees)));
+        System.out.println("Average Salary Last 5 Years: " + metrics.measure("avgSalaryLast5Years", rows, () -> avgSalaryLast5Years(employees)));
+        System.out.println("Employees by Dept and Pos: " + metrics.measure("employeesByDeptAndPos", rows, () -> employeesByDeptAndPos(employees)));
+        System.out.println("Above Average Salary: " + metrics.measure("aboveAverageSalary", rows, () -> aboveAverageSalary(employees)).size());
+        System.out.println("Hired on Weekends: " + metrics.measure("hiredOnWeekends", rows, () -> hiredOnWeekends(employees)));
+        System.out.println("Average Developer Salary: " + metrics.measure("avgDeveloperSalary", rows, () -> avgDeveloperSalary(employees)));
+        System.out.println("Employees Hired per Month: " + metrics.measure("employeesHiredPerMonth", rows, () -> employeesHiredPerMonth(employees)));
+        System.out.println("Sorted by Last Name and First Name: " + metrics.measure("sortedByLastNameThenFirstName", rows, () -> sortedByLastNameThenFirstName(employees)).size());
+        System.out.println("Department with Highest Total Salary: " + metrics.measure("deptWithHighestTotalSalary", rows, () -> deptWithHighestTotalSalary(employees)));
+        System.out.println("Phone starts with 555: " + metrics.measure("phoneStartsWith555", rows, () -> phoneStartsWith555(employees)));
+        System.out.println("Average Tenure: " + metrics.measure("avgTenure", rows, () -> avgTenure(employees)));
+        System.out.println("Department with Most Engineers: " + metrics.measure("deptWithMostEngineers", rows, () -> deptWithMostEngineers(employees)));
+        System.out.println("Managers with more than 5 employees: " + metrics.measure("managersWithMoreThan5Employees", rows, () -> managersWithMoreThan5Employees(employees)));
+        System.out.println("Last Names more than 5 letters: " + metrics.measure("lastNameMoreThan5Letters", rows, () -> lastNameMoreThan5Letters(employees)));
+
+        // The aggregations again over the columnar store, compared in the table below
+        System.out.println("Salary Kernels: " + SalaryKernels.get().name());
+        EmployeeColumnStore store = metrics.measure("columnStore", rows, () -> EmployeeColumnStore.of(employees));
+        System.out.println("Employees per Department (columnar): " + metrics.measure("employeesPerDepartment.columnar", rows, () -> employeesPerDepartment(store)));
+        System.out.println("Average Salary (columnar): " + metrics.measure("averageSalary.columnar", rows, () -> averageSalary(store)));
+        System.out.println("Highest Earner (columnar): " + metrics.measure("highestEarner.columnar", rows, () -> highestEarner(store)));
+        System.out.println("Employees per Manager (columnar): " + metrics.measure("employeesPerManager.columnar", rows, () -> employeesPerManager(store)));
+        System.out.println("Total Salaries (columnar): " + metrics.measure("totalSalaries.columnar", rows, () -> totalSalaries(store)));
+        System.out.println("Average Salary per Department (columnar): " + metrics.measure("averageSalaryPerDepartment.columnar", rows, () -> averageSalaryPerDepartment(store)));
+        System.out.println("Low Earners (columnar): " + metrics.measure("lowEarners.columnar", rows, () -> lowEarners(store)));
+        System.out.println("IT Salaries (columnar): " + metrics.measure("itSalaries.columnar", rows, () -> itSalaries(store)));
+        System.out.println("Total Salary Managed by Jane Smith (columnar): " + metrics.measure("totalSalaryManagedByJane.columnar", rows, () -> totalSalaryManagedByJane(store)));
+        System.out.println("Average Developer Salary (columnar): " + metrics.measure("avgDeveloperSalary.columnar", rows, () -> avgDeveloperSalary(store)));
+        System.out.println("Department with Highest Avg Salary (columnar): " + metrics.measure("departmentWithHighestAvgSalary.columnar", rows, () -> departmentWithHighestAvgSalary(store)));
+        System.out.println("Department with Highest Total Salary (columnar): " + metrics.measure("deptWithHighestTotalSalary.columnar", rows, () -> deptWithHighestTotalSalary(store)));
+
+        // The same aggregations over a memory-mapped snapshot, converted again whenever the CSV is newer
+        Path csv = Paths.get(CsvReader.DEFAULT_PATH);
+        Path snapshotPath = Paths.get("employees.snap");
+        if (!Files.exists(snapshotPath)
+                || Files.getLastModifiedTime(snapshotPath).compareTo(Files.getLastModifiedTime(csv)) < 0) {
+            SnapshotWriter.convert(csv, snapshotPath);
+        }
+        EmployeeSnapshot snapshot;
+        try (OperationMetrics.Probe probe = metrics.start("snapshotOpen")) {
+            snapshot = EmployeeSnapshot.open(snapshotPath);
+        }
+        System.out.println("Employees per Department (snapshot): " + metrics.measure("employeesPerDepartment.snapshot", rows, () -> employeesPerDepartment(snapshot)));
+        System.out.println("Average Salary (snapshot): " + metrics.measure("averageSalary.snapshot", rows, () -> averageSalary(snapshot)));
+        System.out.println("Highest Earner (snapshot): " + metrics.measure("highestEarner.snapshot", rows, () -> highestEarner(snapshot)));
+        System.out.println("Employees per Manager (snapshot): " + metrics.measure("employeesPerManager.snapshot", rows, () -> employeesPerManager(snapshot)));
+        System.out.println("Total Salaries (snapshot): " + metrics.measure("totalSalaries.snapshot", rows, () -> totalSalaries(snapshot)));
+        System.out.println("Average Salary per Department (snapshot): " + metrics.measure("averageSalaryPerDepartment.snapshot", rows, () -> averageSalaryPerDepartment(snapshot)));
+        System.out.println("Low Earners (snapshot): " + metrics.measure("lowEarners.snapshot", rows, () -> lowEarners(snapshot)));
+        System.out.println("IT Salaries (snapshot): " + metrics.measure("itSalaries.snapshot", rows, () -> itSalaries(snapshot)));
+        System.out.println("Total Salary Managed by Jane Smith (snapshot): " + metrics.measure("totalSalaryManagedByJane.snapshot", rows, () -> totalSalaryManagedByJane(snapshot)));
+        System.out.println("Average Developer Salary (snapshot): " + metrics.measure("avgDeveloperSalary.snapshot", rows, () -> avgDeveloperSalary(snapshot)));
+        System.out.println("Department with Highest Avg Salary (snapshot): " + metrics.measure("departmentWithHighestAvgSalary.snapshot", rows, () -> departmentWithHighestAvgSalary(snapshot)));
+        System.out.println("Department with Highest Total Salary (snapshot): " + metrics.measure("deptWithHighestTotalSalary.snapshot", rows, () -> deptWithHighestTotalSalary(snapshot)));
+
+        // The narrow operations again, read straight from the CSV with only the columns they need
+        try (OperationMetrics.Probe probe = metrics.start("totalSalaries.projected").rows(rows)) {
+            System.out.println("Total Salaries (projected): " + totalSalaries(csv));
+        }
+        try (OperationMetrics.Probe probe = metrics.start("itSalaries.projected").rows(rows)) {
+            System.out.println("IT Salaries (projected): " + itSalaries(csv));
+        }
+        try (OperationMetrics.Probe probe = metrics.start("lowEarners.projected").rows(rows)) {
+            System.out.println("Low Earners (projected): " + lowEarners(csv));
+        }
+        try (OperationMetrics.Probe probe = metrics.start("idsManagedByJohnDoe.projected").rows(rows)) {
+            System.out.println("IDs Managed by John Doe (projected): " + idsManagedByJohnDoe(csv).size());
+        }
+        try (OperationMetrics.Probe probe = metrics.start("totalSalaryManagedByJane.projected").rows(rows)) {
+            System.out.println("Total Salary Managed by Jane Smith (projected): " + totalSalaryManagedByJane(csv));
+        }
+
+        // The sort operations again, streamed from the CSV through an external sort in a 16 MB budget
+        long memoryBudget = 16L << 20;
+        try (OperationMetrics.Probe probe = metrics.start("sortedNames.external").rows(rows);
+             Stream<String> sortedNames = sortedNames(csv, memoryBudget)) {
+            System.out.println("Sorted Names (external): " + sortedNames.limit(5).collect(Collectors.toList()));
+        }
+        try (OperationMetrics.Probe probe = metrics.start("sortedByHireDate.external").rows(rows);
+             Stream<Employee> sortedByHireDate = sortedByHireDate(csv, memoryBudget)) {
+            System.out.println("Sorted by Hire Date (external): " + sortedByHireDate.limit(5).map(Employee::getHireDate).collect(Collectors.toList()));
+        }
+        try (OperationMetrics.Probe probe = metrics.start("sortedByLastNameThenFirstName.external").rows(rows);
+             Stream<Employee> sortedByName = sortedByLastNameThenFirstName(csv, memoryBudget)) {
+            System.out.println("Sorted by Last Name then First Name (external): "
+                    + sortedByName.limit(5).map(e -> e.getLastName() + ", " + e.getFirstName()).collect(Collectors.toList()));
+        }
+
+        // The operations that gain from parallelism, run again through a query executor
+        try (QueryExecutor executor = new QueryExecutor()) {
+            System.out.println("Parallelism: " + executor.parallelism() + ", parallel: " + executor.isParallel(employees.size()));
+            System.out.println("High Earners (parallel): " + metrics.measure("highEarners.parallel", rows, () -> highEarners(executor, employees)).size());
+            System.out.println("Employees per Department (parallel): " + metrics.measure("employeesPerDepartment.parallel", rows, () -> employeesPerDepartment(executor, employees)));
+            System.out.println("Average Salary (parallel): " + metrics.measure("averageSalary.parallel", rows, () -> averageSalary(executor, employees)));
+            System.out.println("Average Salary per Department (parallel): " + metrics.measure("averageSalaryPerDepartment.parallel", rows, () -> averageSalaryPerDepartment(executor, employees)));
+            System.out.println("Name to Salary (parallel): " + metrics.measure("nameToSalary.parallel", rows, () -> nameToSalary(executor, employees)).size());
+            System.out.println("Most Common First Name (parallel): " + metrics.measure("mostCommonFirstName.parallel", rows, () -> mostCommonFirstName(executor, employees)));
+            System.out.println("Sorted by Hire Date (parallel): " + metrics.measure("sortedByHireDate.parallel", rows, () -> sortedByHireDate(executor, employees)).size());
+            System.out.println("Median Salary (parallel): " + metrics.measure("medianSalary.parallel", rows, () -> medianSalary(executor, employees)));
+            System.out.println("Employees by Department and Position (parallel): " + metrics.measure("employeesByDeptAndPos.parallel", rows, () -> employeesByDeptAndPos(executor, employees)));
+            System.out.println("Employees Hired per Month (parallel): " + metrics.measure("employeesHiredPerMonth.parallel", rows, () -> employeesHiredPerMonth(executor, employees)));
+            System.out.println("Department with Highest Total Salary (parallel): " + metrics.measure("deptWithHighestTotalSalary.parallel", rows, () -> deptWithHighestTotalSalary(executor, employees)));
+        }
+
+        // The list-building operations again, streamed from the CSV to NDJSON files one result per line
+        Path export = Files.createDirectories(Paths.get("export"));
+        try (Stream<String> firstNames = firstNames(csv)) {
+            write(metrics, "firstNames.ndjson", export.resolve("first-names.ndjson"), "First Names", firstNames);
+        }
+        try (Stream<String> emails = emails(csv)) {
+            write(metrics, "emails.ndjson", export.resolve("emails.ndjson"), "Emails", emails);
+        }
+        try (Stream<String> phoneNumbers = phoneNumbers(csv)) {
+            write(metrics, "phoneNumbers.ndjson", export.resolve("phone-numbers.ndjson"), "Phone Numbers", phoneNumbers);
+        }
+        try (Stream<String> sortedNames = sortedNames(csv, memoryBudget)) {
+            write(metrics, "sortedNames.ndjson", export.resolve("sorted-names.ndjson"), "Sorted Names", sortedNames);
+        }
+        Path namesByPositionPath = export.resolve("names-by-position.ndjson");
+        try (OperationMetrics.Probe probe = metrics.start("namesByPosition.ndjson");
+             Stream<Employee> namesByPosition = namesByPosition(csv, memoryBudget);
+             NdjsonWriter writer = new NdjsonWriter(Files.newOutputStream(namesByPositionPath))) {
+            Iterator<Employee> grouped = namesByPosition.iterator();
+            while (grouped.hasNext()) {
+                writer.write(grouped.next(), NAMES_BY_POSITION);
+            }
+            probe.rows(writer.count());
+            System.out.println("Names by Position: " + writer.count() + " lines to " + namesByPositionPath);
+        }
+
+        // The aggregate operations again, fused by the report engine into shared scans
+        Report report = metrics.measure("report", rows, () -> report(employees));
+        System.out.println("Report: " + report.asMap().size() + " results in " + report.getScans() + " scans");
+
+        // The point filters again, answered from bitmap indexes
+        BitmapIndex index = metrics.measure("bitmapIndex", rows, () -> BitmapIndex.of(employees));
+        System.out.println("IT Salaries (bitmap): " + metrics.measure("itSalaries.bitmap", rows, () -> itSalaries(employees, index)));
+        System.out.println("IDs Managed by John Doe (bitmap): " + metrics.measure("idsManagedByJohnDoe.bitmap", rows, () -> idsManagedByJohnDoe(employees, index)).size());
+        System.out.println("Total Salary Managed by Jane Smith (bitmap): " + metrics.measure("totalSalaryManagedByJane.bitmap", rows, () -> totalSalaryManagedByJane(employees, index)));
+        System.out.println("Managers (bitmap): " + metrics.measure("managers.bitmap", rows, () -> managers(employees, index)).size());
+        System.out.println("Average Developer Salary (bitmap): " + metrics.measure("avgDeveloperSalary.bitmap", rows, () -> avgDeveloperSalary(employees, index)));
+        System.out.println("Index size in bytes: " + index.sizeInBytes());
+
+        // The hire date operations again, answered from an index sorted by hire date
+        HireDateIndex hireDates = metrics.measure("hireDateIndex", rows, () -> HireDateIndex.of(employees));
+        System.out.println("Hired After 2015 (index): " + metrics.measure("hiredAfter2015.index", rows, () -> hiredAfter2015(employees, hireDates)).size());
+        System.out.println("Employees by Year (index): " + metrics.measure("employeesByYear.index", rows, () -> employeesByYear(employees, hireDates)).size() + " years");
+        System.out.println("Hire Date Range (index): " + Arrays.toString(metrics.measure("hireDateRange.index", rows, () -> hireDateRange(hireDates))));
+        System.out.println("Employees Hired per Month (index): " + metrics.measure("employeesHiredPerMonth.index", rows, () -> employeesHiredPerMonth(hireDates)));
+
+        // The aggregates maintained while ingesting, answered without scanning the rows
+        IncrementalAggregates aggregates = new IncrementalAggregates();
+        System.out.println("Ingested Rows: " + metrics.measure("incrementalAggregates", rows, () -> {
+            aggregates.addAll(employees);
+            return aggregates.count();
+        }));
+        System.out.println("Employees per Department (incremental): " + metrics.measure("employeesPerDepartment.incremental", rows, () -> aggregates.countBy(Dimension.DEPARTMENT)));
+        System.out.println("Average Salary (incremental): " + metrics.measure("averageSalary.incremental", rows, aggregates::averageSalary));
+        System.out.println("Employees per Manager (incremental): " + metrics.measure("employeesPerManager.incremental", rows, () -> aggregates.countBy(Dimension.MANAGER)));
+        System.out.println("Total Salaries (incremental): " + metrics.measure("totalSalaries.incremental", rows, aggregates::totalSalary));
+        System.out.println("Average Salary per Department (incremental): " + metrics.measure("averageSalaryPerDepartment.incremental", rows, () -> aggregates.averageSalaryBy(Dimension.DEPARTMENT)));
+        System.out.println("Department with Highest Total Salary (incremental): " + metrics.measure("deptWithHighestTotalSalary.incremental", rows, () -> aggregates.highestTotalSalary(Dimension.DEPARTMENT).orElse(null)));
+
+        // The manager operations again, answered from a hierarchy built once
+        ManagerHierarchy hierarchy = metrics.measure("managerHierarchy", rows, () -> ManagerHierarchy.of(employees));
+        System.out.println("Employees per Manager (hierarchy): " + metrics.measure("employeesPerManager.hierarchy", rows, () -> employeesPerManager(hierarchy)));
+        System.out.println("IDs Managed by John Doe (hierarchy): " + metrics.measure("idsManagedByJohnDoe.hierarchy", rows, () -> idsManagedByJohnDoe(hierarchy)).size());
+        System.out.println("Total Salary Managed by Jane Smith (hierarchy): " + metrics.measure("totalSalaryManagedByJane.hierarchy", rows, () -> totalSalaryManagedByJane(hierarchy)));
+        System.out.println("Manager with Most Employees (hierarchy): " + metrics.measure("managerWithMostEmployees.hierarchy", rows, () -> managerWithMostEmployees(hierarchy)));
+        System.out.println("Managers with More Than 5 Employees (hierarchy): " + metrics.measure("managersWithMoreThan5Employees.hierarchy", rows, () -> managersWithMoreThan5Employees(hierarchy)));
+        for (String manager : List.of("John Doe", "Jane Smith")) {
+            System.out.println(manager + ": " + hierarchy.directReportCount(manager) + " direct, "
+                    + hierarchy.reportCount(manager) + " total reports, payroll " + hierarchy.totalPayroll(manager));
+        }
+
+        // Fixed-memory estimates of the distinct, most-common and median operations
+        System.out.println("Distinct Positions (approx): " + metrics.measure("distinctPositions.approx", rows, () -> approxDistinctPositions(employees.stream())));
+        System.out.println("Distinct Managers (approx): " + metrics.measure("distinctManagers.approx", rows, () -> approxDistinctManagers(employees.stream())));
+        System.out.println("Most Common First Name (approx): " + metrics.measure("mostCommonFirstName.approx", rows, () -> approxMostCommonFirstName(employees.stream())));
+        System.out.println("Median Salary (approx): " + metrics.measure("medianSalary.approx", rows, () -> approxMedianSalary(employees.stream())));
+
+        System.out.println();
+        System.out.printf("%-32s %10s %10s %14s %14s%n", "Operation", "Mean ms", "Max ms", "Rows/s", "Allocated");
+        metrics.statistics().snapshot().forEach((operation, summary) -> System.out.printf("%-32s %10.3f %10.3f %14.0f %14d%n",
+                operation, summary.meanMillis(), summary.maxMillis(), summary.rowsPerSecond(), summary.allocatedBytes()));
 
-        // 1. Find all employees with a salary greater than 100,000
-        List<Employee> highEarners = employees.stream()
+    }
+
+    private static void write(OperationMetrics metrics, String operation, Path path, String label, Stream<?> results) throws IOException {
+        try (OperationMetrics.Probe probe = metrics.start(operation);
+             NdjsonWriter writer = new NdjsonWriter(Files.newOutputStream(path))) {
+            long lines = writer.writeAll(results);
+            probe.rows(lines);
+            System.out.println(label + ": " + lines + " lines to " + path);
+        }
+    }
+
+    /**
+     * The aggregate operations registered with the report engine, which answers them in two scans
+     * instead of one per operation.
+     */
+    public static Report report(List<Employee> employees) {
+        return new ReportEngine()
+                .register("Employees per Department", ReportQueries.countBy(Dimension.DEPARTMENT))                  // 2
+                .register("Average Salary", ReportQueries.averageSalary())                                          // 3, 40
+                .register("Highest Earner", ReportQueries.highestEarner())                                          // 5
+                .register("Employees per Manager", ReportQueries.countBy(Dimension.MANAGER))                        // 7
+                .register("Total Salaries", ReportQueries.totalSalary())                                            // 8
+                .register("Earliest Hired", ReportQueries.earliestHired())                                          // 10
+                .register("Names by Department", ReportQueries.firstNamesBy(Dimension.DEPARTMENT))                  // 11
+                .register("Average Salary per Department", ReportQueries.averageSalaryBy(Dimension.DEPARTMENT))     // 12
+                .register("Highest Salary in Department", ReportQueries.highestPaidBy(Dimension.DEPARTMENT))        // 26
+                .register("Total Employees", ReportQueries.employeeCount())                                         // 27
+                .register("Department with Highest Avg Salary", ReportQueries.highestAverageSalaryBy(Dimension.DEPARTMENT)) // 28
+                .register("Manager with Most Employees", ReportQueries.largestBy(Dimension.MANAGER))                // 32
+                .register("Oldest Hire Date", ReportQueries.oldestHireDate())                                       // 34
+                .register("Newest Hire Date", ReportQueries.newestHireDate())                                       // 34
+                .register("Above Average Salary", ReportQueries.aboveAverageSalary())                               // 40
+                .register("Department with Highest Total Salary", ReportQueries.highestTotalSalaryBy(Dimension.DEPARTMENT)) // 45
+                .register("Managers with more than 5 employees", ReportQueries.groupsLargerThan(Dimension.MANAGER, 5)) // 49
+                .run(employees);
+    }
+
+    // 1. Find all employees with a salary greater than 100,000
+    public static List<Employee> highEarners(List<Employee> employees) {
+        return employees.stream()
                 .filter(e -> e.getSalary() > 100000)
                 .collect(Collectors.toList());
-        System.out.println("High Earners: " + highEarners.size());
+    }
 
-        // 2. Count the number of employees in each department
-        Map<String, Long> employeesPerDepartment = employees.stream()
-                .collect(Collectors.groupingBy(Employee::getDepartment, Collectors.counting()));
-        System.out.println("Employees per Department: " + employeesPerDepartment);
+    /**
+     * The same operation run through a {@link QueryExecutor}.
+     */
+    public static List<Employee> highEarners(QueryExecutor executor, List<Employee> employees) {
+        return executor.execute(employees, stream -> stream
+                .filter(e -> e.getSalary() > 100000)
+                .collect(Collectors.toList()));
+    }
+
+    // 2. Count the number of employees in each department
+    public static Map<String, Long> employeesPerDepartment(List<Employee> employees) {
+        return employees.stream()
+                .collect(PrimitiveCollectors.countingBy(Employee::getDepartment))
+                .toMap();
+    }
+
+    public static Map<String, Long> employeesPerDepartment(EmployeeColumns columns) {
+        return columns.toMap(Dimension.DEPARTMENT, columns.countBy(Dimension.DEPARTMENT));
+    }
+
+    /**
+     * Group-bys run through a {@link QueryExecutor} over few keys (departments, managers, months)
+     * collect into per-thread primitive maps merged at the end; group-bys over many keys (first
+     * names, full names) use concurrent collectors, since merging large per-thread maps would cost as
+     * much as building them.
+     */
+    public static Map<String, Long> employeesPerDepartment(QueryExecutor executor, List<Employee> employees) {
+        return executor.execute(employees, stream -> stream
+                .collect(PrimitiveCollectors.countingBy(Employee::getDepartment))
+                .toMap());
+    }
 
-        // 3. Find the average salary in the company
-        double averageSalary = employees.stream()
+    // 3. Find the average salary in the company
+    public static double averageSalary(List<Employee> employees) {
+        return employees.stream()
                 .mapToDouble(Employee::getSalary)
                 .average()
                 .orElse(0.0);
-        System.out.println("Average Salary: " + averageSalary);
+    }
+
+    public static double averageSalary(EmployeeColumns columns) {
+        return columns.averageSalary();
+    }
+
+    public static double averageSalary(QueryExecutor executor, List<Employee> employees) {
+        return executor.execute(employees, stream -> stream
+                .mapToDouble(Employee::getSalary)
+                .average()
+                .orElse(0.0));
+    }
 
-        // 4. Get a list of all employees hired after 2015
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        List<Employee> hiredAfter2015 = employees.stream()
-                .filter(e -> LocalDate.parse(e.getHireDate(), formatter).isAfter(LocalDate.of(2015, 12, 31)))
+    // 4. Get a list of all employees hired after 2015
+    public static List<Employee> hiredAfter2015(List<Employee> employees) {
+        return employees.stream()
+                .filter(e -> e.getHireEpochDay() > END_OF_2015)
                 .collect(Collectors.toList());
-        System.out.println("Hired After 2015: " + hiredAfter2015.size());
+    }
 
-        // 5. Find the employee with the highest salary
-        Employee highestEarner = employees.stream()
+    /**
+     * The same operation answered from a hire date index, which finds the matching rows with one
+     * binary search instead of testing every employee.
+     */
+    public static List<Employee> hiredAfter2015(List<Employee> employees, HireDateIndex index) {
+        int[] rows = index.rowsHiredAfter(LocalDate.of(2015, 12, 31));
+        Arrays.sort(rows);
+        return index.select(employees, rows);
+    }
+
+    // 5. Find the employee with the highest salary
+    public static Employee highestEarner(List<Employee> employees) {
+        return employees.stream()
                 .max(Comparator.comparingDouble(Employee::getSalary))
                 .orElse(null);
-        System.out.println("Highest Earner: " + highestEarner);
+    }
 
-        // 6. List all distinct positions in the company
-        List<String> positions = employees.stream()
+    public static Employee highestEarner(EmployeeColumns columns) {
+        int row = columns.maxSalaryRow();
+        return row < 0 ? null : columns.toEmployee(row);
+    }
+
+    // 6. List all distinct positions in the company
+    public static List<String> distinctPositions(List<Employee> employees) {
+        return employees.stream()
                 .map(Employee::getPosition)
                 .distinct()
                 .collect(Collectors.toList());
-        System.out.println("Distinct Positions: " + positions);
+    }
 
-        // 7. Count the number of employees managed by each manager
-        Map<String, Long> employeesPerManager = employees.stream()
-                .collect(Collectors.groupingBy(Employee::getManager, Collectors.counting()));
-        System.out.println("Employees per Manager: " + employeesPerManager);
+    /**
+     * Estimated number of distinct positions, in fixed memory however large the input stream is.
+     */
+    public static long approxDistinctPositions(Stream<Employee> employees) {
+        return employees.collect(SketchCollectors.distinctCount(Employee::getPosition, DISTINCT_PRECISION)).estimate();
+    }
 
-        // 8. Find the sum of all salaries in the company
-        double totalSalaries = employees.stream()
+    // 7. Count the number of employees managed by each manager
+    public static Map<String, Long> employeesPerManager(List<Employee> employees) {
+        return employees.stream()
+                .collect(PrimitiveCollectors.countingBy(Employee::getManager))
+                .toMap();
+    }
+
+    public static Map<String, Long> employeesPerManager(EmployeeColumns columns) {
+        return columns.toMap(Dimension.MANAGER, columns.countBy(Dimension.MANAGER));
+    }
+
+    /**
+     * The same operation answered from a hierarchy built once at load, instead of regrouping the list.
+     */
+    public static Map<String, Long> employeesPerManager(ManagerHierarchy hierarchy) {
+        return hierarchy.directReportCounts();
+    }
+
+    // 8. Find the sum of all salaries in the company
+    public static double totalSalaries(List<Employee> employees) {
+        return employees.stream()
                 .mapToDouble(Employee::getSalary)
                 .sum();
-        System.out.println("Total Salaries: " + totalSalaries);
+    }
+
+    public static double totalSalaries(EmployeeColumns columns) {
+        return columns.sumSalary();
+    }
+
+    /**
+     * The same operation read straight from the CSV, parsing only the columns it needs.
+     */
+    public static double totalSalaries(Path csv) throws IOException {
+        try (Stream<Employee> employees = new CsvReader().scan(csv, CsvProjection.of(EmployeeColumn.SALARY))) {
+            return employees.mapToDouble(Employee::getSalary).sum();
+        }
+    }
 
-        // 9. List the first names of all employees
-        List<String> firstNames = employees.stream()
+    // 9. List the first names of all employees
+    public static List<String> firstNames(List<Employee> employees) {
+        return employees.stream()
                 .map(Employee::getFirstName)
                 .collect(Collectors.toList());
-        System.out.println("First Names: " + firstNames.size());
+    }
+
+    /**
+     * The same operation streamed from the CSV one row at a time, so memory stays flat however
+     * many rows the file has. The file stays open until the stream is closed.
+     */
+    public static Stream<String> firstNames(Path csv) throws IOException {
+        return new CsvReader().scan(csv, CsvProjection.of(EmployeeColumn.FIRST_NAME))
+                .map(Employee::getFirstName);
+    }
 
-        // 10. Find the employee with the earliest hire date
-        Employee earliestHired = employees.stream()
-                .min(Comparator.comparing(e -> LocalDate.parse(e.getHireDate(), formatter)))
+    // 10. Find the employee with the earliest hire date
+    public static Employee earliestHired(List<Employee> employees) {
+        return employees.stream()
+                .filter(Employee::hasHireDate)
+                .min(Comparator.comparingInt(Employee::getHireEpochDay))
                 .orElse(null);
-        System.out.println("Earliest Hired: " + earliestHired);
+    }
 
-        // 11. Group employees by department and list their names
-        Map<String, List<String>> namesByDepartment = employees.stream()
+    // 11. Group employees by department and list their names
+    public static Map<String, List<String>> namesByDepartment(List<Employee> employees) {
+        return employees.stream()
                 .collect(Collectors.groupingBy(Employee::getDepartment,
                         Collectors.mapping(Employee::getFirstName, Collectors.toList())));
-        System.out.println("Names by Department: " + namesByDepartment);
+    }
 
-        // 12. Get the average salary per department
-        Map<String, Double> averageSalaryPerDepartment = employees.stream()
-                .collect(Collectors.groupingBy(Employee::getDepartment,
-                        Collectors.averagingDouble(Employee::getSalary)));
-        System.out.println("Average Salary per Department: " + averageSalaryPerDepartment);
+    // 12. Get the average salary per department
+    public static Map<String, Double> averageSalaryPerDepartment(List<Employee> employees) {
+        return employees.stream()
+                .collect(PrimitiveCollectors.summingBy(Employee::getDepartment, Employee::getSalary))
+                .toAverageMap();
+    }
 
-        // 13. Find the top 3 highest paid employees
-        List<Employee> top3Earners = employees.stream()
-                .sorted(Comparator.comparingDouble(Employee::getSalary).reversed())
-                .limit(3)
-                .collect(Collectors.toList());
-        System.out.println("Top 3 Earners: " + top3Earners);
+    public static Map<String, Double> averageSalaryPerDepartment(EmployeeColumns columns) {
+        return columns.toMap(Dimension.DEPARTMENT, columns.averageSalaryBy(Dimension.DEPARTMENT));
+    }
+
+    public static Map<String, Double> averageSalaryPerDepartment(QueryExecutor executor, List<Employee> employees) {
+        return executor.execute(employees, stream -> stream
+                .collect(PrimitiveCollectors.summingBy(Employee::getDepartment, Employee::getSalary))
+                .toAverageMap());
+    }
 
-        // 14. Get a list of emails of all employees
-        List<String> emails = employees.stream()
+    // 13. Find the top 3 highest paid employees
+    public static List<Employee> top3Earners(List<Employee> employees) {
+        return employees.stream()
+                .collect(RankingCollectors.greatest(3, Comparator.comparingDouble(Employee::getSalary)));
+    }
+
+    // 14. Get a list of emails of all employees
+    public static List<String> emails(List<Employee> employees) {
+        return employees.stream()
                 .map(Employee::getEmail)
                 .collect(Collectors.toList());
-        System.out.println("Emails: " + emails.size());
+    }
+
+    public static Stream<String> emails(Path csv) throws IOException {
+        return new CsvReader().scan(csv, CsvProjection.of(EmployeeColumn.EMAIL))
+                .map(Employee::getEmail);
+    }
 
-        // 15. Find all employees whose first name starts with 'J'
-        List<Employee> firstNameStartsWithJ = employees.stream()
+    // 15. Find all employees whose first name starts with 'J'
+    public static List<Employee> firstNameStartsWithJ(List<Employee> employees) {
+        return employees.stream()
                 .filter(e -> e.getFirstName().startsWith("J"))
                 .collect(Collectors.toList());
-        System.out.println("First Name starts with J: " + firstNameStartsWithJ.size());
+    }
 
-        // 16. Get a map of employee names to their salaries
-        Map<String, Double> nameToSalary = employees.stream()
+    // 16. Get a map of employee names to their salaries
+    public static Map<String, Double> nameToSalary(List<Employee> employees) {
+        return employees.stream()
                 .collect(Collectors.toMap(e -> e.getFirstName() + " " + e.getLastName(), Employee::getSalary));
-        System.out.println("Name to Salary: " + nameToSalary);
+    }
+
+    public static Map<String, Double> nameToSalary(QueryExecutor executor, List<Employee> employees) {
+        return executor.execute(employees, stream -> stream
+                .unordered()
+                .collect(Collectors.toConcurrentMap(e -> e.getFirstName() + " " + e.getLastName(), Employee::getSalary)));
+    }
 
-        // 17. Find the number of distinct managers
-        long distinctManagers = employees.stream()
+    // 17. Find the number of distinct managers
+    public static long distinctManagers(List<Employee> employees) {
+        return employees.stream()
                 .map(Employee::getManager)
                 .distinct()
                 .count();
-        System.out.println("Distinct Managers: " + distinctManagers);
+    }
+
+    public static long approxDistinctManagers(Stream<Employee> employees) {
+        return employees.collect(SketchCollectors.distinctCount(Employee::getManager, DISTINCT_PRECISION)).estimate();
+    }
 
-        // 18. Get a list of all phone numbers
-        List<String> phoneNumbers = employees.stream()
+    // 18. Get a list of all phone numbers
+    public static List<String> phoneNumbers(List<Employee> employees) {
+        return employees.stream()
                 .map(Employee::getPhone)
                 .collect(Collectors.toList());
-        System.out.println("Phone Numbers: " + phoneNumbers.size());
+    }
+
+    public static Stream<String> phoneNumbers(Path csv) throws IOException {
+        return new CsvReader().scan(csv, CsvProjection.of(EmployeeColumn.PHONE))
+                .map(Employee::getPhone);
+    }
 
-        // 19. Find the employee with the shortest first name
-        Employee shortestFirstName = employees.stream()
+    // 19. Find the employee with the shortest first name
+    public static Employee shortestFirstName(List<Employee> employees) {
+        return employees.stream()
                 .min(Comparator.comparingInt(e -> e.getFirstName().length()))
                 .orElse(null);
-        System.out.println("Shortest First Name: " + shortestFirstName);
+    }
 
-        // 20. Group employees by their hire date year
-        Map<Integer, List<Employee>> employeesByYear = employees.stream()
-                .collect(Collectors.groupingBy(e -> LocalDate.parse(e.getHireDate(), formatter).getYear()));
-        System.out.println("Employees by Year: " + employeesByYear);
+    // 20. Group employees by their hire date year
+    public static Map<Integer, List<Employee>> employeesByYear(List<Employee> employees) {
+        return employees.stream()
+                .filter(Employee::hasHireDate)
+                .collect(PrimitiveCollectors.groupingByInt(e -> HireDates.year(e.getHireEpochDay()), Collectors.toList()));
+    }
+
+    public static Map<Integer, List<Employee>> employeesByYear(List<Employee> employees, HireDateIndex index) {
+        Map<Integer, List<Employee>> byYear = new TreeMap<>();
+        if (index.size() == 0) {
+            return byYear;
+        }
+        for (int year = index.earliest().getYear(); year <= index.latest().getYear(); year++) {
+            int[] rows = index.rowsHiredBetween(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+            if (rows.length > 0) {
+                Arrays.sort(rows);
+                byYear.put(year, index.select(employees, rows));
+            }
+        }
+        return byYear;
+    }
 
-        // 21. Find the sum of salaries of employees in the IT department
-        double itSalaries = employees.stream()
+    // 21. Find the sum of salaries of employees in the IT department
+    public static double itSalaries(List<Employee> employees) {
+        return employees.stream()
                 .filter(e -> "IT".equals(e.getDepartment()))
                 .mapToDouble(Employee::getSalary)
                 .sum();
-        System.out.println("IT Salaries: " + itSalaries);
+    }
+
+    public static double itSalaries(EmployeeColumns columns) {
+        int it = columns.code(Dimension.DEPARTMENT, "IT");
+        return it < 0 ? 0.0 : columns.sumSalaryWhere(Dimension.DEPARTMENT, it);
+    }
 
-        // 22. Get the first and last names of employees in alphabetical order
-        List<String> sortedNames = employees.stream()
+    /**
+     * The same operation answered from a bitmap index over the list, touching only the matching rows.
+     */
+    public static double itSalaries(List<Employee> employees, BitmapIndex index) {
+        return index.filter(RowFilter.eq(Dimension.DEPARTMENT, "IT")).stream()
+                .mapToDouble(row -> employees.get(row).getSalary())
+                .sum();
+    }
+
+    /**
+     * The same operation read straight from the CSV, dropping rows of other departments in the parser.
+     */
+    public static double itSalaries(Path csv) throws IOException {
+        CsvProjection projection = CsvProjection.of(EmployeeColumn.SALARY)
+                .where(ColumnPredicate.equalTo(EmployeeColumn.DEPARTMENT, "IT"));
+        try (Stream<Employee> employees = new CsvReader().scan(csv, projection)) {
+            return employees.mapToDouble(Employee::getSalary).sum();
+        }
+    }
+
+    // 22. Get the first and last names of employees in alphabetical order
+    public static List<String> sortedNames(List<Employee> employees) {
+        return employees.stream()
                 .map(e -> e.getFirstName() + " " + e.getLastName())
                 .sorted()
                 .collect(Collectors.toList());
-        System.out.println("Sorted Names: " + sortedNames);
+    }
 
-        // 23. Count the number of employees with a salary less than 50,000
-        long lowEarners = employees.stream()
+    /**
+     * The same operation streamed from the CSV through an external sort, holding about
+     * {@code memoryBudget} bytes of records at once. The file is read before this returns; close
+     * the returned stream to delete the spilled runs.
+     */
+    public static Stream<String> sortedNames(Path csv, long memoryBudget) throws IOException {
+        ExternalSorter<String> sorter = new ExternalSorter<>(RecordCodec.strings(), Comparator.<String>naturalOrder())
+                .withMemoryBudget(memoryBudget);
+        try (Stream<Employee> employees = new CsvReader().streamEmpData(csv)) {
+            return sorter.sort(employees.map(e -> e.getFirstName() + " " + e.getLastName()));
+        }
+    }
+
+    // 23. Count the number of employees with a salary less than 50,000
+    public static long lowEarners(List<Employee> employees) {
+        return employees.stream()
                 .filter(e -> e.getSalary() < 50000)
                 .count();
-        System.out.println("Low Earners: " + lowEarners);
+    }
 
-        // 24. Find the most common first name
-        String mostCommonFirstName = employees.stream()
-                .collect(Collectors.groupingBy(Employee::getFirstName, Collectors.counting()))
-                .entrySet()
+    public static long lowEarners(EmployeeColumns columns) {
+        return columns.countSalaryBelow(50000);
+    }
+
+    public static long lowEarners(Path csv) throws IOException {
+        CsvProjection projection = CsvProjection.of(EmployeeColumn.ID)
+                .where(ColumnPredicate.salaryBelow(50000));
+        try (Stream<Employee> employees = new CsvReader().scan(csv, projection)) {
+            return employees.count();
+        }
+    }
+
+    // 24. Find the most common first name
+    public static String mostCommonFirstName(List<Employee> employees) {
+        return employees.stream()
+                .collect(PrimitiveCollectors.countingBy(Employee::getFirstName))
+                .keyWithMaxValue();
+    }
+
+    public static String approxMostCommonFirstName(Stream<Employee> employees) {
+        List<SpaceSaving.HeavyHitter<String>> top = employees
+                .collect(SketchCollectors.heavyHitters(Employee::getFirstName, HEAVY_HITTERS))
+                .top(1);
+        return top.isEmpty() ? null : top.get(0).key();
+    }
+
+    public static String mostCommonFirstName(QueryExecutor executor, List<Employee> employees) {
+        ConcurrentMap<String, Long> counts = executor.execute(employees, stream -> stream
+                .unordered()
+                .collect(Collectors.groupingByConcurrent(Employee::getFirstName, Collectors.counting())));
+        return counts.entrySet()
                 .stream()
                 .max(Map.Entry.comparingByValue())
                 .map(Map.Entry::getKey)
                 .orElse(null);
-        System.out.println("Most Common First Name: " + mostCommonFirstName);
+    }
 
-        // 25. Get the employee IDs of employees managed by "John Doe"
-        List<Integer> idsManagedByJohnDoe = employees.stream()
+    // 25. Get the employee IDs of employees managed by "John Doe"
+    public static List<Integer> idsManagedByJohnDoe(List<Employee> employees) {
+        return employees.stream()
                 .filter(e -> "John Doe".equals(e.getManager()))
                 .map(Employee::getId)
                 .collect(Collectors.toList());
-        System.out.println("IDs Managed by John Doe: " + idsManagedByJohnDoe);
+    }
+
+    /**
+     * The same operation collected into a primitive int list, without boxing an Integer per id.
+     */
+    public static IntList idsManagedByJohnDoe(Stream<Employee> employees) {
+        return employees
+                .filter(e -> "John Doe".equals(e.getManager()))
+                .collect(PrimitiveCollectors.toIntList(Employee::getId));
+    }
+
+    public static List<Integer> idsManagedByJohnDoe(List<Employee> employees, BitmapIndex index) {
+        return index.filter(RowFilter.eq(Dimension.MANAGER, "John Doe")).stream()
+                .mapToObj(row -> employees.get(row).getId())
+                .collect(Collectors.toList());
+    }
+
+    public static List<Integer> idsManagedByJohnDoe(ManagerHierarchy hierarchy) {
+        return Arrays.stream(hierarchy.ids(hierarchy.directReports("John Doe")))
+                .boxed()
+                .collect(Collectors.toList());
+    }
 
-        // 26. Find the highest salary in each department
-        Map<String, Optional<Employee>> highestSalaryInDepartment = employees.stream()
+    public static List<Integer> idsManagedByJohnDoe(Path csv) throws IOException {
+        CsvProjection projection = CsvProjection.of(EmployeeColumn.ID)
+                .where(ColumnPredicate.equalTo(EmployeeColumn.MANAGER, "John Doe"));
+        try (Stream<Employee> employees = new CsvReader().scan(csv, projection)) {
+            return employees.map(Employee::getId).collect(Collectors.toList());
+        }
+    }
+
+    // 26. Find the highest salary in each department
+    public static Map<String, Optional<Employee>> highestSalaryInDepartment(List<Employee> employees) {
+        return employees.stream()
                 .collect(Collectors.groupingBy(Employee::getDepartment,
                         Collectors.maxBy(Comparator.comparingDouble(Employee::getSalary))));
-        System.out.println("Highest Salary in Department: " + highestSalaryInDepartment);
+    }
 
-        // 27. Calculate the total number of employees
-        long totalEmployees = employees.stream().count();
-        System.out.println("Total Employees: " + totalEmployees);
+    // 27. Calculate the total number of employees
+    public static long totalEmployees(List<Employee> employees) {
+        return employees.stream().count();
+    }
 
-        // 28. Get the department with the highest average salary
-        String departmentWithHighestAvgSalary = employees.stream()
-                .collect(Collectors.groupingBy(Employee::getDepartment, Collectors.averagingDouble(Employee::getSalary)))
-                .entrySet()
-                .stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
-        System.out.println("Department with Highest Avg Salary: " + departmentWithHighestAvgSalary);
+    // 28. Get the department with the highest average salary
+    public static String departmentWithHighestAvgSalary(List<Employee> employees) {
+        return employees.stream()
+                .collect(PrimitiveCollectors.summingBy(Employee::getDepartment, Employee::getSalary))
+                .keyWithMaxAverage();
+    }
+
+    public static String departmentWithHighestAvgSalary(EmployeeColumns columns) {
+        return columns.argMax(Dimension.DEPARTMENT, columns.averageSalaryBy(Dimension.DEPARTMENT));
+    }
 
-        // 29. List all employees sorted by hire date
-        List<Employee> sortedByHireDate = employees.stream()
-                .sorted(Comparator.comparing(e -> LocalDate.parse(e.getHireDate(), formatter)))
+    // 29. List all employees sorted by hire date
+    public static List<Employee> sortedByHireDate(List<Employee> employees) {
+        return employees.stream()
+                .sorted(Comparator.comparingInt(Employee::getHireEpochDay))
                 .collect(Collectors.toList());
-        System.out.println("Sorted by Hire Date: " + sortedByHireDate.size());
+    }
+
+    public static Stream<Employee> sortedByHireDate(Path csv, long memoryBudget) throws IOException {
+        ExternalSorter<Employee> sorter = new ExternalSorter<>(EmployeeCodec.INSTANCE, Comparator.comparingInt(Employee::getHireEpochDay))
+                .withMemoryBudget(memoryBudget);
+        try (Stream<Employee> employees = new CsvReader().streamEmpData(csv)) {
+            return sorter.sort(employees);
+        }
+    }
+
+    public static List<Employee> sortedByHireDate(QueryExecutor executor, List<Employee> employees) {
+        return executor.execute(employees, stream -> stream
+                .sorted(Comparator.comparingInt(Employee::getHireEpochDay))
+                .collect(Collectors.toList()));
+    }
 
-        // 30. Get the top 5 highest paid employees' email addresses
-        List<String> top5Emails = employees.stream()
-                .sorted(Comparator.comparingDouble(Employee::getSalary).reversed())
-                .limit(5)
+    // 30. Get the top 5 highest paid employees' email addresses
+    public static List<String> top5Emails(List<Employee> employees) {
+        return employees.stream()
+                .collect(RankingCollectors.greatest(5, Comparator.comparingDouble(Employee::getSalary)))
+                .stream()
                 .map(Employee::getEmail)
                 .collect(Collectors.toList());
-        System.out.println("Top 5 Emails: " + top5Emails);
+    }
 
-        // 31. Calculate the total salary of employees managed by "Jane Smith"
-        double totalSalaryManagedByJane = employees.stream()
+    // 31. Calculate the total salary of employees managed by "Jane Smith"
+    public static double totalSalaryManagedByJane(List<Employee> employees) {
+        return employees.stream()
                 .filter(e -> "Jane Smith".equals(e.getManager()))
                 .mapToDouble(Employee::getSalary)
                 .sum();
-        System.out.println("Total Salary Managed by Jane Smith: " + totalSalaryManagedByJane);
+    }
 
-        // 32. Find the manager with the most employees
-        String managerWithMostEmployees = employees.stream()
-                .collect(Collectors.groupingBy(Employee::getManager, Collectors.counting()))
-                .entrySet()
-                .stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
-        System.out.println("Manager with Most Employees: " + managerWithMostEmployees);
+    public static double totalSalaryManagedByJane(EmployeeColumns columns) {
+        int janeSmith = columns.code(Dimension.MANAGER, "Jane Smith");
+        return janeSmith < 0 ? 0.0 : columns.sumSalaryWhere(Dimension.MANAGER, janeSmith);
+    }
+
+    public static double totalSalaryManagedByJane(List<Employee> employees, BitmapIndex index) {
+        return index.filter(RowFilter.eq(Dimension.MANAGER, "Jane Smith")).stream()
+                .mapToDouble(row -> employees.get(row).getSalary())
+                .sum();
+    }
+
+    public static double totalSalaryManagedByJane(ManagerHierarchy hierarchy) {
+        return hierarchy.directPayroll("Jane Smith");
+    }
 
-        // 33. List the names of employees who have "Manager" in their position title
-        List<String> managers = employees.stream()
+    public static double totalSalaryManagedByJane(Path csv) throws IOException {
+        CsvProjection projection = CsvProjection.of(EmployeeColumn.SALARY)
+                .where(ColumnPredicate.equalTo(EmployeeColumn.MANAGER, "Jane Smith"));
+        try (Stream<Employee> employees = new CsvReader().scan(csv, projection)) {
+            return employees.mapToDouble(Employee::getSalary).sum();
+        }
+    }
+
+    // 32. Find the manager with the most employees
+    public static String managerWithMostEmployees(List<Employee> employees) {
+        return employees.stream()
+                .collect(PrimitiveCollectors.countingBy(Employee::getManager))
+                .keyWithMaxValue();
+    }
+
+    public static String managerWithMostEmployees(ManagerHierarchy hierarchy) {
+        return hierarchy.managerWithMostReports();
+    }
+
+    // 33. List the names of employees who have "Manager" in their position title
+    public static List<String> managers(List<Employee> employees) {
+        return employees.stream()
                 .filter(e -> e.getPosition().contains("Manager"))
                 .map(e -> e.getFirstName() + " " + e.getLastName())
                 .collect(Collectors.toList());
-        System.out.println("Managers: " + managers);
+    }
 
-        // 34. Find the oldest and newest hire dates
-        LocalDate oldestHireDate = employees.stream()
-                .map(e -> LocalDate.parse(e.getHireDate(), formatter))
-                .min(LocalDate::compareTo)
-                .orElse(null);
-        LocalDate newestHireDate = employees.stream()
-                .map(e -> LocalDate.parse(e.getHireDate(), formatter))
-                .max(LocalDate::compareTo)
-                .orElse(null);
-        System.out.println("Oldest Hire Date: " + oldestHireDate);
-        System.out.println("Newest Hire Date: " + newestHireDate);
+    public static List<String> managers(List<Employee> employees, BitmapIndex index) {
+        return BitmapIndex.select(index.filter(RowFilter.contains(Dimension.POSITION, "Manager")), employees).stream()
+                .map(e -> e.getFirstName() + " " + e.getLastName())
+                .collect(Collectors.toList());
+    }
+
+    // 34. Find the oldest and newest hire dates
+    public static LocalDate[] hireDateRange(List<Employee> employees) {
+        IntSummaryStatistics hireDays = employees.stream()
+                .filter(Employee::hasHireDate)
+                .mapToInt(Employee::getHireEpochDay)
+                .summaryStatistics();
+        if (hireDays.getCount() == 0) {
+            return new LocalDate[]{null, null};
+        }
+        return new LocalDate[]{LocalDate.ofEpochDay(hireDays.getMin()), LocalDate.ofEpochDay(hireDays.getMax())};
+    }
+
+    public static LocalDate[] hireDateRange(HireDateIndex index) {
+        return new LocalDate[]{index.earliest(), index.latest()};
+    }
 
-        // 35. Find all employees who have been with the company for more than 10 years
-        List<Employee> moreThan10Years = employees.stream()
-                .filter(e -> LocalDate.parse(e.getHireDate(), formatter).isBefore(LocalDate.now().minusYears(10)))
+    // 35. Find all employees who have been with the company for more than 10 years
+    public static List<Employee> moreThan10Years(List<Employee> employees) {
+        int cutoff = HireDates.toEpochDay(LocalDate.now().minusYears(10));
+        return employees.stream()
+                .filter(e -> e.hasHireDate() && e.getHireEpochDay() < cutoff)
                 .collect(Collectors.toList());
-        System.out.println("More than 10 Years: " + moreThan10Years.size());
+    }
 
-        // 36. Group employees by position and list their names
-        Map<String, List<String>> namesByPosition = employees.stream()
+    // 36. Group employees by position and list their names
+    public static Map<String, List<String>> namesByPosition(List<Employee> employees) {
+        return employees.stream()
                 .collect(Collectors.groupingBy(Employee::getPosition,
                         Collectors.mapping(e -> e.getFirstName() + " " + e.getLastName(), Collectors.toList())));
-        System.out.println("Names by Position: " + namesByPosition);
+    }
 
-        // 37. Calculate the median salary
-        List<Double> sortedSalaries = employees.stream()
-                .map(Employee::getSalary)
-                .sorted()
-                .collect(Collectors.toList());
-        double medianSalary;
-        if (sortedSalaries.size() % 2 == 0) {
-            medianSalary = (sortedSalaries.get(sortedSalaries.size() / 2 - 1) + sortedSalaries.get(sortedSalaries.size() / 2)) / 2;
-        } else {
-            medianSalary = sortedSalaries.get(sortedSalaries.size() / 2);
+    /**
+     * The same grouping streamed from the CSV: employees with only their names and position set,
+     * ordered by position through an external sort instead of collected into a map. Close the
+     * returned stream to delete the spilled runs.
+     */
+    public static Stream<Employee> namesByPosition(Path csv, long memoryBudget) throws IOException {
+        ExternalSorter<Employee> sorter = new ExternalSorter<>(EmployeeCodec.INSTANCE,
+                Comparator.comparing(Employee::getPosition, Comparator.nullsFirst(Comparator.<String>naturalOrder())))
+                .withMemoryBudget(memoryBudget);
+        try (Stream<Employee> employees = new CsvReader().scan(csv, CsvProjection.of(NAMES_BY_POSITION))) {
+            return sorter.sort(employees);
         }
-        System.out.println("Median Salary: " + medianSalary);
+    }
 
-        // 38. Find the average salary of employees hired in the last 5 years
-        double avgSalaryLast5Years = employees.stream()
-                .filter(e -> LocalDate.parse(e.getHireDate(), formatter).isAfter(LocalDate.now().minusYears(5)))
+    // 37. Calculate the median salary
+    public static double medianSalary(List<Employee> employees) {
+        return employees.stream()
+                .collect(RankingCollectors.median(Employee::getSalary));
+    }
+
+    public static double approxMedianSalary(Stream<Employee> employees) {
+        return employees.collect(SketchCollectors.quantiles(Employee::getSalary, QUANTILE_K)).median();
+    }
+
+    public static double medianSalary(QueryExecutor executor, List<Employee> employees) {
+        return executor.execute(employees, stream -> stream
+                .collect(RankingCollectors.median(Employee::getSalary)));
+    }
+
+    // 38. Find the average salary of employees hired in the last 5 years
+    public static double avgSalaryLast5Years(List<Employee> employees) {
+        int cutoff = HireDates.toEpochDay(LocalDate.now().minusYears(5));
+        return employees.stream()
+                .filter(e -> e.getHireEpochDay() > cutoff)
                 .mapToDouble(Employee::getSalary)
                 .average()
                 .orElse(0.0);
-        System.out.println("Average Salary Last 5 Years: " + avgSalaryLast5Years);
+    }
 
-        // 39. Find the number of employees in each position within each department
-        Map<String, Map<String, Long>> employeesByDeptAndPos = employees.stream()
+    // 39. Find the number of employees in each position within each department
+    public static Map<String, Map<String, Long>> employeesByDeptAndPos(List<Employee> employees) {
+        return employees.stream()
                 .collect(Collectors.groupingBy(Employee::getDepartment,
-                        Collectors.groupingBy(Employee::getPosition, Collectors.counting())));
-        System.out.println("Employees by Dept and Pos: " + employeesByDeptAndPos);
+                        Collectors.collectingAndThen(PrimitiveCollectors.countingBy(Employee::getPosition), ObjectLongHashMap::toMap)));
+    }
 
-        // 40. Get the list of employees whose salary is above the average salary
+    public static Map<String, Map<String, Long>> employeesByDeptAndPos(QueryExecutor executor, List<Employee> employees) {
+        return executor.execute(employees, stream -> stream
+                .collect(Collectors.groupingBy(Employee::getDepartment,
+                        Collectors.collectingAndThen(PrimitiveCollectors.countingBy(Employee::getPosition), ObjectLongHashMap::toMap))));
+    }
+
+    // 40. Get the list of employees whose salary is above the average salary
+    public static List<Employee> aboveAverageSalary(List<Employee> employees) {
         double overallAverageSalary = employees.stream()
                 .mapToDouble(Employee::getSalary)
                 .average()
                 .orElse(0.0);
-        List<Employee> aboveAverageSalary = employees.stream()
+        return employees.stream()
                 .filter(e -> e.getSalary() > overallAverageSalary)
                 .collect(Collectors.toList());
-        System.out.println("Above Average Salary: " + aboveAverageSalary.size());
+    }
 
-        // 41. List the names of employees hired on weekends
-        List<String> hiredOnWeekends = employees.stream()
+    // 41. List the names of employees hired on weekends
+    public static List<String> hiredOnWeekends(List<Employee> employees) {
+        return employees.stream()
+                .filter(Employee::hasHireDate)
                 .filter(e -> {
-                    LocalDate hireDate = LocalDate.parse(e.getHireDate(), formatter);
-                    return hireDate.getDayOfWeek() == DayOfWeek.SATURDAY || hireDate.getDayOfWeek() == DayOfWeek.SUNDAY;
+                    DayOfWeek dayOfWeek = HireDates.dayOfWeek(e.getHireEpochDay());
+                    return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
                 })
                 .map(e -> e.getFirstName() + " " + e.getLastName())
                 .collect(Collectors.toList());
-        System.out.println("Hired on Weekends: " + hiredOnWeekends);
+    }
 
-        // 42. Find the average salary of employees with "Developer" in their position
-        double avgDeveloperSalary = employees.stream()
+    // 42. Find the average salary of employees with "Developer" in their position
+    public static double avgDeveloperSalary(List<Employee> employees) {
+        return employees.stream()
                 .filter(e -> e.getPosition().contains("Developer"))
                 .mapToDouble(Employee::getSalary)
                 .average()
                 .orElse(0.0);
-        System.out.println("Average Developer Salary: " + avgDeveloperSalary);
+    }
+
+    public static double avgDeveloperSalary(EmployeeColumns columns) {
+        long[] counts = columns.countBy(Dimension.POSITION);
+        double salaries = 0;
+        long developers = 0;
+        for (int code = 0; code < counts.length; code++) {
+            String position = columns.decode(Dimension.POSITION, code);
+            if (position != null && position.contains("Developer")) {
+                salaries += columns.sumSalaryWhere(Dimension.POSITION, code);
+                developers += counts[code];
+            }
+        }
+        return developers == 0 ? 0.0 : salaries / developers;
+    }
+
+    public static double avgDeveloperSalary(List<Employee> employees, BitmapIndex index) {
+        return index.filter(RowFilter.contains(Dimension.POSITION, "Developer")).stream()
+                .mapToDouble(row -> employees.get(row).getSalary())
+                .average()
+                .orElse(0.0);
+    }
+
+    // 43. Find the number of employees hired in each month of the year
+    public static Map<Integer, Long> employeesHiredPerMonth(List<Employee> employees) {
+        return employees.stream()
+                .filter(Employee::hasHireDate)
+                .collect(PrimitiveCollectors.countingByInt(e -> HireDates.monthValue(e.getHireEpochDay())))
+                .toMap();
+    }
 
-        // 43. Find the number of employees hired in each month of the year
-        Map<Integer, Long> employeesHiredPerMonth = employees.stream()
-                .collect(Collectors.groupingBy(e -> LocalDate.parse(e.getHireDate(), formatter).getMonthValue(), Collectors.counting()));
-        System.out.println("Employees Hired per Month: " + employeesHiredPerMonth);
+    public static Map<Integer, Long> employeesHiredPerMonth(HireDateIndex index) {
+        return index.countByMonth();
+    }
+
+    public static Map<Integer, Long> employeesHiredPerMonth(QueryExecutor executor, List<Employee> employees) {
+        return executor.execute(employees, stream -> stream
+                .filter(Employee::hasHireDate)
+                .collect(PrimitiveCollectors.countingByInt(e -> HireDates.monthValue(e.getHireEpochDay())))
+                .toMap());
+    }
 
-        // 44. Get the list of employees sorted by their last name and then first name
-        List<Employee> sortedByLastNameThenFirstName = employees.stream()
+    // 44. Get the list of employees sorted by their last name and then first name
+    public static List<Employee> sortedByLastNameThenFirstName(List<Employee> employees) {
+        return employees.stream()
                 .sorted(Comparator.comparing(Employee::getLastName).thenComparing(Employee::getFirstName))
                 .collect(Collectors.toList());
-        System.out.println("Sorted by Last Name and First Name: " + sortedByLastNameThenFirstName.size());
+    }
 
-        // 45. Find the department with the highest total salary
-        String deptWithHighestTotalSalary = employees.stream()
-                .collect(Collectors.groupingBy(Employee::getDepartment, Collectors.summingDouble(Employee::getSalary)))
-                .entrySet()
-                .stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
-        System.out.println("Department with Highest Total Salary: " + deptWithHighestTotalSalary);
+    public static Stream<Employee> sortedByLastNameThenFirstName(Path csv, long memoryBudget) throws IOException {
+        ExternalSorter<Employee> sorter = new ExternalSorter<>(EmployeeCodec.INSTANCE,
+                Comparator.comparing(Employee::getLastName).thenComparing(Employee::getFirstName))
+                .withMemoryBudget(memoryBudget);
+        try (Stream<Employee> employees = new CsvReader().streamEmpData(csv)) {
+            return sorter.sort(employees);
+        }
+    }
+
+    // 45. Find the department with the highest total salary
+    public static String deptWithHighestTotalSalary(List<Employee> employees) {
+        return employees.stream()
+                .collect(PrimitiveCollectors.summingBy(Employee::getDepartment, Employee::getSalary))
+                .keyWithMaxSum();
+    }
+
+    public static String deptWithHighestTotalSalary(EmployeeColumns columns) {
+        return columns.argMax(Dimension.DEPARTMENT, columns.sumSalaryBy(Dimension.DEPARTMENT));
+    }
+
+    public static String deptWithHighestTotalSalary(QueryExecutor executor, List<Employee> employees) {
+        return executor.execute(employees, stream -> stream
+                .collect(PrimitiveCollectors.summingBy(Employee::getDepartment, Employee::getSalary))
+                .keyWithMaxSum());
+    }
 
-        // 46. List the names of employees with phone numbers starting with "555"
-        List<String> phoneStartsWith555 = employees.stream()
+    // 46. List the names of employees with phone numbers starting with "555"
+    public static List<String> phoneStartsWith555(List<Employee> employees) {
+        return employees.stream()
                 .filter(e -> e.getPhone().startsWith("555"))
                 .map(e -> e.getFirstName() + " " + e.getLastName())
                 .collect(Collectors.toList());
-        System.out.println("Phone starts with 555: " + phoneStartsWith555);
+    }
 
-        // 47. Calculate the average tenure of employees in the company
-        double avgTenure = employees.stream()
-                .mapToLong(e -> LocalDate.now().toEpochDay() - LocalDate.parse(e.getHireDate(), formatter).toEpochDay())
+    // 47. Calculate the average tenure of employees in the company
+    public static double avgTenure(List<Employee> employees) {
+        long today = LocalDate.now().toEpochDay();
+        return employees.stream()
+                .filter(Employee::hasHireDate)
+                .mapToLong(e -> today - e.getHireEpochDay())
                 .average()
                 .orElse(0.0) / 365.0;
-        System.out.println("Average Tenure: " + avgTenure);
+    }
 
-        // 48. Find the department with the most employees who have "Engineer" in their position title
-        String deptWithMostEngineers = employees.stream()
+    // 48. Find the department with the most employees who have "Engineer" in their position title
+    public static String deptWithMostEngineers(List<Employee> employees) {
+        return employees.stream()
                 .filter(e -> e.getPosition().contains("Engineer"))
-                .collect(Collectors.groupingBy(Employee::getDepartment, Collectors.counting()))
-                .entrySet()
-                .stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
-        System.out.println("Department with Most Engineers: " + deptWithMostEngineers);
+                .collect(PrimitiveCollectors.countingBy(Employee::getDepartment))
+                .keyWithMaxValue();
+    }
 
-        // 49. Get the list of managers who manage more than 5 employees
-        List<String> managersWithMoreThan5Employees = employees.stream()
-                .collect(Collectors.groupingBy(Employee::getManager, Collectors.counting()))
-                .entrySet()
-                .stream()
-                .filter(entry -> entry.getValue() > 5)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-        System.out.println("Managers with more than 5 employees: " + managersWithMoreThan5Employees);
+    // 49. Get the list of managers who manage more than 5 employees
+    public static List<String> managersWithMoreThan5Employees(List<Employee> employees) {
+        List<String> managers = new ArrayList<>();
+        employees.stream()
+                .collect(PrimitiveCollectors.countingBy(Employee::getManager))
+                .forEach((manager, count) -> {
+                    if (count > 5) {
+                        managers.add(manager);
+                    }
+                });
+        return managers;
+    }
 
-        // 50. Find the number of employees whose last names have more than 5 letters
-        long lastNameMoreThan5Letters = employees.stream()
+    public static List<String> managersWithMoreThan5Employees(ManagerHierarchy hierarchy) {
+        return hierarchy.managersWithMoreThan(5);
+    }
+
+    // 50. Find the number of employees whose last names have more than 5 letters
+    public static long lastNameMoreThan5Letters(List<Employee> employees) {
+        return employees.stream()
                 .filter(e -> e.getLastName().length() > 5)
                 .count();
-        System.out.println("Last Names more than 5 letters: " + lastNameMoreThan5Letters);
-
     }
 }
-
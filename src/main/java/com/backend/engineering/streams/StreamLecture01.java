@@ -3,23 +3,28 @@ package com.backend.engineering.streams;
 import com.backend.engineering.data.CsvReader;
 import com.backend.engineering.data.Employee;
 
-import java.io.FileNotFoundException;
-import java.util.List;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 public class StreamLecture01 {
 
-    public static void main(String[] args) throws FileNotFoundException {
+    public static void main(String[] args) throws IOException {
 
         CsvReader csvReader = new CsvReader();
-        List<Employee> employeeList = csvReader.readEmpData();
 
-        System.out.println("Total employee list: " + employeeList.size());
-
-        employeeList.stream()
-                .filter(employee -> employee.getDepartment().equals("Engineering"))
-                .forEach(employee -> {
-                    System.out.println("Employee: " + employee.getFirstName() + " " + employee.getLastName());
-                });
+        // Counted as the rows stream past, since there is no list to take the size of
+        AtomicLong total = new AtomicLong();
+        try (Stream<Employee> employees = csvReader.streamEmpData()) {
+            employees
+                    .peek(employee -> total.incrementAndGet())
+                    .filter(employee -> employee.getDepartment().equals("Engineering"))
+                    .forEach(employee -> {
+                        System.out.println("Employee: " + employee.getFirstName() + " " + employee.getLastName());
+                    });
+        }
+
+        System.out.println("Total employee list: " + total.get());
 
     }
 }
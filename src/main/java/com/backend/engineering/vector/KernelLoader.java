@@ -0,0 +1,27 @@
+package com.backend.engineering.vector;
+
+/**
+ * Picks the kernels once. The vector implementation is loaded reflectively so that nothing
+ * touches {@code jdk.incubator.vector} classes unless the module is in the boot layer.
+ */
+final class KernelLoader {
+
+    static final SalaryKernels BEST = load();
+
+    private KernelLoader() {
+    }
+
+    private static SalaryKernels load() {
+        if ("scalar".equals(System.getProperty("salary.kernels"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return ScalarSalaryKernels.INSTANCE;
+        }
+        try {
+            Class<?> vector = Class.forName("com.backend.engineering.vector.VectorSalaryKernels");
+            SalaryKernels kernels = (SalaryKernels) vector.getDeclaredConstructor().newInstance();
+            return kernels.name() != null ? kernels : ScalarSalaryKernels.INSTANCE;
+        } catch (ReflectiveOperationException | LinkageError | UnsupportedOperationException e) {
+            return ScalarSalaryKernels.INSTANCE;
+        }
+    }
+}
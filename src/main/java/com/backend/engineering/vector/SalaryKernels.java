@@ -0,0 +1,55 @@
+package com.backend.engineering.vector;
+
+/**
+ * Tight loops over a salary column, optionally restricted by a dictionary code column (the
+ * department or manager of each row), for the numeric operations that otherwise box through
+ * {@code mapToDouble} on employee objects.
+ * <p>
+ * {@link #get()} returns the SIMD implementation on {@code jdk.incubator.vector} when the JVM was
+ * started with {@code --add-modules jdk.incubator.vector}, and the scalar one otherwise or when
+ * {@code -Dsalary.kernels=scalar} is set. The SIMD sums add lanes in a different order than a
+ * sequential loop, so totals may differ in the last bits. Values are expected not to be NaN.
+ */
+public interface SalaryKernels {
+
+    static SalaryKernels get() {
+        return KernelLoader.BEST;
+    }
+
+    static SalaryKernels scalar() {
+        return ScalarSalaryKernels.INSTANCE;
+    }
+
+    /**
+     * "scalar", or "vector" followed by the lane count.
+     */
+    String name();
+
+    double sum(double[] values);
+
+    /**
+     * The smallest value, or NaN for an empty array.
+     */
+    double min(double[] values);
+
+    /**
+     * The largest value, or NaN for an empty array.
+     */
+    double max(double[] values);
+
+    /**
+     * Index of the first occurrence of the largest value, or -1 for an empty array.
+     */
+    int indexOfMax(double[] values);
+
+    long countGreaterThan(double[] values, double threshold);
+
+    long countLessThan(double[] values, double threshold);
+
+    /**
+     * Sum of the values whose row has the given code.
+     */
+    double sumWhere(double[] values, int[] codes, int code);
+
+    long countWhere(int[] codes, int code);
+}
@@ -0,0 +1,102 @@
+package com.backend.engineering.vector;
+
+final class ScalarSalaryKernels implements SalaryKernels {
+
+    static final ScalarSalaryKernels INSTANCE = new ScalarSalaryKernels();
+
+    private ScalarSalaryKernels() {
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public double sum(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Override
+    public double min(double[] values) {
+        if (values.length == 0) {
+            return Double.NaN;
+        }
+        double min = values[0];
+        for (double value : values) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] values) {
+        if (values.length == 0) {
+            return Double.NaN;
+        }
+        double max = values[0];
+        for (double value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    @Override
+    public int indexOfMax(double[] values) {
+        int best = -1;
+        for (int i = 0; i < values.length; i++) {
+            if (best < 0 || values[i] > values[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public long countGreaterThan(double[] values, double threshold) {
+        long count = 0;
+        for (double value : values) {
+            if (value > threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long countLessThan(double[] values, double threshold) {
+        long count = 0;
+        for (double value : values) {
+            if (value < threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public double sumWhere(double[] values, int[] codes, int code) {
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (codes[i] == code) {
+                sum += values[i];
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public long countWhere(int[] codes, int code) {
+        long count = 0;
+        for (int value : codes) {
+            if (value == code) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
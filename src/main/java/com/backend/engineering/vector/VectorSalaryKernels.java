@@ -0,0 +1,182 @@
+package com.backend.engineering.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels at the platform's preferred vector width, with scalar loops for the tail. The
+ * code-filtered kernels load an int vector with as many lanes as the double vector and widen it to
+ * doubles (exact for any int), so the comparison mask applies to the salaries directly; casting
+ * an int mask across species is not intrinsified on JDK 17 and runs several times slower.
+ * Comparison operators are constants in each loop for the same reason.
+ * <p>
+ * Only loaded through {@link KernelLoader}, when {@code jdk.incubator.vector} is available.
+ */
+final class VectorSalaryKernels implements SalaryKernels {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> CODES = VectorSpecies.of(int.class,
+            VectorShape.forBitSize(Math.max(64, DOUBLES.vectorBitSize() / 2)));
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    VectorSalaryKernels() {
+        if (DOUBLES.length() < 2 || CODES.length() != DOUBLES.length()) {
+            throw new UnsupportedOperationException("No useful vector shape for doubles: " + DOUBLES);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "vector" + DOUBLES.length();
+    }
+
+    @Override
+    public double sum(double[] values) {
+        int bound = DOUBLES.loopBound(values.length);
+        DoubleVector sums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            sums = sums.add(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double min(double[] values) {
+        if (values.length == 0) {
+            return Double.NaN;
+        }
+        int bound = DOUBLES.loopBound(values.length);
+        DoubleVector mins = DoubleVector.broadcast(DOUBLES, values[0]);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            mins = mins.min(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double min = mins.reduceLanes(VectorOperators.MIN);
+        for (; i < values.length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] values) {
+        if (values.length == 0) {
+            return Double.NaN;
+        }
+        int bound = DOUBLES.loopBound(values.length);
+        DoubleVector maxes = DoubleVector.broadcast(DOUBLES, values[0]);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            maxes = maxes.max(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double max = maxes.reduceLanes(VectorOperators.MAX);
+        for (; i < values.length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Finds the maximum with vectors, then its first index with a second, early-exiting pass.
+     */
+    @Override
+    public int indexOfMax(double[] values) {
+        if (values.length == 0) {
+            return -1;
+        }
+        double max = max(values);
+        int bound = DOUBLES.loopBound(values.length);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            VectorMask<Double> hits = DoubleVector.fromArray(DOUBLES, values, i).compare(VectorOperators.EQ, max);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < values.length; i++) {
+            if (values[i] == max) {
+                return i;
+            }
+        }
+        // Unreachable unless a NaN made the maximum NaN
+        return 0;
+    }
+
+    @Override
+    public long countGreaterThan(double[] values, double threshold) {
+        int bound = DOUBLES.loopBound(values.length);
+        long count = 0;
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            count += DoubleVector.fromArray(DOUBLES, values, i).compare(VectorOperators.GT, threshold).trueCount();
+        }
+        for (; i < values.length; i++) {
+            if (values[i] > threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long countLessThan(double[] values, double threshold) {
+        int bound = DOUBLES.loopBound(values.length);
+        long count = 0;
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            count += DoubleVector.fromArray(DOUBLES, values, i).compare(VectorOperators.LT, threshold).trueCount();
+        }
+        for (; i < values.length; i++) {
+            if (values[i] < threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public double sumWhere(double[] values, int[] codes, int code) {
+        int bound = DOUBLES.loopBound(values.length);
+        DoubleVector sums = DoubleVector.zero(DOUBLES);
+        double wanted = code;
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            VectorMask<Double> selected = ((DoubleVector) IntVector.fromArray(CODES, codes, i)
+                    .convertShape(VectorOperators.I2D, DOUBLES, 0))
+                    .compare(VectorOperators.EQ, wanted);
+            sums = sums.add(DoubleVector.fromArray(DOUBLES, values, i), selected);
+        }
+        double sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < values.length; i++) {
+            if (codes[i] == code) {
+                sum += values[i];
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public long countWhere(int[] codes, int code) {
+        int bound = INTS.loopBound(codes.length);
+        long count = 0;
+        int i = 0;
+        for (; i < bound; i += INTS.length()) {
+            count += IntVector.fromArray(INTS, codes, i).compare(VectorOperators.EQ, code).trueCount();
+        }
+        for (; i < codes.length; i++) {
+            if (codes[i] == code) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
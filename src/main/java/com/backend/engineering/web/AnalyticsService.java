@@ -0,0 +1,86 @@
+package com.backend.engineering.web;
+
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.ingest.IncrementalAggregates;
+import com.backend.engineering.metrics.OperationMetrics;
+import com.backend.engineering.parallel.QueryExecutor;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Runs queries against the current dataset snapshot through the version-keyed result cache.
+ * Computations on a cache miss are recorded in {@link OperationMetrics} as {@code query.<operation>}.
+ * Stream queries over the employees run on a dedicated {@link QueryExecutor} pool, sized by
+ * {@code analytics.query.parallelism} (0 for one thread per core), and go parallel from
+ * {@code analytics.query.parallel-threshold} rows.
+ */
+@Service
+public class AnalyticsService {
+
+    private final EmployeeDataset dataset;
+    private final QueryCache cache;
+    private final QueryExecutor executor;
+
+    public AnalyticsService(EmployeeDataset dataset, QueryCache cache,
+                            @Value("${analytics.query.parallelism:0}") int parallelism,
+                            @Value("${analytics.query.parallel-threshold:" + QueryExecutor.DEFAULT_THRESHOLD + "}") int threshold) {
+        this.dataset = dataset;
+        this.cache = cache;
+        this.executor = new QueryExecutor(parallelism, threshold);
+    }
+
+    /**
+     * @param query   the operation and its parameters, used as cache key
+     * @param compute computes the result from a snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public <T> QueryResponse<T> query(QueryKey query, Function<EmployeeDataset.Snapshot, T> compute) {
+        long start = System.nanoTime();
+        EmployeeDataset.Snapshot snapshot = dataset.current();
+
+        Object cached = cache.get(query, snapshot.version());
+        if (cached != QueryCache.MISS) {
+            return new QueryResponse<>((T) cached, true, micros(start), snapshot.version());
+        }
+        T result;
+        try (OperationMetrics.Probe probe = OperationMetrics.global().start("query." + query.operation())) {
+            probe.rows(snapshot.employees().size());
+            result = compute.apply(snapshot);
+        }
+        cache.put(query, snapshot.version(), result);
+        return new QueryResponse<>(result, false, micros(start), snapshot.version());
+    }
+
+    /**
+     * Like {@link #query}, computing the result from a stream over the snapshot's employees.
+     */
+    public <T> QueryResponse<T> queryEmployees(QueryKey query, Function<? super Stream<Employee>, ? extends T> compute) {
+        return query(query, snapshot -> executor.execute(snapshot.employees(), compute));
+    }
+
+    public long reload() throws IOException {
+        return dataset.reload().version();
+    }
+
+    public EmployeeDataset.Snapshot current() {
+        return dataset.current();
+    }
+
+    public IncrementalAggregates aggregates() {
+        return dataset.aggregates();
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.close();
+    }
+
+    private static long micros(long start) {
+        return (System.nanoTime() - start) / 1_000;
+    }
+}
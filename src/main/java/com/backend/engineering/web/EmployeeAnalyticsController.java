@@ -0,0 +1,349 @@
+package com.backend.engineering.web;
+
+import com.backend.engineering.collectors.RankingCollectors;
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.data.EmployeeColumn;
+import com.backend.engineering.export.NdjsonWriter;
+import com.backend.engineering.ingest.IncrementalAggregates;
+import com.backend.engineering.index.ManagerHierarchy;
+import com.backend.engineering.index.RowFilter;
+import com.backend.engineering.metrics.OperationMetrics;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * HTTP access to the employee queries over the in-memory dataset. Every query goes through
+ * {@link AnalyticsService}, so repeated calls against the same dataset version are served from
+ * the cache.
+ */
+@RestController
+@RequestMapping("/api/employees")
+public class EmployeeAnalyticsController {
+
+    private final AnalyticsService analytics;
+    private final QueryCache cache;
+
+    public EmployeeAnalyticsController(AnalyticsService analytics, QueryCache cache) {
+        this.analytics = analytics;
+        this.cache = cache;
+    }
+
+    @GetMapping("/count")
+    public QueryResponse<Map<String, Long>> count(@RequestParam String groupBy) {
+        Dimension dimension = dimension(groupBy);
+        return analytics.queryEmployees(QueryKey.of("count", dimension), stream -> stream
+                .collect(Collectors.groupingBy(e -> key(dimension, e), TreeMap::new, Collectors.counting())));
+    }
+
+    @GetMapping("/salary/average")
+    public QueryResponse<Object> averageSalary(@RequestParam(required = false) String groupBy) {
+        if (groupBy == null) {
+            return analytics.queryEmployees(QueryKey.of("salary/average"), stream -> stream
+                    .mapToDouble(Employee::getSalary)
+                    .average()
+                    .orElse(0.0));
+        }
+        Dimension dimension = dimension(groupBy);
+        return analytics.queryEmployees(QueryKey.of("salary/average", dimension), stream -> stream
+                .collect(Collectors.groupingBy(e -> key(dimension, e), TreeMap::new,
+                        Collectors.averagingDouble(Employee::getSalary))));
+    }
+
+    @GetMapping("/salary/total")
+    public QueryResponse<Object> totalSalary(@RequestParam(required = false) String groupBy) {
+        if (groupBy == null) {
+            return analytics.queryEmployees(QueryKey.of("salary/total"), stream -> stream
+                    .mapToDouble(Employee::getSalary)
+                    .sum());
+        }
+        Dimension dimension = dimension(groupBy);
+        return analytics.queryEmployees(QueryKey.of("salary/total", dimension), stream -> stream
+                .collect(Collectors.groupingBy(e -> key(dimension, e), TreeMap::new,
+                        Collectors.summingDouble(Employee::getSalary))));
+    }
+
+    @GetMapping("/salary/percentile")
+    public QueryResponse<Double> salaryPercentile(@RequestParam(defaultValue = "0.5") double p) {
+        if (p < 0 || p > 1) {
+            throw badRequest("p must be between 0 and 1");
+        }
+        return analytics.query(QueryKey.of("salary/percentile", p), snapshot -> snapshot.employees().isEmpty()
+                ? 0.0
+                : snapshot.employees().stream().collect(RankingCollectors.percentile(Employee::getSalary, p)));
+    }
+
+    @GetMapping("/top-earners")
+    public QueryResponse<Object> topEarners(@RequestParam(defaultValue = "3") int k,
+                                            @RequestParam(required = false) String groupBy) {
+        if (k < 1) {
+            throw badRequest("k must be positive");
+        }
+        Comparator<Employee> bySalary = Comparator.comparingDouble(Employee::getSalary);
+        if (groupBy == null) {
+            return analytics.queryEmployees(QueryKey.of("top-earners", k), stream -> stream
+                    .collect(RankingCollectors.greatest(k, bySalary)));
+        }
+        Dimension dimension = dimension(groupBy);
+        return analytics.queryEmployees(QueryKey.of("top-earners", k, dimension), stream -> stream
+                .collect(Collectors.groupingBy(e -> key(dimension, e), TreeMap::new,
+                        RankingCollectors.greatest(k, bySalary))));
+    }
+
+    @GetMapping("/search")
+    public QueryResponse<List<Employee>> search(@RequestParam(required = false) String department,
+                                                @RequestParam(required = false) String position,
+                                                @RequestParam(required = false) String manager,
+                                                @RequestParam(required = false) Double minSalary,
+                                                @RequestParam(required = false) Double maxSalary,
+                                                @RequestParam(required = false) String hiredFrom,
+                                                @RequestParam(required = false) String hiredTo,
+                                                @RequestParam(defaultValue = "100") int limit) {
+        LocalDate from = date(hiredFrom);
+        LocalDate to = date(hiredTo);
+        QueryKey query = QueryKey.of("search", department, position, manager, minSalary, maxSalary, from, to, limit);
+
+        return analytics.query(query, snapshot -> matches(snapshot, department, position, manager, minSalary, maxSalary, from, to)
+                .limit(Math.max(limit, 0))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Streams the employees matching the {@code /search} filters as NDJSON, one object per line,
+     * while they are found instead of collecting them first; the response is neither limited by
+     * default nor cached. {@code fields} restricts the properties written, e.g.
+     * {@code fields=firstName,email}.
+     */
+    @GetMapping(value = "/export", produces = NdjsonWriter.MEDIA_TYPE)
+    public StreamingResponseBody export(@RequestParam(required = false) String department,
+                                        @RequestParam(required = false) String position,
+                                        @RequestParam(required = false) String manager,
+                                        @RequestParam(required = false) Double minSalary,
+                                        @RequestParam(required = false) Double maxSalary,
+                                        @RequestParam(required = false) String hiredFrom,
+                                        @RequestParam(required = false) String hiredTo,
+                                        @RequestParam(required = false) List<String> fields,
+                                        @RequestParam(required = false) Long limit) {
+        LocalDate from = date(hiredFrom);
+        LocalDate to = date(hiredTo);
+        Set<EmployeeColumn> columns = columns(fields);
+        if (limit != null && limit < 0) {
+            throw badRequest("limit must not be negative");
+        }
+        EmployeeDataset.Snapshot snapshot = analytics.current();
+
+        return out -> {
+            try (OperationMetrics.Probe probe = OperationMetrics.global().start("export.ndjson");
+                 Stream<Employee> matches = matches(snapshot, department, position, manager, minSalary, maxSalary, from, to)) {
+                NdjsonWriter writer = new NdjsonWriter(out);
+                Iterator<Employee> employees = (limit == null ? matches : matches.limit(limit)).iterator();
+                while (employees.hasNext()) {
+                    writer.write(employees.next(), columns);
+                }
+                writer.flush();
+                probe.rows(writer.count());
+            }
+        };
+    }
+
+    @GetMapping("/hired")
+    public QueryResponse<Integer> hiredBetween(@RequestParam String from, @RequestParam String to) {
+        LocalDate start = date(from);
+        LocalDate end = date(to);
+        return analytics.query(QueryKey.of("hired", start, end),
+                snapshot -> snapshot.hireDates().countHiredBetween(start, end));
+    }
+
+    @GetMapping("/hired/by-year")
+    public QueryResponse<Map<Integer, Long>> hiredByYear() {
+        return analytics.query(QueryKey.of("hired/by-year"), snapshot -> snapshot.hireDates().countByYear());
+    }
+
+    /**
+     * Direct report counts per manager name, largest first, for managers with more than
+     * {@code moreThan} direct reports.
+     */
+    @GetMapping("/managers")
+    public QueryResponse<Map<String, Long>> managers(@RequestParam(defaultValue = "0") int moreThan) {
+        return analytics.query(QueryKey.of("managers", moreThan), snapshot -> {
+            ManagerHierarchy hierarchy = snapshot.hierarchy();
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (String manager : hierarchy.managersWithMoreThan(moreThan)) {
+                counts.put(manager, (long) hierarchy.directReportCount(manager));
+            }
+            return counts;
+        });
+    }
+
+    /**
+     * The manager's direct reports, or with {@code transitive=true} everyone below them, in
+     * org-chart order.
+     */
+    @GetMapping("/managers/reports")
+    public QueryResponse<List<Employee>> reports(@RequestParam String manager,
+                                                 @RequestParam(defaultValue = "false") boolean transitive,
+                                                 @RequestParam(defaultValue = "100") int limit) {
+        return analytics.query(QueryKey.of("managers/reports", manager, transitive, limit),
+                snapshot -> {
+                    ManagerHierarchy hierarchy = snapshot.hierarchy();
+                    int[] rows = transitive ? hierarchy.allReports(manager) : hierarchy.directReports(manager);
+                    return Arrays.stream(rows)
+                            .limit(Math.max(limit, 0))
+                            .mapToObj(snapshot.employees()::get)
+                            .collect(Collectors.toList());
+                });
+    }
+
+    /**
+     * Headcount and payroll under a manager, direct and transitive; {@code managerId} is the
+     * employee the name resolved to, or null when it matched no one.
+     */
+    @GetMapping("/managers/summary")
+    public QueryResponse<Map<String, Object>> managerSummary(@RequestParam String manager) {
+        return analytics.query(QueryKey.of("managers/summary", manager), snapshot -> {
+            ManagerHierarchy hierarchy = snapshot.hierarchy();
+            int row = hierarchy.managerRow(manager);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("manager", manager);
+            summary.put("managerId", row < 0 ? null : snapshot.employees().get(row).getId());
+            summary.put("directReports", hierarchy.directReportCount(manager));
+            summary.put("totalReports", hierarchy.reportCount(manager));
+            summary.put("directPayroll", hierarchy.directPayroll(manager));
+            summary.put("totalPayroll", hierarchy.totalPayroll(manager));
+            return summary;
+        });
+    }
+
+    /**
+     * Salary statistics maintained during ingest, answered without touching rows or the cache.
+     */
+    @GetMapping("/aggregates")
+    public Object aggregates(@RequestParam(required = false) String groupBy) {
+        IncrementalAggregates aggregates = analytics.aggregates();
+        return groupBy == null ? aggregates.total() : aggregates.stats(dimension(groupBy));
+    }
+
+    @PostMapping("/reload")
+    public Map<String, Object> reload() throws IOException {
+        long version = analytics.reload();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("datasetVersion", version);
+        status.put("rows", analytics.current().employees().size());
+        return status;
+    }
+
+    @GetMapping("/cache")
+    public Map<String, Object> cacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", cache.size());
+        stats.put("weightBytes", cache.weight());
+        stats.put("hits", cache.hits());
+        stats.put("misses", cache.misses());
+        stats.put("datasetVersion", analytics.current().version());
+        return stats;
+    }
+
+    /**
+     * Employees matching the filters, in row order: the dimension filters select rows from the
+     * bitmap indexes, the range filters are checked per row as the stream is consumed.
+     */
+    private static Stream<Employee> matches(EmployeeDataset.Snapshot snapshot, String department, String position,
+                                            String manager, Double minSalary, Double maxSalary,
+                                            LocalDate from, LocalDate to) {
+        List<RowFilter> filters = new ArrayList<>();
+        if (department != null) {
+            filters.add(RowFilter.eq(Dimension.DEPARTMENT, department));
+        }
+        if (position != null) {
+            filters.add(RowFilter.eq(Dimension.POSITION, position));
+        }
+        if (manager != null) {
+            filters.add(RowFilter.eq(Dimension.MANAGER, manager));
+        }
+        RoaringBitmap rows = snapshot.bitmaps().filter(RowFilter.all(filters.toArray(new RowFilter[0])));
+
+        List<Employee> employees = snapshot.employees();
+        Stream<Employee> matches = rows.stream().mapToObj(employees::get);
+        if (minSalary != null) {
+            matches = matches.filter(e -> e.getSalary() >= minSalary);
+        }
+        if (maxSalary != null) {
+            matches = matches.filter(e -> e.getSalary() <= maxSalary);
+        }
+        if (from != null || to != null) {
+            LocalDate lower = from != null ? from : LocalDate.MIN;
+            LocalDate upper = to != null ? to : LocalDate.MAX;
+            matches = matches.filter(e -> e.hasHireDate()
+                    && !e.getHireLocalDate().isBefore(lower)
+                    && !e.getHireLocalDate().isAfter(upper));
+        }
+        return matches;
+    }
+
+    private static Set<EmployeeColumn> columns(List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return EnumSet.allOf(EmployeeColumn.class);
+        }
+        Set<EmployeeColumn> columns = EnumSet.noneOf(EmployeeColumn.class);
+        for (String field : fields) {
+            EmployeeColumn column = EmployeeColumn.forHeader(field);
+            if (column == null) {
+                throw badRequest("Unknown field: " + field);
+            }
+            columns.add(column);
+        }
+        return columns;
+    }
+
+    private static String key(Dimension dimension, Employee employee) {
+        return Objects.toString(dimension.of(employee), "");
+    }
+
+    private static Dimension dimension(String name) {
+        try {
+            return Dimension.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw badRequest("Unknown groupBy '" + name + "', expected one of department, position, manager");
+        }
+    }
+
+    private static LocalDate date(String text) {
+        if (text == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            throw badRequest("Invalid date '" + text + "', expected yyyy-MM-dd");
+        }
+    }
+
+    private static ResponseStatusException badRequest(String reason) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, reason);
+    }
+}
@@ -0,0 +1,192 @@
+package com.backend.engineering.web;
+
+import com.backend.engineering.data.CsvTailer;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.index.BitmapIndex;
+import com.backend.engineering.index.HireDateIndex;
+import com.backend.engineering.index.ManagerHierarchy;
+import com.backend.engineering.ingest.AppendIngestor;
+import com.backend.engineering.ingest.AppendOnlyList;
+import com.backend.engineering.ingest.IncrementalAggregates;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The employee data held in memory for the analytics API. Each change produces an immutable
+ * {@link Snapshot} with a new version number, which result caching is keyed on, and evicts the
+ * cached results of older versions.
+ * <p>
+ * Rows are read through an {@link AppendIngestor}, which also maintains {@link IncrementalAggregates}.
+ * With {@code analytics.ingest.tail=true} the file is watched and appended rows are published as
+ * they arrive, without re-reading what was already loaded: the row list and the bitmap and hire
+ * date indexes are extended with the new rows, and the manager hierarchy is rebuilt on first use.
+ */
+@Component
+@DependsOn("metricsBinding")
+public class EmployeeDataset {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeDataset.class);
+
+    private final Path path;
+    private final boolean tail;
+    private final Duration pollInterval;
+    private final QueryCache cache;
+
+    private final Object lifecycleLock = new Object();
+    private final Object publishLock = new Object();
+    private AppendIngestor ingestor;
+    // Guarded by publishLock
+    private boolean replaceNext;
+    private volatile IncrementalAggregates aggregates;
+    private volatile Snapshot snapshot = Snapshot.of(List.of(), 0);
+
+    public EmployeeDataset(@Value("${analytics.dataset.path:employees.csv}") String path,
+                           @Value("${analytics.ingest.tail:false}") boolean tail,
+                           @Value("${analytics.ingest.poll-interval:1s}") Duration pollInterval,
+                           QueryCache cache) throws IOException {
+        this.path = Paths.get(path);
+        this.tail = tail;
+        this.pollInterval = pollInterval;
+        this.cache = cache;
+        reload();
+    }
+
+    public Snapshot current() {
+        return snapshot;
+    }
+
+    /**
+     * Salary statistics maintained as rows are ingested; may be ahead of {@link #current()} while
+     * a batch is being published.
+     */
+    public IncrementalAggregates aggregates() {
+        return aggregates;
+    }
+
+    /**
+     * Re-reads the whole file and publishes it as the next version.
+     */
+    public Snapshot reload() throws IOException {
+        synchronized (lifecycleLock) {
+            if (ingestor != null) {
+                ingestor.close();
+            }
+            aggregates = new IncrementalAggregates();
+            synchronized (publishLock) {
+                replaceNext = true;
+            }
+            ingestor = new AppendIngestor(path, aggregates, this::publish, pollInterval);
+            try {
+                ingestor.ingest();
+            } catch (NoSuchFileException e) {
+                log.warn("Dataset {} not found, starting empty", path.toAbsolutePath());
+            }
+            // Publishes an empty version if nothing was read, and is a no-op otherwise
+            publish(new CsvTailer.Batch(List.of(), false, 0));
+            if (tail) {
+                ingestor.start();
+            }
+            log.info("Loaded {} employees from {} as version {}", snapshot.employees().size(), path, snapshot.version());
+            return snapshot;
+        }
+    }
+
+    private void publish(CsvTailer.Batch batch) {
+        synchronized (publishLock) {
+            if (batch.reset() || replaceNext) {
+                snapshot = Snapshot.of(batch.employees(), snapshot.version() + 1);
+            } else if (!batch.employees().isEmpty()) {
+                snapshot = snapshot.append(batch.employees());
+            } else {
+                return;
+            }
+            replaceNext = false;
+            cache.evictBefore(snapshot.version());
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (lifecycleLock) {
+            if (ingestor != null) {
+                ingestor.close();
+            }
+        }
+    }
+
+    /**
+     * One published version of the data. The hierarchy is built on first use, since appended rows
+     * can resolve any manager name and so change the whole layout.
+     */
+    public static final class Snapshot {
+
+        private final AppendOnlyList<Employee> employees;
+        private final long version;
+        private final BitmapIndex bitmaps;
+        private final HireDateIndex hireDates;
+        private volatile ManagerHierarchy hierarchy;
+
+        private Snapshot(AppendOnlyList<Employee> employees, long version, BitmapIndex bitmaps,
+                         HireDateIndex hireDates) {
+            this.employees = employees;
+            this.version = version;
+            this.bitmaps = bitmaps;
+            this.hireDates = hireDates;
+        }
+
+        static Snapshot of(List<Employee> employees, long version) {
+            return new Snapshot(AppendOnlyList.of(employees), version,
+                    BitmapIndex.of(employees), HireDateIndex.of(employees));
+        }
+
+        Snapshot append(List<Employee> added) {
+            return new Snapshot(employees.append(added), version + 1,
+                    bitmaps.append(added), hireDates.append(added));
+        }
+
+        public List<Employee> employees() {
+            return employees;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public BitmapIndex bitmaps() {
+            return bitmaps;
+        }
+
+        public HireDateIndex hireDates() {
+            return hireDates;
+        }
+
+        public ManagerHierarchy hierarchy() {
+            ManagerHierarchy built = hierarchy;
+            if (built == null) {
+                synchronized (this) {
+                    built = hierarchy;
+                    if (built == null) {
+                        built = ManagerHierarchy.of(employees);
+                        hierarchy = built;
+                    }
+                }
+            }
+            return built;
+        }
+    }
+}
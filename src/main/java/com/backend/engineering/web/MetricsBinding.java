@@ -0,0 +1,29 @@
+package com.backend.engineering.web;
+
+import com.backend.engineering.metrics.MicrometerOperationRecorder;
+import com.backend.engineering.metrics.OperationMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Connects the global {@link OperationMetrics} to the application's Micrometer registry for the
+ * lifetime of the context.
+ */
+@Component
+public class MetricsBinding {
+
+    private final MicrometerOperationRecorder recorder;
+
+    public MetricsBinding(MeterRegistry registry, @Value("${analytics.metrics.jfr-events:true}") boolean jfrEvents) {
+        this.recorder = new MicrometerOperationRecorder(registry);
+        OperationMetrics.global().addRecorder(recorder);
+        OperationMetrics.global().setJfrEvents(jfrEvents);
+    }
+
+    @PreDestroy
+    public void close() {
+        OperationMetrics.global().removeRecorder(recorder);
+    }
+}
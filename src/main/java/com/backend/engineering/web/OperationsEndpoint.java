@@ -0,0 +1,31 @@
+package com.backend.engineering.web;
+
+import com.backend.engineering.metrics.OperationMetrics;
+import com.backend.engineering.metrics.OperationStatistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/operations}: per-operation latency percentiles, throughput and allocation since
+ * startup, from the in-process {@link OperationStatistics}.
+ */
+@Component
+@Endpoint(id = "operations")
+public class OperationsEndpoint {
+
+    private final OperationStatistics statistics = OperationMetrics.global().statistics();
+
+    @ReadOperation
+    public Map<String, OperationStatistics.Summary> operations() {
+        return statistics.snapshot();
+    }
+
+    @ReadOperation
+    public OperationStatistics.Summary operation(@Selector String name) {
+        return statistics.summary(name);
+    }
+}
@@ -0,0 +1,146 @@
+package com.backend.engineering.web;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU cache of query results bounded by an estimated size in bytes rather than an entry count, so a
+ * few large group-by results cannot crowd out memory. Entries are keyed by query and dataset
+ * version; publishing a new version evicts exactly the entries of older versions, and results
+ * computed against an evicted version that arrive afterwards are not stored.
+ * <p>
+ * Null results are cached like any other; {@link #get} signals a miss with {@link #MISS}.
+ */
+@Component
+public class QueryCache {
+
+    /**
+     * Returned by {@link #get} when nothing is cached for the query and version.
+     */
+    public static final Object MISS = new Object();
+
+    private final long maxWeight;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long weight;
+    private long oldestLiveVersion = Long.MIN_VALUE;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public QueryCache(@Value("${analytics.cache.max-weight-bytes:67108864}") long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * The cached result, possibly null, or {@link #MISS}.
+     */
+    public synchronized Object get(QueryKey query, long version) {
+        Entry entry = entries.get(new Key(query, version));
+        if (entry == null) {
+            misses.incrementAndGet();
+            return MISS;
+        }
+        hits.incrementAndGet();
+        return entry.value();
+    }
+
+    public synchronized void put(QueryKey query, long version, Object value) {
+        long entryWeight = estimateWeight(value) + 64 + 2L * query.operation().length() + estimateWeight(query.parameters());
+        if (version < oldestLiveVersion || entryWeight > maxWeight) {
+            return;
+        }
+        Entry previous = entries.put(new Key(query, version), new Entry(value, entryWeight));
+        if (previous != null) {
+            weight -= previous.weight();
+        }
+        weight += entryWeight;
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            weight -= eldest.next().weight();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Drops entries computed against versions older than the given one, and refuses them from now on.
+     */
+    public synchronized void evictBefore(long version) {
+        oldestLiveVersion = Math.max(oldestLiveVersion, version);
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Entry> entry = iterator.next();
+            if (entry.getKey().version() < version) {
+                weight -= entry.getValue().weight();
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Rough retained size of a result: collections and maps are charged per element.
+     */
+    static long estimateWeight(Object value) {
+        if (value == null) {
+            return 8;
+        }
+        if (value instanceof CharSequence text) {
+            return 40 + 2L * text.length();
+        }
+        if (value instanceof Collection<?> collection) {
+            long total = 40;
+            for (Object element : collection) {
+                total += 8 + estimateWeight(element);
+            }
+            return total;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long total = 48;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                total += 32 + estimateWeight(entry.getKey()) + estimateWeight(entry.getValue());
+            }
+            return total;
+        }
+        if (value instanceof Object[] array) {
+            long total = 16;
+            for (Object element : array) {
+                total += 8 + estimateWeight(element);
+            }
+            return total;
+        }
+        if (value instanceof java.util.Optional<?> optional) {
+            return 16 + optional.map(QueryCache::estimateWeight).orElse(0L);
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return 16;
+        }
+        // Beans such as Employee: header plus a handful of fields and strings
+        return 160;
+    }
+
+    private record Key(QueryKey query, long version) {
+    }
+
+    private record Entry(Object value, long weight) {
+    }
+}
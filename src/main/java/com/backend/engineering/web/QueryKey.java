@@ -0,0 +1,29 @@
+package com.backend.engineering.web;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cache key of a query: the operation and its typed parameters in a fixed order. Parameters are
+ * compared by value, so an absent parameter (null) never matches the text "null", and values
+ * containing '&amp;' or '=' cannot run into the next parameter.
+ */
+public record QueryKey(String operation, List<Object> parameters) {
+
+    public QueryKey {
+        parameters = Collections.unmodifiableList(parameters);
+    }
+
+    /**
+     * Parameters may be null for absent request parameters; a lone null is one absent parameter.
+     */
+    public static QueryKey of(String operation, Object... parameters) {
+        return new QueryKey(operation, Arrays.asList(parameters == null ? new Object[]{null} : parameters.clone()));
+    }
+
+    @Override
+    public String toString() {
+        return parameters.isEmpty() ? operation : operation + parameters;
+    }
+}
@@ -0,0 +1,8 @@
+package com.backend.engineering.web;
+
+/**
+ * A query result with how it was served: whether it came from the cache, how long producing it
+ * took, and which dataset version it reflects.
+ */
+public record QueryResponse<T>(T result, boolean cacheHit, long latencyMicros, long datasetVersion) {
+}
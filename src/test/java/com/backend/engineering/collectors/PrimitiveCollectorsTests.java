@@ -0,0 +1,112 @@
+package com.backend.engineering.collectors;
+
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.data.HireDates;
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.backend.engineering.data.EmployeeBuilder.employee;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrimitiveCollectorsTests {
+
+    private static final List<Integer> VALUES = new Random(3).ints(50_000, -5_000, 5_000).boxed().collect(Collectors.toList());
+
+    @Test
+    void intKeyedCollectorsMatchGroupingByInParallel() {
+        Map<Integer, Long> counts = VALUES.stream().collect(Collectors.groupingBy(v -> v % 1_000, Collectors.counting()));
+        assertEquals(counts, VALUES.parallelStream().collect(PrimitiveCollectors.countingByInt(v -> v % 1_000)).toMap());
+
+        assertEquals(counts.size(), VALUES.stream().collect(PrimitiveCollectors.countingByInt(v -> v % 1_000)).size());
+
+        Map<Integer, List<Integer>> groups = VALUES.stream().collect(Collectors.groupingBy(v -> v % 100));
+        assertEquals(groups, VALUES.stream().collect(PrimitiveCollectors.groupingByInt(v -> v % 100, Collectors.toList())));
+        assertEquals(groups.keySet(), VALUES.parallelStream()
+                .collect(PrimitiveCollectors.groupingByInt(v -> v % 100, Collectors.toList())).keySet());
+    }
+
+    @Test
+    void objectKeyedCollectorsMatchGroupingBy() {
+        Map<String, Long> counts = VALUES.stream().collect(Collectors.groupingBy(v -> "k" + v % 300, Collectors.counting()));
+        ObjectLongHashMap<String> primitiveCounts = VALUES.parallelStream().collect(PrimitiveCollectors.countingBy(v -> "k" + v % 300));
+        assertEquals(counts, primitiveCounts.toMap());
+        assertEquals(counts.get(primitiveCounts.keyWithMaxValue()), counts.values().stream().max(Long::compare).orElseThrow());
+        assertEquals(0, primitiveCounts.get("missing", 0));
+
+        Map<String, Double> sums = VALUES.stream().collect(Collectors.groupingBy(v -> "k" + v % 3, Collectors.summingDouble(v -> v)));
+        ObjectDoubleHashMap<String> primitiveSums = VALUES.parallelStream().collect(PrimitiveCollectors.summingBy(v -> "k" + v % 3, v -> v));
+        assertEquals(sums, primitiveSums.toSumMap());
+        assertEquals(sums.entrySet().stream().max(Map.Entry.comparingByValue()).orElseThrow().getKey(), primitiveSums.keyWithMaxSum());
+        assertNull(new ObjectDoubleHashMap<String>().keyWithMaxAverage());
+
+        assertThrows(NullPointerException.class, () -> VALUES.stream().collect(PrimitiveCollectors.countingBy(v -> null)));
+    }
+
+    @Test
+    void streamOperationsMatchBoxedGroupingBy() {
+        Random random = new Random(5);
+        String[] departments = {"IT", "HR", "Sales", "Engineering"};
+        String[] positions = {"Developer", "Engineering Manager", "Salesperson", "Software Engineer"};
+        List<Employee> employees = IntStream.range(0, 5_000).mapToObj(id -> employee().id(id)
+                .firstName("Name" + random.nextInt(400))
+                .department(departments[random.nextInt(departments.length)])
+                .position(positions[random.nextInt(positions.length)])
+                .manager(random.nextInt(10) == 0 ? "John Doe" : "Manager" + random.nextInt(600))
+                .salary(30_000 + random.nextInt(100_000) + random.nextInt(100) / 100.0)
+                .hireDate((2000 + random.nextInt(24)) + "-" + (1 + random.nextInt(12)) + "-" + (1 + random.nextInt(28)))
+                .build()).collect(Collectors.toList());
+
+        assertEquals(employees.stream().collect(Collectors.groupingBy(Employee::getDepartment, Collectors.counting())),
+                EmployeeStreamOperations.employeesPerDepartment(employees));
+        assertEquals(employees.stream().collect(Collectors.groupingBy(Employee::getManager, Collectors.counting())),
+                EmployeeStreamOperations.employeesPerManager(employees));
+        Map<String, Double> averages = employees.stream()
+                .collect(Collectors.groupingBy(Employee::getDepartment, Collectors.averagingDouble(Employee::getSalary)));
+        Map<String, Double> primitiveAverages = EmployeeStreamOperations.averageSalaryPerDepartment(employees);
+        assertEquals(averages.keySet(), primitiveAverages.keySet());
+        averages.forEach((department, average) -> assertEquals(average, primitiveAverages.get(department), 1e-6));
+        assertEquals(employees.stream().collect(Collectors.groupingBy(e -> HireDates.year(e.getHireEpochDay()))),
+                EmployeeStreamOperations.employeesByYear(employees));
+        assertEquals(employees.stream().collect(Collectors.groupingBy(Employee::getDepartment,
+                        Collectors.groupingBy(Employee::getPosition, Collectors.counting()))),
+                EmployeeStreamOperations.employeesByDeptAndPos(employees));
+        assertEquals(employees.stream().collect(Collectors.groupingBy(e -> HireDates.monthValue(e.getHireEpochDay()), Collectors.counting())),
+                EmployeeStreamOperations.employeesHiredPerMonth(employees));
+        int[] ids = EmployeeStreamOperations.idsManagedByJohnDoe(employees).stream().mapToInt(Integer::intValue).toArray();
+        assertArrayEquals(ids, EmployeeStreamOperations.idsManagedByJohnDoe(employees.stream()).toArray());
+
+        Map<String, Long> perManager = EmployeeStreamOperations.employeesPerManager(employees);
+        assertEquals(perManager.values().stream().max(Long::compare).orElseThrow(),
+                perManager.get(EmployeeStreamOperations.managerWithMostEmployees(employees)));
+        assertEquals(perManager.entrySet().stream().filter(entry -> entry.getValue() > 5).map(Map.Entry::getKey)
+                        .collect(Collectors.toSet()),
+                Set.copyOf(EmployeeStreamOperations.managersWithMoreThan5Employees(employees)));
+        assertEquals(averages.entrySet().stream().max(Map.Entry.comparingByValue()).orElseThrow().getKey(),
+                EmployeeStreamOperations.departmentWithHighestAvgSalary(employees));
+        assertNull(EmployeeStreamOperations.mostCommonFirstName(List.of()));
+    }
+
+    @Test
+    void mapsGrowPastTheirInitialCapacity() {
+        IntLongHashMap map = new IntLongHashMap(0);
+        IntStream.range(0, 100_000).forEach(key -> map.addTo(key * 31, key));
+        assertEquals(100_000, map.size());
+        assertEquals(99_999, map.get(99_999 * 31, -1));
+        assertEquals(-1, map.get(7, -1));
+        assertFalse(map.containsKey(-31));
+
+        int[] ids = IntStream.range(0, 1_000).boxed().parallel().collect(PrimitiveCollectors.toIntList(i -> i)).toArray();
+        assertArrayEquals(IntStream.range(0, 1_000).toArray(), ids);
+    }
+}
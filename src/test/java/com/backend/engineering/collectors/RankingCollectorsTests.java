@@ -0,0 +1,69 @@
+package com.backend.engineering.collectors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RankingCollectorsTests {
+
+    @Test
+    void topKMatchesSortAndLimitInParallel() {
+        List<Integer> values = new Random(1).ints(100_000, 0, 1_000_000).boxed().collect(Collectors.toList());
+
+        List<Integer> expected = values.stream().sorted(Comparator.reverseOrder()).limit(5).collect(Collectors.toList());
+        assertEquals(expected, values.parallelStream().collect(RankingCollectors.greatest(5, Comparator.naturalOrder())));
+        assertEquals(values.stream().sorted().limit(3).collect(Collectors.toList()),
+                values.stream().collect(RankingCollectors.least(3, Comparator.naturalOrder())));
+        assertEquals(List.of(), values.stream().collect(RankingCollectors.greatest(0, Comparator.naturalOrder())));
+        assertEquals(List.of(2, 1), List.of(1, 2).stream().collect(RankingCollectors.greatest(5, Comparator.naturalOrder())));
+    }
+
+    @Test
+    void medianAndPercentilesMatchTheSortedDefinition() {
+        Random random = new Random(2);
+        for (int size = 1; size < 200; size++) {
+            double[] values = random.doubles(size, 0, 100).map(Math::floor).toArray();
+            double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            double expectedMedian = size % 2 == 0 ? (sorted[size / 2 - 1] + sorted[size / 2]) / 2 : sorted[size / 2];
+
+            List<Double> boxed = Arrays.stream(values).boxed().collect(Collectors.toList());
+            assertEquals(expectedMedian, boxed.parallelStream().collect(RankingCollectors.median(Double::doubleValue)), 0.0);
+            assertEquals(sorted[0], boxed.stream().collect(RankingCollectors.percentile(Double::doubleValue, 0.0)), 0.0);
+            assertEquals(sorted[size - 1], boxed.stream().collect(RankingCollectors.percentile(Double::doubleValue, 1.0)), 0.0);
+            assertEquals(sorted[size / 3], boxed.stream().collect(RankingCollectors.kthSmallest(Double::doubleValue, size / 3)), 0.0);
+        }
+        assertTrue(Double.isNaN(List.<Double>of().stream().collect(RankingCollectors.median(Double::doubleValue))));
+    }
+
+    @Test
+    void selectsInLinearTimeWhenValuesRepeat() {
+        // Quadratic partitioning took tens of seconds on these sizes
+        double[] zeros = new double[500_000];
+        assertEquals(0.0, Selection.median(zeros, zeros.length), 0.0);
+
+        double[] bands = new Random(4).ints(500_000, 0, 3).mapToDouble(band -> 40_000 + band * 10_000).toArray();
+        double[] sorted = bands.clone();
+        Arrays.sort(sorted);
+        assertEquals(sorted[bands.length / 2], Selection.kthSmallest(bands.clone(), bands.length, bands.length / 2), 0.0);
+        assertEquals(sorted[bands.length / 10], Selection.percentile(bands.clone(), bands.length, 0.1), 0.0);
+        assertEquals(sorted[0], Selection.kthSmallest(bands, bands.length, 0), 0.0);
+    }
+
+    @Test
+    void worksAsDownstreamCollector() {
+        Map<Boolean, Double> medians = IntStream.rangeClosed(1, 10).boxed()
+                .collect(Collectors.partitioningBy(i -> i % 2 == 0, RankingCollectors.median(Integer::doubleValue)));
+        assertEquals(6.0, medians.get(true), 0.0);
+        assertEquals(5.0, medians.get(false), 0.0);
+    }
+}
@@ -0,0 +1,66 @@
+package com.backend.engineering.columnar;
+
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.backend.engineering.data.EmployeeBuilder.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EmployeeColumnStoreTests {
+
+    @Test
+    void aggregatesMatchTheRowModel() {
+        List<Employee> employees = List.of(
+                employee(1).department("HR").position("Manager").salary(60000).hireDate("2023-01-5").manager("John Doe").build(),
+                employee(2).department("Sales").position("Salesperson").salary(40000).hireDate("2019-11-30").manager("Jane Smith").build(),
+                employee(3).department("HR").position("Developer").salary(110000).hireDate("2015-02-01").manager("John Doe").build());
+
+        EmployeeColumnStore store = EmployeeColumnStore.of(employees);
+
+        assertEquals(3, store.size());
+        assertEquals(210000.0, store.sumSalary(), 0.0);
+        assertEquals(70000.0, store.averageSalary(), 1e-9);
+        assertEquals(2, store.maxSalaryRow());
+        assertEquals(Map.of("HR", 2L, "Sales", 1L), store.toMap(Dimension.DEPARTMENT, store.countBy(Dimension.DEPARTMENT)));
+        assertEquals(Map.of("HR", 85000.0, "Sales", 40000.0),
+                store.toMap(Dimension.DEPARTMENT, store.averageSalaryBy(Dimension.DEPARTMENT)));
+        assertEquals("HR", store.argMax(Dimension.DEPARTMENT, store.sumSalaryBy(Dimension.DEPARTMENT)));
+        assertEquals(1, store.count(row -> store.salary(row) < 50000));
+        assertEquals(-1, store.dictionary(Dimension.DEPARTMENT).code("IT"));
+
+        Employee first = store.toEmployee(0);
+        assertEquals("2023-01-05", first.getHireDate());
+        assertEquals("John Doe", first.getManager());
+    }
+
+    @Test
+    void streamOperationsGiveTheSameResultsOverTheStore() {
+        List<Employee> employees = List.of(
+                employee(1).department("IT").position("Developer").salary(95000).hireDate("2021-03-01").manager("John Doe").build(),
+                employee(2).department("Sales").position("Salesperson").salary(40000).hireDate("2019-11-30").manager("Jane Smith").build(),
+                employee(3).department("IT").position("Engineering Manager").salary(130000).hireDate("2015-02-01").manager("John Doe").build(),
+                employee(4).department("HR").position("Manager").salary(70000).hireDate("2018-06-15").manager(null).build());
+        EmployeeColumnStore store = EmployeeColumnStore.of(employees);
+
+        assertEquals(EmployeeStreamOperations.employeesPerDepartment(employees), EmployeeStreamOperations.employeesPerDepartment(store));
+        assertEquals(EmployeeStreamOperations.averageSalary(employees), EmployeeStreamOperations.averageSalary(store), 1e-9);
+        assertEquals(EmployeeStreamOperations.highestEarner(employees).getId(), EmployeeStreamOperations.highestEarner(store).getId());
+        assertEquals(EmployeeStreamOperations.totalSalaries(employees), EmployeeStreamOperations.totalSalaries(store), 0.0);
+        assertEquals(EmployeeStreamOperations.averageSalaryPerDepartment(employees), EmployeeStreamOperations.averageSalaryPerDepartment(store));
+        assertEquals(EmployeeStreamOperations.itSalaries(employees), EmployeeStreamOperations.itSalaries(store), 0.0);
+        assertEquals(EmployeeStreamOperations.lowEarners(employees), EmployeeStreamOperations.lowEarners(store));
+        assertEquals(EmployeeStreamOperations.totalSalaryManagedByJane(employees), EmployeeStreamOperations.totalSalaryManagedByJane(store), 0.0);
+        assertEquals(EmployeeStreamOperations.avgDeveloperSalary(employees), EmployeeStreamOperations.avgDeveloperSalary(store), 1e-9);
+        assertEquals(EmployeeStreamOperations.departmentWithHighestAvgSalary(employees), EmployeeStreamOperations.departmentWithHighestAvgSalary(store));
+        assertEquals(EmployeeStreamOperations.deptWithHighestTotalSalary(employees), EmployeeStreamOperations.deptWithHighestTotalSalary(store));
+        assertEquals(Map.of("John Doe", 2L, "Jane Smith", 1L),
+                EmployeeStreamOperations.employeesPerManager(EmployeeColumnStore.of(employees.subList(0, 3))));
+        assertNull(EmployeeStreamOperations.highestEarner(EmployeeColumnStore.of(List.of())));
+    }
+}
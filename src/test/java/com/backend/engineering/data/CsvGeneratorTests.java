@@ -0,0 +1,55 @@
+package com.backend.engineering.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvGeneratorTests {
+
+    @Test
+    void sameSeedGivesTheSameFileRegardlessOfThreads() throws IOException {
+        Path single = Files.createTempFile("employees", ".csv");
+        Path parallel = Files.createTempFile("employees", ".csv");
+        Path otherSeed = Files.createTempFile("employees", ".csv");
+        try {
+            CsvGenerator.generate(single, 50_000, 7L, 1);
+            CsvGenerator.generate(parallel, 50_000, 7L, 4);
+            CsvGenerator.generate(otherSeed, 50_000, 8L, 4);
+
+            assertTrue(Arrays.equals(Files.readAllBytes(single), Files.readAllBytes(parallel)));
+            assertFalse(Arrays.equals(Files.readAllBytes(single), Files.readAllBytes(otherSeed)));
+        } finally {
+            Files.delete(single);
+            Files.delete(parallel);
+            Files.delete(otherSeed);
+        }
+    }
+
+    @Test
+    void writesReadableRowsWithSpreadOutDatesAndSalaries() throws IOException {
+        Path file = Files.createTempFile("employees", ".csv");
+        try {
+            CsvGenerator.generate(file, 20_000, 42L);
+            List<Employee> employees = new CsvReader().readEmpData(file);
+
+            assertEquals(20_000, employees.size());
+            assertEquals(1, employees.get(0).getId());
+            assertEquals(20_000, employees.get(19_999).getId());
+            assertTrue(employees.stream().anyMatch(e -> e.getSalary() > 100000));
+            assertTrue(employees.stream().anyMatch(e -> e.getSalary() < 50000));
+            assertTrue(employees.stream().anyMatch(e -> e.getHireDate().compareTo("2010-01-01") < 0));
+            assertTrue(employees.stream().anyMatch(e -> e.getHireDate().compareTo("2024-01-01") > 0));
+            assertTrue(employees.stream().allMatch(e -> e.getHireDate().matches("\\d{4}-\\d{2}-\\d{2}")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
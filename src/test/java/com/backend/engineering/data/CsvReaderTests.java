@@ -0,0 +1,163 @@
+package com.backend.engineering.data;
+
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvReaderTests {
+
+    private static final String HEADER =
+            "\"ID\",\"FirstName\",\"LastName\",\"Email\",\"Phone\",\"Department\",\"Position\",\"Salary\",\"HireDate\",\"Manager\"\n";
+
+    @Test
+    void readsQuotedFieldsEscapesAndEmbeddedNewlines() throws IOException {
+        String csv = "a,\"b,c\",\"say \"\"hi\"\"\"\r\n\n\"multi\nline\",x,\n";
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(csv))) {
+            assertEquals(List.of("a", "b,c", "say \"hi\""), List.of(reader.readRecord()));
+            assertEquals(List.of("multi\nline", "x", ""), List.of(reader.readRecord()));
+            assertNull(reader.readRecord());
+        }
+    }
+
+    @Test
+    void mapsRowsByHeaderName() throws IOException {
+        String csv = "\"Manager\",\"ID\",\"First Name\",\"Salary\"\n\"Jane Smith\",\"7\",\"Ann\",\"51000.5\"\n";
+        try (EmployeeCsvParser parser = new EmployeeCsvParser(new StringReader(csv))) {
+            Employee employee = parser.next();
+            assertEquals(7, employee.getId());
+            assertEquals("Ann", employee.getFirstName());
+            assertEquals("Jane Smith", employee.getManager());
+            assertEquals(51000.5, employee.getSalary(), 0.0);
+            assertNull(parser.next());
+        }
+    }
+
+    @Test
+    void rejectsMalformedNumbers() throws IOException {
+        String csv = HEADER + "\"x\",\"A\",\"B\",\"e\",\"p\",\"HR\",\"Manager\",\"1\",\"2023-01-01\",\"John Doe\"\n";
+        try (EmployeeCsvParser parser = new EmployeeCsvParser(new StringReader(csv))) {
+            assertThrows(IOException.class, parser::next);
+        }
+    }
+
+    @Test
+    void streamsLazilyAndClosesTheFile() throws IOException {
+        Path file = Files.createTempFile("employees", ".csv");
+        try {
+            Files.writeString(file, HEADER
+                    + "\"1\",\"A\",\"B\",\"a@example.com\",\"555-1\",\"HR\",\"Manager\",\"60000\",\"2023-01-05\",\"John Doe\"\n"
+                    + "\"2\",\"C\",\"D\",\"c@example.com\",\"555-2\",\"Sales\",\"Marketer\",\"70000\",\"2023-01-06\",\"Jane Smith\"\n");
+
+            AtomicBoolean closed = new AtomicBoolean();
+            List<String> departments;
+            try (Stream<Employee> employees = new CsvReader().streamEmpData(file).onClose(() -> closed.set(true))) {
+                departments = employees.map(Employee::getDepartment).collect(Collectors.toList());
+            }
+            assertEquals(List.of("HR", "Sales"), departments);
+            assertTrue(closed.get());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void surfacesReadErrorsAsUnchecked() throws IOException {
+        Path file = Files.createTempFile("employees", ".csv");
+        try {
+            Files.writeString(file, HEADER + "\"1\",\"unterminated\n");
+            try (Stream<Employee> employees = new CsvReader().streamEmpData(file)) {
+                assertThrows(UncheckedIOException.class, employees::count);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void skipsUnwantedFields() throws IOException {
+        String csv = "a,\"b,\"\"c\"\"\",\"multi\nline\",d\n";
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(csv))) {
+            String[] fields = reader.readRecord(new boolean[]{false, true, false});
+            assertEquals(4, fields.length);
+            assertNull(fields[0]);
+            assertEquals("b,\"c\"", fields[1]);
+            assertNull(fields[2]);
+            assertNull(fields[3]);
+            assertNull(reader.readRecord());
+        }
+    }
+
+    @Test
+    void projectsColumnsAndFiltersRowsInTheParser() throws IOException {
+        String csv = HEADER
+                + "\"1\",\"A\",\"B\",\"a@example.com\",\"555-1\",\"IT\",\"Developer\",\"60000\",\"2023-01-05\",\"John Doe\"\n"
+                + "\"2\",\"C\",\"D\",\"c@example.com\",\"555-2\",\"Sales\",\"Marketer\",\"70000\",\"2023-01-06\",\"John Doe\"\n"
+                + "\"3\",\"E\",\"F\",\"e@example.com\",\"555-3\",\"IT\",\"Developer\",\"not a number\",\"2023-01-07\",\"Jane Smith\"\n";
+        CsvProjection projection = CsvProjection.of(EmployeeColumn.SALARY)
+                .where(ColumnPredicate.equalTo(EmployeeColumn.MANAGER, "John Doe"))
+                .where(ColumnPredicate.equalTo(EmployeeColumn.DEPARTMENT, "IT"));
+        try (EmployeeCsvParser parser = new EmployeeCsvParser(new StringReader(csv)).project(projection)) {
+            Employee employee = parser.next();
+            assertEquals(60000, employee.getSalary(), 0.0);
+            assertEquals(0, employee.getId());
+            assertNull(employee.getDepartment());
+            assertNull(employee.getManager());
+            // Row 3 fails the manager predicate before its malformed salary is parsed
+            assertNull(parser.next());
+        }
+    }
+
+    @Test
+    void scanMatchesFullReadForNarrowQueries() throws IOException {
+        Path file = Files.createTempFile("employees", ".csv");
+        try {
+            CsvGenerator.generate(file, 2_000, 7);
+            CsvReader reader = new CsvReader();
+            List<Employee> all = reader.readEmpData(file);
+
+            CsvProjection projection = CsvProjection.of(EmployeeColumn.ID)
+                    .where(ColumnPredicate.equalTo(EmployeeColumn.MANAGER, "John Doe"))
+                    .where(ColumnPredicate.salaryAbove(60000));
+            List<Integer> expected = all.stream()
+                    .filter(e -> "John Doe".equals(e.getManager()) && e.getSalary() > 60000)
+                    .map(Employee::getId)
+                    .collect(Collectors.toList());
+            try (Stream<Employee> employees = reader.scan(file, projection)) {
+                assertEquals(expected, employees.map(Employee::getId).collect(Collectors.toList()));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void streamOperationsGiveTheSameResultsFromTheCsv() throws IOException {
+        Path file = Files.createTempFile("employees", ".csv");
+        try {
+            CsvGenerator.generate(file, 2_000, 11);
+            List<Employee> all = new CsvReader().readEmpData(file);
+
+            assertEquals(EmployeeStreamOperations.totalSalaries(all), EmployeeStreamOperations.totalSalaries(file));
+            assertEquals(EmployeeStreamOperations.itSalaries(all), EmployeeStreamOperations.itSalaries(file));
+            assertEquals(EmployeeStreamOperations.lowEarners(all), EmployeeStreamOperations.lowEarners(file));
+            assertEquals(EmployeeStreamOperations.idsManagedByJohnDoe(all), EmployeeStreamOperations.idsManagedByJohnDoe(file));
+            assertEquals(EmployeeStreamOperations.totalSalaryManagedByJane(all), EmployeeStreamOperations.totalSalaryManagedByJane(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
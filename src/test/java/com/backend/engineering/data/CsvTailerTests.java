@@ -0,0 +1,89 @@
+package com.backend.engineering.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvTailerTests {
+
+    private static final String HEADER = "\"ID\",\"FirstName\",\"Department\",\"Salary\"\n";
+
+    private static List<Integer> ids(CsvTailer.Batch batch) {
+        return batch.employees().stream().map(Employee::getId).collect(Collectors.toList());
+    }
+
+    private static void append(Path file, String text) throws IOException {
+        Files.writeString(file, text, StandardOpenOption.APPEND);
+    }
+
+    @Test
+    void pollsOnlyCompleteAppendedRecords() throws IOException {
+        Path file = Files.createTempFile("employees", ".csv");
+        try {
+            Files.writeString(file, HEADER + "1,Ann,IT,100\n2,Bob,HR,2");
+            CsvTailer tailer = new CsvTailer(file);
+
+            assertEquals(List.of(1), ids(tailer.poll()));
+
+            append(file, "00\n3,\"Cy\nrus\",IT,300\n4,\"Di");
+            assertEquals(List.of(2, 3), ids(tailer.poll()));
+
+            assertTrue(tailer.poll().isEmpty());
+
+            append(file, "\",IT,400\n");
+            CsvTailer.Batch batch = tailer.poll();
+            assertEquals(List.of(4), ids(batch));
+            assertEquals("Di", batch.employees().get(0).getFirstName());
+            assertEquals(Files.size(file), tailer.offset());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void skipsMalformedAppendedRows() throws IOException {
+        Path file = Files.createTempFile("employees", ".csv");
+        try {
+            Files.writeString(file, HEADER + "1,Ann,IT,100\n");
+            CsvTailer tailer = new CsvTailer(file);
+            tailer.poll();
+
+            append(file, "5,Eve,IT,abc\n6,Fay,IT,600\n");
+            assertEquals(List.of(6), ids(tailer.poll()));
+            assertEquals(1, tailer.rejected());
+            assertEquals(Files.size(file), tailer.offset());
+            assertTrue(tailer.poll().isEmpty());
+
+            append(file, "7,Gus,HR,700\n");
+            assertEquals(List.of(7), ids(tailer.poll()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void restartsWhenFileIsTruncated() throws IOException {
+        Path file = Files.createTempFile("employees", ".csv");
+        try {
+            Files.writeString(file, HEADER + "1,Ann,IT,100\n2,Bob,HR,200\n");
+            CsvTailer tailer = new CsvTailer(file);
+            assertFalse(tailer.poll().reset());
+
+            Files.writeString(file, HEADER + "9,Zed,IT,1\n");
+            CsvTailer.Batch batch = tailer.poll();
+            assertTrue(batch.reset());
+            assertEquals(List.of(9), ids(batch));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.backend.engineering.data;
+
+/**
+ * Builds employees for tests. {@link #employee(int)} fills the identifying fields from the id, so
+ * tests only set the columns they exercise; {@link #employee()} starts with every field unset.
+ */
+public final class EmployeeBuilder {
+
+    private final Employee employee = new Employee();
+
+    private EmployeeBuilder() {
+    }
+
+    public static EmployeeBuilder employee() {
+        return new EmployeeBuilder();
+    }
+
+    /**
+     * An employee with the given id and a first name, last name, email and phone derived from it.
+     */
+    public static EmployeeBuilder employee(int id) {
+        return new EmployeeBuilder()
+                .id(id)
+                .firstName("FirstName" + id)
+                .lastName("LastName" + id)
+                .email("email" + id + "@example.com")
+                .phone("555-" + id);
+    }
+
+    public EmployeeBuilder id(int id) {
+        employee.setId(id);
+        return this;
+    }
+
+    /**
+     * Sets the first and last name from a "First Last" name, the form managers are referred to by.
+     */
+    public EmployeeBuilder name(String name) {
+        int space = name.indexOf(' ');
+        return firstName(name.substring(0, space)).lastName(name.substring(space + 1));
+    }
+
+    public EmployeeBuilder firstName(String firstName) {
+        employee.setFirstName(firstName);
+        return this;
+    }
+
+    public EmployeeBuilder lastName(String lastName) {
+        employee.setLastName(lastName);
+        return this;
+    }
+
+    public EmployeeBuilder email(String email) {
+        employee.setEmail(email);
+        return this;
+    }
+
+    public EmployeeBuilder phone(String phone) {
+        employee.setPhone(phone);
+        return this;
+    }
+
+    public EmployeeBuilder department(String department) {
+        employee.setDepartment(department);
+        return this;
+    }
+
+    public EmployeeBuilder position(String position) {
+        employee.setPosition(position);
+        return this;
+    }
+
+    public EmployeeBuilder salary(double salary) {
+        employee.setSalary(salary);
+        return this;
+    }
+
+    public EmployeeBuilder hireDate(String hireDate) {
+        employee.setHireDate(hireDate);
+        return this;
+    }
+
+    public EmployeeBuilder manager(String manager) {
+        employee.setManager(manager);
+        return this;
+    }
+
+    public Employee build() {
+        return employee;
+    }
+}
@@ -0,0 +1,55 @@
+package com.backend.engineering.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ParallelCsvLoaderTests {
+
+    @Test
+    void matchesTheSequentialReaderAcrossChunkBoundaries() throws IOException {
+        Path file = Files.createTempFile("employees", ".csv");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                writer.write("\"ID\",\"FirstName\",\"LastName\",\"Email\",\"Phone\",\"Department\",\"Position\",\"Salary\",\"HireDate\",\"Manager\"\n");
+                for (int id = 1; id <= 40000; id++) {
+                    String lastName = id % 7 == 0 ? "\"Multi\nLine, \"\"Quoted\"\"\"" : "\"LastName" + id + "\"";
+                    writer.write("\"" + id + "\",\"FirstName" + id + "\"," + lastName + ",\"email" + id + "@example.com\","
+                            + "\"555-" + id + "\",\"HR\",\"Developer\",\"" + (50000 + id) + "\",\"2023-01-5\",\"John Doe\"\n");
+                }
+            }
+
+            List<Employee> sequential;
+            try (Stream<Employee> employees = new CsvReader().streamEmpData(file)) {
+                sequential = employees.collect(Collectors.toList());
+            }
+
+            List<Employee> loaded = new ParallelCsvLoader(4).load(file);
+            assertEquals(40000, loaded.size());
+            assertEquals(sequential, loaded);
+            assertEquals("Multi\nLine, \"Quoted\"", loaded.get(6).getLastName());
+            assertEquals(sequential, new CsvReader().readEmpData(file, 3));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void loadsHeaderOnlyFiles() throws IOException {
+        Path file = Files.createTempFile("employees", ".csv");
+        try {
+            Files.writeString(file, "\"ID\",\"FirstName\"\n");
+            assertEquals(0, new ParallelCsvLoader(2).load(file).size());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.backend.engineering.export;
+
+import com.backend.engineering.data.CsvGenerator;
+import com.backend.engineering.data.CsvReader;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.data.EmployeeColumn;
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.backend.engineering.data.EmployeeBuilder.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NdjsonWriterTests {
+
+    private static String text(ByteArrayOutputStream bytes) {
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void writesOneEscapedValuePerLine() throws IOException {
+        Employee employee = employee().id(7).firstName("Ann \"Jr\"").salary(1500.5).manager("Line\nBreak\\\u0001").build();
+
+        Map<String, Object> group = new LinkedHashMap<>();
+        group.put("IT", List.of(1, 2));
+        group.put("avg", Double.NaN);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (NdjsonWriter writer = new NdjsonWriter(bytes)) {
+            assertEquals(3, writer.writeAll(Stream.of("caf\u00e9", group, true)));
+            writer.write(employee, EnumSet.of(EmployeeColumn.ID, EmployeeColumn.FIRST_NAME, EmployeeColumn.SALARY, EmployeeColumn.MANAGER));
+            writer.write(null);
+            assertEquals(5, writer.count());
+        }
+
+        assertEquals("\"caf\u00e9\"\n"
+                + "{\"IT\":[1,2],\"avg\":null}\n"
+                + "true\n"
+                + "{\"id\":7,\"firstName\":\"Ann \\\"Jr\\\"\",\"salary\":1500.5,\"manager\":\"Line\\nBreak\\\\\\u0001\"}\n"
+                + "null\n", text(bytes));
+    }
+
+    @Test
+    void firstRecordIsFlushedImmediately() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        NdjsonWriter writer = new NdjsonWriter(bytes, 1 << 16, 100);
+        writer.write("first");
+        assertEquals("\"first\"\n", text(bytes));
+
+        writer.write("second");
+        assertEquals("\"first\"\n", text(bytes));
+        writer.flush();
+        assertEquals("\"first\"\n\"second\"\n", text(bytes));
+    }
+
+    @Test
+    void slowConsumerStopsTheSourceInsteadOfBuffering() {
+        AtomicLong pulled = new AtomicLong();
+        OutputStream stalled = new OutputStream() {
+            private long written;
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                written += len;
+                if (written > 100_000) {
+                    throw new IOException("consumer gone");
+                }
+            }
+        };
+
+        NdjsonWriter writer = new NdjsonWriter(stalled, 4096, 10);
+        assertThrows(IOException.class, () -> writer.writeAll(Stream.generate(() -> "row-" + pulled.incrementAndGet())));
+        assertTrue(pulled.get() < 20_000, "pulled " + pulled.get());
+    }
+
+    @Test
+    void streamOperationsMatchTheListOperations() throws IOException {
+        Path file = Files.createTempFile("employees", ".csv");
+        try {
+            CsvGenerator.generate(file, 2_000, 17);
+            List<Employee> all = new CsvReader().readEmpData(file);
+
+            try (Stream<String> firstNames = EmployeeStreamOperations.firstNames(file)) {
+                assertEquals(EmployeeStreamOperations.firstNames(all), firstNames.collect(Collectors.toList()));
+            }
+            try (Stream<String> emails = EmployeeStreamOperations.emails(file)) {
+                assertEquals(EmployeeStreamOperations.emails(all), emails.collect(Collectors.toList()));
+            }
+            try (Stream<String> phoneNumbers = EmployeeStreamOperations.phoneNumbers(file)) {
+                assertEquals(EmployeeStreamOperations.phoneNumbers(all), phoneNumbers.collect(Collectors.toList()));
+            }
+            try (Stream<Employee> namesByPosition = EmployeeStreamOperations.namesByPosition(file, 64 << 10)) {
+                assertEquals(EmployeeStreamOperations.namesByPosition(all), namesByPosition.collect(Collectors.groupingBy(Employee::getPosition,
+                        Collectors.mapping(e -> e.getFirstName() + " " + e.getLastName(), Collectors.toList()))));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
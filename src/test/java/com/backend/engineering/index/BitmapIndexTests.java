@@ -0,0 +1,79 @@
+package com.backend.engineering.index;
+
+import com.backend.engineering.columnar.EmployeeColumnStore;
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+
+import static com.backend.engineering.data.EmployeeBuilder.employee;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BitmapIndexTests {
+
+    private final List<Employee> employees = List.of(
+            employee(1).department("IT").position("Developer").manager("John Doe").salary(50000).build(),
+            employee(2).department("HR").position("Manager").manager("Jane Smith").salary(51000).build(),
+            employee(3).department("IT").position("Engineering Manager").manager("Jane Smith").salary(52000).build(),
+            employee(4).department("Sales").position("Salesperson").manager("John Doe").salary(53000).build(),
+            employee(5).department("IT").position("Developer").manager("Jane Smith").salary(54000).build());
+
+    @Test
+    void combinesPredicatesWithAndOrNot() {
+        BitmapIndex index = BitmapIndex.of(employees);
+
+        assertArrayEquals(new int[]{0, 2, 4}, index.filter(RowFilter.eq(Dimension.DEPARTMENT, "IT")).toArray());
+        assertArrayEquals(new int[]{1, 2}, index.filter(RowFilter.contains(Dimension.POSITION, "Manager")).toArray());
+        assertArrayEquals(new int[]{2, 4}, index.filter(RowFilter.eq(Dimension.DEPARTMENT, "IT")
+                .and(RowFilter.eq(Dimension.MANAGER, "Jane Smith"))).toArray());
+        assertArrayEquals(new int[]{0, 1, 3}, index.filter(RowFilter.eq(Dimension.MANAGER, "John Doe")
+                .or(RowFilter.eq(Dimension.DEPARTMENT, "HR"))).toArray());
+        assertArrayEquals(new int[]{1, 3}, index.filter(RowFilter.eq(Dimension.DEPARTMENT, "IT").negate()).toArray());
+        assertArrayEquals(new int[]{0}, index.filter(RowFilter.eq(Dimension.DEPARTMENT, "IT")
+                .andNot(RowFilter.eq(Dimension.MANAGER, "Jane Smith"))).toArray());
+        assertArrayEquals(new int[]{0, 1, 3, 4}, index.filter(RowFilter.in(Dimension.POSITION, "Developer", "Manager", "Salesperson")).toArray());
+        assertEquals(0, index.filter(RowFilter.eq(Dimension.DEPARTMENT, "Finance")).getCardinality());
+    }
+
+    @Test
+    void filtersDoNotModifyTheIndex() {
+        BitmapIndex index = BitmapIndex.of(EmployeeColumnStore.of(employees));
+        RoaringBitmap it = index.filter(RowFilter.eq(Dimension.DEPARTMENT, "IT").negate());
+        it.add(0);
+
+        assertArrayEquals(new int[]{0, 2, 4}, index.filter(RowFilter.eq(Dimension.DEPARTMENT, "IT")).toArray());
+        assertEquals(List.of(employees.get(1)), BitmapIndex.select(index.filter(RowFilter.eq(Dimension.DEPARTMENT, "HR")), employees));
+    }
+
+    @Test
+    void appendedRowsMatchAFullBuild() {
+        BitmapIndex base = BitmapIndex.of(employees.subList(0, 3));
+        BitmapIndex appended = base.append(employees.subList(3, 5));
+        BitmapIndex full = BitmapIndex.of(employees);
+
+        assertEquals(full.rowCount(), appended.rowCount());
+        for (Dimension dimension : Dimension.values()) {
+            assertEquals(full.values(dimension), appended.values(dimension));
+            for (String value : full.values(dimension)) {
+                assertEquals(full.rows(dimension, value), appended.rows(dimension, value));
+            }
+        }
+        assertArrayEquals(new int[]{0, 2}, base.filter(RowFilter.eq(Dimension.DEPARTMENT, "IT")).toArray());
+        assertEquals(0, base.filter(RowFilter.eq(Dimension.DEPARTMENT, "Sales")).getCardinality());
+    }
+
+    @Test
+    void streamOperationsGiveTheSameResultsFromTheIndex() {
+        BitmapIndex index = BitmapIndex.of(employees);
+
+        assertEquals(EmployeeStreamOperations.itSalaries(employees), EmployeeStreamOperations.itSalaries(employees, index));
+        assertEquals(EmployeeStreamOperations.idsManagedByJohnDoe(employees), EmployeeStreamOperations.idsManagedByJohnDoe(employees, index));
+        assertEquals(EmployeeStreamOperations.totalSalaryManagedByJane(employees), EmployeeStreamOperations.totalSalaryManagedByJane(employees, index));
+        assertEquals(EmployeeStreamOperations.managers(employees), EmployeeStreamOperations.managers(employees, index));
+        assertEquals(EmployeeStreamOperations.avgDeveloperSalary(employees), EmployeeStreamOperations.avgDeveloperSalary(employees, index));
+    }
+}
@@ -0,0 +1,90 @@
+package com.backend.engineering.index;
+
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.data.HireDates;
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.backend.engineering.data.EmployeeBuilder.employee;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HireDateIndexTests {
+
+    private static int day(String date) {
+        return HireDates.toEpochDay(date);
+    }
+
+    @Test
+    void parsesLenientDatesAndExtractsCalendarFields() {
+        assertEquals(LocalDate.of(2023, 1, 5).toEpochDay(), day("2023-01-5"));
+        assertEquals(HireDates.UNKNOWN, day(""));
+        assertThrows(IllegalArgumentException.class, () -> day("2023-13-01"));
+        assertThrows(IllegalArgumentException.class, () -> day("01/05/2023"));
+
+        for (LocalDate date = LocalDate.of(1899, 12, 25); date.isBefore(LocalDate.of(2101, 1, 10)); date = date.plusDays(13)) {
+            int epochDay = (int) date.toEpochDay();
+            assertEquals(date.getYear(), HireDates.year(epochDay));
+            assertEquals(date.getMonthValue(), HireDates.monthValue(epochDay));
+            assertEquals(date.getDayOfMonth(), HireDates.dayOfMonth(epochDay));
+            assertEquals(date.getDayOfWeek(), HireDates.dayOfWeek(epochDay));
+        }
+        assertEquals(DayOfWeek.THURSDAY, HireDates.dayOfWeek(0));
+    }
+
+    @Test
+    void answersRangeAndBucketQueries() {
+        int[] hireDays = {
+                day("2016-03-01"), day("2014-07-15"), HireDates.UNKNOWN, day("2016-01-01"), day("2015-12-31"), day("2016-03-01")
+        };
+        HireDateIndex index = HireDateIndex.of(hireDays);
+
+        assertEquals(5, index.size());
+        assertArrayEquals(new int[]{1, 4, 3, 0, 5}, index.rowsInHireOrder());
+        assertArrayEquals(new int[]{3, 0, 5}, index.rowsHiredAfter(LocalDate.of(2015, 12, 31)));
+        assertArrayEquals(new int[]{1}, index.rowsHiredBefore(LocalDate.of(2015, 12, 31)));
+        assertArrayEquals(new int[]{4, 3}, index.rowsHiredBetween(LocalDate.of(2015, 12, 31), LocalDate.of(2016, 1, 1)));
+        assertArrayEquals(new int[0], index.rowsHiredBetween(LocalDate.of(2017, 1, 1), LocalDate.of(2016, 1, 1)));
+        assertEquals(LocalDate.of(2014, 7, 15), index.earliest());
+        assertEquals(Map.of(2014, 1L, 2015, 1L, 2016, 3L), index.countByYear());
+        assertEquals(Map.of(1, 1L, 3, 2L, 7, 1L, 12, 1L), index.countByMonth());
+    }
+
+    @Test
+    void appendedRowsMatchAFullBuild() {
+        String[] dates = {"2016-03-01", "2014-07-15", "", "2016-01-01", "2015-12-31", "2016-03-01", "2014-07-15", ""};
+        List<Employee> employees = new ArrayList<>();
+        for (String date : dates) {
+            employees.add(employee().hireDate(date).build());
+        }
+        HireDateIndex base = HireDateIndex.of(employees.subList(0, 4));
+        HireDateIndex appended = base.append(employees.subList(4, 6)).append(employees.subList(6, 8));
+
+        assertArrayEquals(HireDateIndex.of(employees).rowsInHireOrder(), appended.rowsInHireOrder());
+        assertArrayEquals(new int[]{1, 6, 4, 3, 0, 5}, appended.rowsInHireOrder());
+        assertArrayEquals(new int[]{1, 3, 0}, base.rowsInHireOrder());
+    }
+
+    @Test
+    void hireDateOperationsMatchTheListOperations() {
+        String[] dates = {"2016-03-01", "2014-07-15", "", "2016-01-01", "2015-12-31", "2016-03-01", "2014-07-15", "2019-11-30"};
+        List<Employee> employees = new ArrayList<>();
+        for (int id = 0; id < dates.length; id++) {
+            employees.add(employee(id).hireDate(dates[id]).build());
+        }
+        HireDateIndex index = HireDateIndex.of(employees);
+
+        assertEquals(EmployeeStreamOperations.hiredAfter2015(employees), EmployeeStreamOperations.hiredAfter2015(employees, index));
+        assertEquals(EmployeeStreamOperations.employeesByYear(employees), EmployeeStreamOperations.employeesByYear(employees, index));
+        assertArrayEquals(EmployeeStreamOperations.hireDateRange(employees), EmployeeStreamOperations.hireDateRange(index));
+        assertEquals(EmployeeStreamOperations.employeesHiredPerMonth(employees), EmployeeStreamOperations.employeesHiredPerMonth(index));
+        assertArrayEquals(new LocalDate[]{null, null}, EmployeeStreamOperations.hireDateRange(HireDateIndex.of(new int[0])));
+    }
+}
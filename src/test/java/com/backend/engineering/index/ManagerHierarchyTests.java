@@ -0,0 +1,157 @@
+package com.backend.engineering.index;
+
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.backend.engineering.data.EmployeeBuilder.employee;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ManagerHierarchyTests {
+
+    @Test
+    void resolvesManagersAndAnswersDirectAndTransitiveQueries() {
+        ManagerHierarchy hierarchy = ManagerHierarchy.of(List.of(
+                employee().id(10).name("Ann Lee").manager(null).salary(300).build(),
+                employee().id(11).name("Bob Ray").manager("Ann Lee").salary(200).build(),
+                employee().id(12).name("Cat Fox").manager("Ann Lee").salary(150).build(),
+                employee().id(13).name("Dan Poe").manager("Bob Ray").salary(100).build(),
+                employee().id(14).name("Eve Kim").manager("Bob Ray").salary(90).build(),
+                employee().id(15).name("Fay Wu").manager("Ghost Person").salary(80).build(),
+                employee().id(16).name("Ann Lee").manager("Cat Fox").salary(70).build()));
+
+        assertEquals(0, hierarchy.managerRow("Ann Lee"));
+        assertEquals(-1, hierarchy.managerRow("Ghost Person"));
+        assertEquals(-1, hierarchy.managerRow("Dan Poe"));
+        assertEquals(1, hierarchy.managerOf(3));
+        assertEquals(-1, hierarchy.managerOf(0));
+        assertEquals(-1, hierarchy.managerOf(5));
+
+        assertArrayEquals(new int[]{1, 2}, hierarchy.directReports("Ann Lee"));
+        assertArrayEquals(new int[]{11, 12}, hierarchy.ids(hierarchy.directReports(0)));
+        assertArrayEquals(new int[]{1, 3, 4, 2, 6}, hierarchy.allReports("Ann Lee"));
+        assertEquals(5, hierarchy.reportCount("Ann Lee"));
+        assertEquals(610.0, hierarchy.totalPayroll("Ann Lee"));
+        assertEquals(190.0, hierarchy.directPayroll("Bob Ray"));
+        assertEquals(2, hierarchy.reportCount(1));
+        assertArrayEquals(new int[]{5}, hierarchy.allReports("Ghost Person"));
+        assertEquals(80.0, hierarchy.totalPayroll("Ghost Person"));
+
+        assertEquals(0, hierarchy.reportCount("Nobody"));
+        assertArrayEquals(new int[0], hierarchy.directReports("Nobody"));
+        assertArrayEquals(new int[0], hierarchy.allReports(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> hierarchy.reportCount(7));
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("Ann Lee", 2L);
+        counts.put("Bob Ray", 2L);
+        counts.put("Ghost Person", 1L);
+        counts.put("Cat Fox", 1L);
+        assertEquals(counts, hierarchy.directReportCounts());
+        assertEquals(List.of("Ann Lee", "Bob Ray"), hierarchy.managersWithMoreThan(1));
+        assertEquals("Ann Lee", hierarchy.managerWithMostReports());
+        assertNull(ManagerHierarchy.of(List.of()).managerWithMostReports());
+    }
+
+    @Test
+    void streamOperationsGiveTheSameResultsFromTheHierarchy() {
+        String[] managers = {"John Doe", "John Doe", "John Doe", "John Doe", "Jane Smith", "Jane Smith", "Jane Smith", "Ann Lee", "Ann Lee", "Bob Ray"};
+        List<Employee> employees = new ArrayList<>();
+        employees.add(employee().id(1).name("John Doe").manager("Board").salary(500).build());
+        for (int id = 2; id <= 200; id++) {
+            employees.add(employee().id(id).name("First" + id + " Last" + id).manager(managers[id % managers.length]).salary(1000 + id).build());
+        }
+        ManagerHierarchy hierarchy = ManagerHierarchy.of(employees);
+
+        assertEquals(EmployeeStreamOperations.employeesPerManager(employees), EmployeeStreamOperations.employeesPerManager(hierarchy));
+        assertEquals(EmployeeStreamOperations.idsManagedByJohnDoe(employees), EmployeeStreamOperations.idsManagedByJohnDoe(hierarchy));
+        assertEquals(EmployeeStreamOperations.totalSalaryManagedByJane(employees), EmployeeStreamOperations.totalSalaryManagedByJane(hierarchy), 1e-9);
+        assertEquals(EmployeeStreamOperations.managerWithMostEmployees(employees), EmployeeStreamOperations.managerWithMostEmployees(hierarchy));
+        assertEquals(new HashSet<>(EmployeeStreamOperations.managersWithMoreThan5Employees(employees)),
+                new HashSet<>(EmployeeStreamOperations.managersWithMoreThan5Employees(hierarchy)));
+    }
+
+    @Test
+    void reportingLoopsShareTheirTransitiveReports() {
+        ManagerHierarchy hierarchy = ManagerHierarchy.of(List.of(
+                employee().id(1).name("Al Bo").manager("Cy Do").salary(10).build(),
+                employee().id(2).name("Cy Do").manager("Al Bo").salary(20).build(),
+                employee().id(3).name("Ed Fu").manager("Cy Do").salary(30).build(),
+                employee().id(4).name("Gus Ho").manager("Gus Ho").salary(40).build(),
+                employee().id(5).name("Ida Jo").manager("Ed Fu").salary(50).build()));
+
+        assertEquals(Set.of(1, 2, 4), set(hierarchy.allReports("Al Bo")));
+        assertEquals(Set.of(0, 2, 4), set(hierarchy.allReports("Cy Do")));
+        assertArrayEquals(new int[]{4}, hierarchy.allReports("Ed Fu"));
+        assertEquals(3, hierarchy.reportCount("Cy Do"));
+        assertEquals(100.0, hierarchy.totalPayroll("Al Bo"));
+        assertEquals(90.0, hierarchy.totalPayroll("Cy Do"));
+
+        assertArrayEquals(new int[]{3}, hierarchy.directReports("Gus Ho"));
+        assertEquals(0, hierarchy.reportCount("Gus Ho"));
+        assertEquals(0.0, hierarchy.totalPayroll("Gus Ho"));
+    }
+
+    @Test
+    void matchesGraphSearchOnRandomOrgs() {
+        Random random = new Random(21);
+        List<Employee> employees = new ArrayList<>();
+        for (int row = 0; row < 3_000; row++) {
+            int choice = random.nextInt(20);
+            String manager = choice == 0 ? null
+                    : choice == 1 ? "Outside " + random.nextInt(5)
+                    : choice == 2 ? "Emp" + random.nextInt(3_000) + " X"
+                    : row == 0 ? null : "Emp" + random.nextInt(row) + " X";
+            employees.add(employee().id(row).name("Emp" + row + " X").manager(manager).salary(random.nextInt(100_000)).build());
+        }
+        ManagerHierarchy hierarchy = ManagerHierarchy.of(employees);
+
+        Map<String, List<Integer>> direct = new LinkedHashMap<>();
+        for (int row = 0; row < employees.size(); row++) {
+            if (employees.get(row).getManager() != null) {
+                direct.computeIfAbsent(employees.get(row).getManager(), name -> new ArrayList<>()).add(row);
+            }
+        }
+        assertEquals(direct.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> (long) e.getValue().size())),
+                hierarchy.directReportCounts());
+
+        for (String manager : direct.keySet()) {
+            assertArrayEquals(direct.get(manager).stream().mapToInt(Integer::intValue).toArray(), hierarchy.directReports(manager));
+
+            Set<Integer> below = new HashSet<>();
+            Deque<Integer> pending = new ArrayDeque<>(direct.get(manager));
+            while (!pending.isEmpty()) {
+                int row = pending.pop();
+                if (below.add(row)) {
+                    pending.addAll(direct.getOrDefault(employees.get(row).getFirstName() + " X", List.of()));
+                }
+            }
+            below.remove(hierarchy.managerRow(manager));
+            int[] all = hierarchy.allReports(manager);
+            assertEquals(below, set(all));
+            assertEquals(below.size(), all.length);
+            assertEquals(below.size(), hierarchy.reportCount(manager));
+            assertEquals(below.stream().mapToDouble(row -> employees.get(row).getSalary()).sum(),
+                    hierarchy.totalPayroll(manager), 1e-6);
+        }
+    }
+
+    private static Set<Integer> set(int[] rows) {
+        return Arrays.stream(rows).boxed().collect(Collectors.toSet());
+    }
+}
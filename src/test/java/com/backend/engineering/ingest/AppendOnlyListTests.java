@@ -0,0 +1,34 @@
+package com.backend.engineering.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AppendOnlyListTests {
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    void appendsAcrossChunksWithoutChangingEarlierLists() {
+        AppendOnlyList<Integer> first = AppendOnlyList.of(range(0, 5000));
+        AppendOnlyList<Integer> second = first.append(range(5000, 9000));
+        AppendOnlyList<Integer> branch = first.append(List.of(-1));
+
+        assertEquals(range(0, 5000), first);
+        assertEquals(range(0, 9000), second);
+        assertEquals(5001, branch.size());
+        assertEquals(-1, (int) branch.get(5000));
+        assertEquals(4999, (int) second.get(4999));
+        assertSame(second, second.append(List.of()));
+        assertThrows(IndexOutOfBoundsException.class, () -> first.get(5000));
+        assertThrows(UnsupportedOperationException.class, () -> second.add(1));
+    }
+}
@@ -0,0 +1,65 @@
+package com.backend.engineering.ingest;
+
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.backend.engineering.data.EmployeeBuilder.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IncrementalAggregatesTests {
+
+    @Test
+    void matchesStreamOperations() {
+        List<Employee> employees = List.of(
+                employee().department("IT").manager("John Doe").salary(100).build(),
+                employee().department("HR").manager("Jane Smith").salary(50).build(),
+                employee().department("IT").manager("Jane Smith").salary(300).build(),
+                employee().department("Sales").manager(null).salary(80).build());
+        IncrementalAggregates aggregates = new IncrementalAggregates();
+        aggregates.addAll(employees);
+
+        assertEquals(EmployeeStreamOperations.employeesPerDepartment(employees), aggregates.countBy(Dimension.DEPARTMENT));
+        assertEquals(EmployeeStreamOperations.averageSalary(employees), aggregates.averageSalary(), 1e-9);
+        assertEquals(EmployeeStreamOperations.totalSalaries(employees), aggregates.totalSalary(), 1e-9);
+        assertEquals(EmployeeStreamOperations.averageSalaryPerDepartment(employees), aggregates.averageSalaryBy(Dimension.DEPARTMENT));
+        assertEquals(Optional.of(EmployeeStreamOperations.deptWithHighestTotalSalary(employees)),
+                aggregates.highestTotalSalary(Dimension.DEPARTMENT));
+        assertEquals(Map.of("", 1L, "John Doe", 1L, "Jane Smith", 2L), aggregates.countBy(Dimension.MANAGER));
+
+        RunningStats it = aggregates.stats(Dimension.DEPARTMENT).get("IT");
+        assertEquals(100, it.getMin(), 0.0);
+        assertEquals(300, it.getMax(), 0.0);
+    }
+
+    @Test
+    void ingestorFoldsAppendsAndRebuildsOnTruncation() throws IOException {
+        Path file = Files.createTempFile("employees", ".csv");
+        String header = "\"ID\",\"Department\",\"Salary\"\n";
+        try (AppendIngestor ingestor = new AppendIngestor(file, new IncrementalAggregates())) {
+            Files.writeString(file, header + "1,IT,100\n2,HR,50\n");
+            ingestor.ingest();
+            Files.writeString(file, "3,IT,300\n", StandardOpenOption.APPEND);
+            ingestor.ingest();
+
+            IncrementalAggregates aggregates = ingestor.getAggregates();
+            assertEquals(3, aggregates.count());
+            assertEquals(Map.of("IT", 200.0, "HR", 50.0), aggregates.averageSalaryBy(Dimension.DEPARTMENT));
+
+            Files.writeString(file, header + "4,Sales,10\n");
+            ingestor.ingest();
+            assertEquals(Map.of("Sales", 1L), aggregates.countBy(Dimension.DEPARTMENT));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.backend.engineering.metrics;
+
+import com.backend.engineering.data.CsvGenerator;
+import com.backend.engineering.data.CsvReader;
+import com.backend.engineering.data.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OperationMetricsTests {
+
+    @Test
+    void recordsWallTimeRowsAndAllocation() {
+        OperationMetrics metrics = new OperationMetrics();
+        List<OperationSample> samples = new ArrayList<>();
+        metrics.addRecorder(samples::add);
+
+        int[] result = metrics.measure("allocate", 1_000, () -> new int[1_000_000]);
+
+        assertEquals(1_000_000, result.length);
+        assertEquals(1, samples.size());
+        OperationSample sample = samples.get(0);
+        assertEquals("allocate", sample.operation());
+        assertEquals(1_000, sample.rows());
+        assertTrue(sample.wallNanos() > 0);
+        if (OperationMetrics.allocatedBytes() >= 0) {
+            assertTrue(sample.allocatedBytes() >= 4_000_000, "allocated " + sample.allocatedBytes());
+        }
+
+        OperationStatistics.Summary summary = metrics.statistics().summary("allocate");
+        assertEquals(1, summary.count());
+        assertEquals(1_000, summary.rows());
+    }
+
+    @Test
+    void histogramBucketsBoundTheirValues() {
+        for (long nanos : new long[]{0, 1, 3, 4, 7, 8, 1_000, 123_456_789, Long.MAX_VALUE / 2}) {
+            int bucket = OperationStatistics.bucket(nanos);
+            assertTrue(nanos <= OperationStatistics.bucketLimit(bucket), "value " + nanos);
+            if (bucket > 8) {
+                assertTrue(nanos > OperationStatistics.bucketLimit(bucket - 1), "value " + nanos);
+            }
+        }
+    }
+
+    @Test
+    void percentilesComeFromTheHistogram() {
+        OperationStatistics statistics = new OperationStatistics();
+        for (int i = 1; i <= 100; i++) {
+            statistics.record(new OperationSample("op", i * 1_000_000L, 10, 0, 0));
+        }
+        OperationStatistics.Summary summary = statistics.summary("op");
+        assertEquals(100, summary.count());
+        assertEquals(50.5, summary.meanMillis(), 1e-9);
+        assertEquals(100.0, summary.maxMillis(), 1e-9);
+        assertTrue(summary.p50Millis() >= 50 && summary.p50Millis() < 50 * 1.25, "p50 " + summary.p50Millis());
+        assertTrue(summary.p99Millis() >= 99 && summary.p99Millis() <= 100, "p99 " + summary.p99Millis());
+    }
+
+    @Test
+    void csvStreamsReportRowsAndBytes() throws IOException {
+        Path file = Files.createTempFile("employees", ".csv");
+        List<OperationSample> samples = new ArrayList<>();
+        OperationRecorder recorder = sample -> {
+            if (sample.operation().equals("ingest.csv")) {
+                samples.add(sample);
+            }
+        };
+        OperationMetrics.global().addRecorder(recorder);
+        try {
+            CsvGenerator.generate(file, 500, 1);
+            try (Stream<Employee> employees = new CsvReader().streamEmpData(file)) {
+                assertEquals(500, employees.count());
+            }
+            assertEquals(1, samples.size());
+            assertEquals(500, samples.get(0).rows());
+            assertEquals(Files.size(file), samples.get(0).bytes());
+        } finally {
+            OperationMetrics.global().removeRecorder(recorder);
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.backend.engineering.parallel;
+
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.backend.engineering.data.EmployeeBuilder.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryExecutorTests {
+
+    private static List<Employee> employees(int count) {
+        Random random = new Random(11);
+        String[] departments = {"IT", "HR", "Sales", "Engineering"};
+        String[] positions = {"Developer", "Manager", "Engineer"};
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            employees.add(employee().id(i)
+                    .firstName("First" + random.nextInt(count / 2))
+                    .lastName("Last" + i)
+                    .department(departments[random.nextInt(departments.length)])
+                    .position(positions[random.nextInt(positions.length)])
+                    .salary(random.nextInt(150_000))
+                    .hireDate("20" + (10 + random.nextInt(10)) + "-0" + (1 + random.nextInt(9)) + "-15")
+                    .build());
+        }
+        return employees;
+    }
+
+    @Test
+    void runsSmallInputsOnTheCallerAndLargeOnesOnThePool() {
+        try (QueryExecutor executor = new QueryExecutor(4, 1_000)) {
+            List<Integer> small = IntStream.range(0, 999).boxed().collect(Collectors.toList());
+            Thread caller = Thread.currentThread();
+            assertEquals(Set.of(caller), executor.execute(small, stream -> stream.map(i -> Thread.currentThread()).collect(Collectors.toSet())));
+
+            List<Integer> large = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            long sum = executor.execute(large, stream -> stream.peek(i -> threads.add(Thread.currentThread())).mapToLong(i -> i).sum());
+            assertEquals(4_999_950_000L, sum);
+            assertFalse(threads.contains(caller));
+            assertTrue(threads.stream().allMatch(thread -> thread.getName().startsWith("employee-query-")));
+            assertEquals(large, executor.execute(large, stream -> stream.collect(Collectors.toList())));
+
+            assertThrows(IllegalStateException.class, () -> executor.execute(large, stream -> stream.map(i -> {
+                throw new IllegalStateException("query failed");
+            }).collect(Collectors.toList())));
+        }
+    }
+
+    @Test
+    void listsWithoutExactSplitsAreCopiedToAnArray() {
+        List<Integer> linked = IntStream.range(0, 10_000).boxed().collect(Collectors.toCollection(LinkedList::new));
+        Spliterator<Integer> spliterator = QueryExecutor.spliterator(linked);
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(5_000, spliterator.trySplit().estimateSize());
+        assertEquals(5_000, spliterator.estimateSize());
+
+        try (QueryExecutor executor = new QueryExecutor(2, 0)) {
+            assertEquals(new ArrayList<>(linked), executor.execute(linked, stream -> stream.collect(Collectors.toList())));
+        }
+    }
+
+    @Test
+    void parallelOperationsMatchTheSequentialOnes() {
+        List<Employee> employees = employees(50_000);
+        try (QueryExecutor executor = new QueryExecutor(4, 1_000)) {
+            assertEquals(EmployeeStreamOperations.highEarners(employees), EmployeeStreamOperations.highEarners(executor, employees));
+            assertEquals(EmployeeStreamOperations.employeesPerDepartment(employees), EmployeeStreamOperations.employeesPerDepartment(executor, employees));
+            assertEquals(EmployeeStreamOperations.averageSalary(employees), EmployeeStreamOperations.averageSalary(executor, employees), 1e-6);
+            Map<String, Double> averages = EmployeeStreamOperations.averageSalaryPerDepartment(executor, employees);
+            EmployeeStreamOperations.averageSalaryPerDepartment(employees).forEach((department, average) ->
+                    assertEquals(average, averages.get(department), 1e-6));
+            assertEquals(EmployeeStreamOperations.nameToSalary(employees), EmployeeStreamOperations.nameToSalary(executor, employees));
+            assertEquals(EmployeeStreamOperations.sortedByHireDate(employees), EmployeeStreamOperations.sortedByHireDate(executor, employees));
+            assertEquals(EmployeeStreamOperations.medianSalary(employees), EmployeeStreamOperations.medianSalary(executor, employees));
+            assertEquals(EmployeeStreamOperations.employeesByDeptAndPos(employees), EmployeeStreamOperations.employeesByDeptAndPos(executor, employees));
+            assertEquals(EmployeeStreamOperations.employeesHiredPerMonth(employees), EmployeeStreamOperations.employeesHiredPerMonth(executor, employees));
+            assertEquals(EmployeeStreamOperations.deptWithHighestTotalSalary(employees), EmployeeStreamOperations.deptWithHighestTotalSalary(executor, employees));
+
+            Map<String, Long> firstNames = employees.stream().collect(Collectors.groupingBy(Employee::getFirstName, Collectors.counting()));
+            Long mostCommon = firstNames.values().stream().max(Long::compare).orElseThrow();
+            assertEquals(mostCommon, firstNames.get(EmployeeStreamOperations.mostCommonFirstName(executor, employees)));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.backend.engineering.report;
+
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.backend.engineering.data.EmployeeBuilder.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReportEngineTests {
+
+    @Test
+    void answersGroupedAndDependentQueriesInTwoScans() {
+        List<Employee> employees = List.of(
+                employee(1).department("HR").position("Developer").salary(60000).hireDate("2023-01-5").manager("John Doe").build(),
+                employee(2).department("Sales").position("Developer").salary(40000).hireDate("2019-11-30").manager("Jane Smith").build(),
+                employee(3).department("HR").position("Developer").salary(110000).hireDate("2015-02-01").manager("John Doe").build());
+
+        Report report = new ReportEngine()
+                .register("count", ReportQueries.countBy(Dimension.DEPARTMENT))
+                .register("avg", ReportQueries.averageSalaryBy(Dimension.DEPARTMENT))
+                .register("managers", ReportQueries.groupsLargerThan(Dimension.MANAGER, 1))
+                .register("names", ReportQueries.firstNamesBy(Dimension.DEPARTMENT))
+                .register("oldest", ReportQueries.oldestHireDate())
+                .register("above", ReportQueries.aboveAverageSalary())
+                .run(employees);
+
+        assertEquals(Map.of("HR", 2L, "Sales", 1L), report.get("count"));
+        assertEquals(Map.of("HR", 85000.0, "Sales", 40000.0), report.get("avg"));
+        assertEquals(List.of("John Doe"), report.get("managers"));
+        assertEquals(List.of("FirstName1", "FirstName3"), report.<Map<String, List<String>>>get("names").get("HR"));
+        assertEquals(LocalDate.of(2015, 2, 1), report.get("oldest"));
+        assertEquals(List.of(3), report.<List<Employee>>get("above").stream().map(Employee::getId).collect(Collectors.toList()));
+        assertEquals(2, report.getScans());
+    }
+
+    @Test
+    void skipsTheSecondScanWithoutDependentQueries() {
+        Report report = new ReportEngine()
+                .register("total", ReportQueries.totalSalary())
+                .run(List.of(employee(1).department("HR").position("Developer").salary(10).hireDate("2020-01-01").manager("John Doe").build()));
+
+        assertEquals(10.0, report.<Double>get("total"), 0.0);
+        assertEquals(1, report.getScans());
+    }
+
+    @Test
+    void streamOperationsReportMatchesTheSeparateOperations() {
+        List<Employee> employees = List.of(
+                employee(1).department("HR").position("Developer").salary(60000).hireDate("2023-01-5").manager("John Doe").build(),
+                employee(2).department("Sales").position("Developer").salary(40000).hireDate("2019-11-30").manager("Jane Smith").build(),
+                employee(3).department("HR").position("Developer").salary(110000).hireDate("2015-02-01").manager("John Doe").build());
+
+        Report report = EmployeeStreamOperations.report(employees);
+
+        assertEquals(EmployeeStreamOperations.employeesPerDepartment(employees), report.get("Employees per Department"));
+        assertEquals(EmployeeStreamOperations.averageSalaryPerDepartment(employees), report.get("Average Salary per Department"));
+        assertEquals(EmployeeStreamOperations.totalSalaries(employees), report.<Double>get("Total Salaries"), 1e-9);
+        assertEquals(EmployeeStreamOperations.deptWithHighestTotalSalary(employees), report.get("Department with Highest Total Salary"));
+        assertEquals(EmployeeStreamOperations.aboveAverageSalary(employees), report.get("Above Average Salary"));
+        assertEquals(2, report.getScans());
+    }
+}
@@ -0,0 +1,103 @@
+package com.backend.engineering.sketch;
+
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static com.backend.engineering.data.EmployeeBuilder.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SketchCollectorsTests {
+
+    @Test
+    void hyperLogLogEstimatesWithinItsErrorAndMergesAcrossSegments() {
+        HyperLogLog sketch = IntStream.range(0, 500_000).parallel()
+                .mapToObj(i -> "name" + (i % 200_000))
+                .collect(SketchCollectors.distinctCount(name -> name, 14));
+        double error = Math.abs(sketch.estimate() - 200_000) / 200_000.0;
+        assertTrue(error < 4 * sketch.getRelativeError(), "error " + error);
+
+        HyperLogLog small = new HyperLogLog(12);
+        List.of("HR", "Sales", "HR", "IT").forEach(small::add);
+        assertEquals(3, small.estimate());
+    }
+
+    @Test
+    void quantileSketchStaysSmallAndAccurate() {
+        Random random = new Random(3);
+        double[] values = random.doubles(300_000).map(d -> 50000 + d * 100000).toArray();
+        QuantileSketch sketch = Arrays.stream(values).boxed().parallel()
+                .collect(SketchCollectors.quantiles(Double::doubleValue, 200));
+
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        assertEquals(values.length, sketch.getCount());
+        assertTrue(sketch.retained() < 2000, "retained " + sketch.retained());
+        for (double q : new double[]{0.1, 0.5, 0.9, 0.99}) {
+            double estimate = sketch.quantile(q);
+            int rank = Math.abs(Arrays.binarySearch(sorted, estimate));
+            assertTrue(Math.abs(rank / (double) values.length - q) < 0.02, "q " + q + " rank " + rank);
+        }
+        assertEquals(sorted[0], sketch.quantile(0), 0.0);
+        assertEquals(sorted[sorted.length - 1], sketch.quantile(1), 0.0);
+    }
+
+    @Test
+    void heavyHittersFindTheFrequentKeysAfterMerging() {
+        SpaceSaving<String> left = new SpaceSaving<>(10);
+        SpaceSaving<String> right = new SpaceSaving<>(10);
+        Random random = new Random(4);
+        for (int i = 0; i < 50_000; i++) {
+            SpaceSaving<String> target = i % 2 == 0 ? left : right;
+            target.add(random.nextInt(4) == 0 ? "John" : "name" + random.nextInt(5000));
+            if (i % 10 == 0) {
+                target.add("Jane");
+            }
+        }
+        List<SpaceSaving.HeavyHitter<String>> top = left.merge(right).top(2);
+        assertEquals("John", top.get(0).key());
+        assertEquals("Jane", top.get(1).key());
+        assertTrue(top.get(0).guaranteedCount() <= 12_500 + 500 && top.get(0).count() >= 11_000);
+        assertEquals(55_000, left.getTotal());
+    }
+
+    @Test
+    void countMinNeverUndercounts() {
+        CountMinSketch sketch = IntStream.range(0, 100_000).boxed().parallel()
+                .collect(SketchCollectors.frequencies(i -> "key" + (i % 1000), 0.001, 0.01));
+        for (int key = 0; key < 1000; key += 97) {
+            long estimate = sketch.estimate("key" + key);
+            assertTrue(estimate >= 100 && estimate <= 100 + 0.001 * 100_000 * 2, "estimate " + estimate);
+        }
+    }
+
+    @Test
+    void streamOperationsEstimateTheExactOperations() {
+        Random random = new Random(5);
+        List<Employee> employees = new ArrayList<>();
+        for (int id = 0; id < 20_000; id++) {
+            employees.add(employee().id(id)
+                    .firstName(random.nextInt(3) == 0 ? "John" : "name" + random.nextInt(500))
+                    .position("Position" + random.nextInt(40))
+                    .manager("Manager" + random.nextInt(300))
+                    .salary(50000 + random.nextInt(100000))
+                    .build());
+        }
+
+        assertEquals(EmployeeStreamOperations.distinctPositions(employees).size(),
+                EmployeeStreamOperations.approxDistinctPositions(employees.stream()));
+        long managers = EmployeeStreamOperations.distinctManagers(employees);
+        assertTrue(Math.abs(EmployeeStreamOperations.approxDistinctManagers(employees.parallelStream()) - managers) < managers * 0.05);
+        assertEquals(EmployeeStreamOperations.mostCommonFirstName(employees),
+                EmployeeStreamOperations.approxMostCommonFirstName(employees.stream()));
+        assertEquals(EmployeeStreamOperations.medianSalary(employees),
+                EmployeeStreamOperations.approxMedianSalary(employees.parallelStream()), 100000 * 0.02);
+    }
+}
@@ -0,0 +1,150 @@
+package com.backend.engineering.snapshot;
+
+import com.backend.engineering.columnar.EmployeeColumnStore;
+import com.backend.engineering.data.Dimension;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.backend.engineering.data.EmployeeBuilder.employee;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EmployeeSnapshotTests {
+
+    private static List<Employee> employees() {
+        List<Employee> employees = new ArrayList<>();
+        employees.add(employee(1).firstName("Ann").department("IT").position("Developer").salary(100_000.5).hireDate("2020-01-15").manager("John Doe").build());
+        employees.add(employee(2).firstName("Zo\u00eb").department("HR").position("Developer").salary(50_000).hireDate("2011-7-4").manager(null).build());
+        employees.add(employee(3).firstName("Bob \uD83D\uDE80").department("IT").position("Developer").salary(300_000).hireDate("2023-12-31").manager("Jane Smith").build());
+        employees.add(employee(4).firstName(null).department("Sales").position("Developer").salary(80_000).hireDate("2001-02-03").manager("John Doe").build());
+        return employees;
+    }
+
+    @Test
+    void roundTripsColumnStore() throws IOException {
+        EmployeeColumnStore store = EmployeeColumnStore.of(employees());
+        Path file = Files.createTempFile("employees", ".snap");
+        try {
+            SnapshotWriter.write(store, file);
+            EmployeeSnapshot snapshot = EmployeeSnapshot.open(file);
+            snapshot.verify();
+
+            assertEquals(store.size(), snapshot.size());
+            for (int row = 0; row < store.size(); row++) {
+                assertEquals(store.toEmployee(row), snapshot.toEmployee(row));
+            }
+            assertNull(snapshot.firstName(3));
+            assertNull(snapshot.value(Dimension.MANAGER, 1));
+            assertEquals(store.sumSalary(), snapshot.sumSalary(), 0.0);
+            assertEquals(store.maxSalaryRow(), snapshot.maxSalaryRow());
+            assertArrayEquals(store.countBy(Dimension.DEPARTMENT), snapshot.countBy(Dimension.DEPARTMENT));
+            assertEquals(store.toMap(Dimension.MANAGER, store.averageSalaryBy(Dimension.MANAGER)),
+                    snapshot.toMap(Dimension.MANAGER, snapshot.averageSalaryBy(Dimension.MANAGER)));
+            assertEquals(-1, snapshot.code(Dimension.DEPARTMENT, "Marketing"));
+            for (Dimension dimension : Dimension.values()) {
+                List<String> dictionary = snapshot.dictionary(dimension);
+                for (int code = 0; code < dictionary.size(); code++) {
+                    assertEquals(code, snapshot.code(dimension, dictionary.get(code)));
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void returnsHireDatesInIsoForm() throws IOException {
+        List<Employee> employees = employees();
+        Path file = Files.createTempFile("employees", ".snap");
+        try {
+            SnapshotWriter.write(EmployeeColumnStore.of(employees), file);
+            EmployeeSnapshot snapshot = EmployeeSnapshot.open(file);
+
+            Employee read = snapshot.toEmployee(1);
+            assertEquals("2011-7-4", employees.get(1).getHireDate());
+            assertEquals("2011-07-04", read.getHireDate());
+            assertEquals(employees.get(1).getHireEpochDay(), read.getHireEpochDay());
+            assertEquals("2020-01-15", snapshot.toEmployee(0).getHireDate());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void streamOperationsGiveTheSameResultsOverTheSnapshot() throws IOException {
+        List<Employee> employees = employees();
+        EmployeeColumnStore store = EmployeeColumnStore.of(employees);
+        Path file = Files.createTempFile("employees", ".snap");
+        try {
+            SnapshotWriter.write(store, file);
+            EmployeeSnapshot snapshot = EmployeeSnapshot.open(file);
+
+            assertEquals(EmployeeStreamOperations.employeesPerDepartment(employees), EmployeeStreamOperations.employeesPerDepartment(snapshot));
+            assertEquals(EmployeeStreamOperations.averageSalary(employees), EmployeeStreamOperations.averageSalary(snapshot), 1e-6);
+            assertEquals(EmployeeStreamOperations.highestEarner(employees), EmployeeStreamOperations.highestEarner(snapshot));
+            assertEquals(EmployeeStreamOperations.employeesPerManager(store), EmployeeStreamOperations.employeesPerManager(snapshot));
+            assertEquals(EmployeeStreamOperations.totalSalaries(employees), EmployeeStreamOperations.totalSalaries(snapshot), 1e-6);
+            assertEquals(EmployeeStreamOperations.itSalaries(employees), EmployeeStreamOperations.itSalaries(snapshot), 1e-6);
+            assertEquals(EmployeeStreamOperations.lowEarners(employees), EmployeeStreamOperations.lowEarners(snapshot));
+            assertEquals(EmployeeStreamOperations.totalSalaryManagedByJane(employees), EmployeeStreamOperations.totalSalaryManagedByJane(snapshot), 1e-6);
+            assertEquals(EmployeeStreamOperations.avgDeveloperSalary(employees), EmployeeStreamOperations.avgDeveloperSalary(snapshot), 1e-6);
+            assertEquals(EmployeeStreamOperations.departmentWithHighestAvgSalary(employees), EmployeeStreamOperations.departmentWithHighestAvgSalary(snapshot));
+            assertEquals(EmployeeStreamOperations.deptWithHighestTotalSalary(employees), EmployeeStreamOperations.deptWithHighestTotalSalary(snapshot));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void emptyStoreRoundTrips() throws IOException {
+        Path file = Files.createTempFile("employees", ".snap");
+        try {
+            SnapshotWriter.write(EmployeeColumnStore.of(List.of()), file);
+            EmployeeSnapshot snapshot = EmployeeSnapshot.open(file);
+            snapshot.verify();
+            assertEquals(0, snapshot.size());
+            assertEquals(-1, snapshot.maxSalaryRow());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void detectsCorruption() throws IOException {
+        Path file = Files.createTempFile("employees", ".snap");
+        try {
+            SnapshotWriter.write(EmployeeColumnStore.of(employees()), file);
+            long size = Files.size(file);
+
+            flipByte(file, size - 1);
+            EmployeeSnapshot snapshot = EmployeeSnapshot.open(file);
+            assertThrows(IOException.class, snapshot::verify);
+
+            flipByte(file, 8);
+            assertThrows(IOException.class, () -> EmployeeSnapshot.open(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void flipByte(Path file, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1);
+            channel.read(buffer, position);
+            buffer.put(0, (byte) ~buffer.get(0));
+            channel.write(buffer.rewind(), position);
+        }
+    }
+}
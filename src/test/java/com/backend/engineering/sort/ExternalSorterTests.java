@@ -0,0 +1,159 @@
+package com.backend.engineering.sort;
+
+import com.backend.engineering.data.CsvGenerator;
+import com.backend.engineering.data.CsvReader;
+import com.backend.engineering.data.Employee;
+import com.backend.engineering.streams.EmployeeStreamOperations;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.backend.engineering.data.EmployeeBuilder.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExternalSorterTests {
+
+    private static List<Employee> employees(int count) {
+        Random random = new Random(7);
+        String[] names = {"Smith", "Doe", "Brown", "Lee", "Garcia"};
+        return IntStream.range(0, count)
+                .mapToObj(i -> employee().id(i)
+                        .lastName(names[random.nextInt(names.length)])
+                        .firstName(names[random.nextInt(names.length)])
+                        .hireDate("20" + (10 + random.nextInt(10)) + "-0" + (1 + random.nextInt(9)) + "-1" + random.nextInt(10))
+                        .salary(i * 1000.5)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static long files(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void spilledSortMatchesInMemorySortAndIsStable() throws IOException {
+        Path directory = Files.createTempDirectory("sort");
+        List<Employee> employees = employees(2_000);
+        Comparator<Employee> byHireDate = Comparator.comparingInt(Employee::getHireEpochDay);
+        ExternalSorter<Employee> sorter = new ExternalSorter<>(EmployeeCodec.INSTANCE, byHireDate, 16 * 1024, directory, 3);
+
+        try (Stream<Employee> sorted = sorter.sort(employees.stream())) {
+            assertTrue(files(directory) > 0);
+            assertEquals(employees.stream().sorted(byHireDate).collect(Collectors.toList()), sorted.collect(Collectors.toList()));
+        }
+        assertEquals(0, files(directory));
+        Files.delete(directory);
+    }
+
+    @Test
+    void smallInputIsSortedWithoutSpilling() throws IOException {
+        Path directory = Files.createTempDirectory("sort");
+        ExternalSorter<String> sorter = new ExternalSorter<>(RecordCodec.strings(), Comparator.<String>naturalOrder())
+                .withTempDirectory(directory);
+
+        try (Stream<String> sorted = sorter.sort(Stream.of("b", "c", "a"))) {
+            assertEquals(0, files(directory));
+            assertEquals(List.of("a", "b", "c"), sorted.collect(Collectors.toList()));
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    void partiallyConsumedStreamDeletesRunsOnClose() throws IOException {
+        Path directory = Files.createTempDirectory("sort");
+        Comparator<Employee> byName = Comparator.comparing(Employee::getLastName).thenComparing(Employee::getFirstName);
+        ExternalSorter<Employee> sorter = new ExternalSorter<>(EmployeeCodec.INSTANCE, byName)
+                .withMemoryBudget(8 * 1024)
+                .withTempDirectory(directory);
+
+        try (Stream<Employee> sorted = sorter.sort(employees(500).stream())) {
+            assertEquals("Brown", sorted.findFirst().orElseThrow().getLastName());
+        }
+        assertEquals(0, files(directory));
+        Files.delete(directory);
+    }
+
+    @Test
+    void mergePassesRewriteEachRecordOncePerPass() throws IOException {
+        Path directory = Files.createTempDirectory("sort");
+        AtomicLong writes = new AtomicLong();
+        RecordCodec<String> counting = new RecordCodec<>() {
+            @Override
+            public void write(DataOutput out, String value) throws IOException {
+                writes.incrementAndGet();
+                RecordCodec.strings().write(out, value);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                return RecordCodec.strings().read(in);
+            }
+        };
+        // 64-byte estimates and a 640-byte budget give 27 runs of 10, merged 27 -> 9 -> 3
+        ExternalSorter<String> sorter = new ExternalSorter<>(counting, Comparator.<String>naturalOrder(), 640, directory, 3);
+        List<String> values = IntStream.range(0, 270).mapToObj(i -> String.format("%03d", (i * 7) % 270)).collect(Collectors.toList());
+
+        try (Stream<String> sorted = sorter.sort(values.stream())) {
+            assertEquals(3, files(directory));
+            assertEquals(values.stream().sorted().collect(Collectors.toList()), sorted.collect(Collectors.toList()));
+        }
+        assertEquals(3 * 270, writes.get());
+        Files.delete(directory);
+    }
+
+    @Test
+    void streamOperationsSortTheCsvExternally() throws IOException {
+        Path file = Files.createTempFile("employees", ".csv");
+        try {
+            CsvGenerator.generate(file, 3_000, 13);
+            List<Employee> all = new CsvReader().readEmpData(file);
+            long budget = 64 << 10;
+
+            try (Stream<String> names = EmployeeStreamOperations.sortedNames(file, budget)) {
+                assertEquals(EmployeeStreamOperations.sortedNames(all), names.collect(Collectors.toList()));
+            }
+            try (Stream<Employee> byHireDate = EmployeeStreamOperations.sortedByHireDate(file, budget)) {
+                assertEquals(ids(EmployeeStreamOperations.sortedByHireDate(all)), ids(byHireDate.collect(Collectors.toList())));
+            }
+            try (Stream<Employee> byName = EmployeeStreamOperations.sortedByLastNameThenFirstName(file, budget)) {
+                assertEquals(ids(EmployeeStreamOperations.sortedByLastNameThenFirstName(all)), ids(byName.collect(Collectors.toList())));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<Integer> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    void codecRoundTripsNullsAndLongText() throws IOException {
+        Path directory = Files.createTempDirectory("sort");
+        Employee sparse = employee().id(1).firstName("\u00c9lise").salary(1000.5).build();
+        Employee full = employee().id(2).lastName("x".repeat(70_000)).firstName("Ann").hireDate("2020-1-5").salary(2001)
+                .manager("Jane Smith").build();
+        ExternalSorter<Employee> sorter = new ExternalSorter<>(EmployeeCodec.INSTANCE, Comparator.comparingInt(Employee::getId))
+                .withMemoryBudget(1)
+                .withTempDirectory(directory);
+
+        try (Stream<Employee> sorted = sorter.sort(Stream.of(full, sparse))) {
+            assertEquals(List.of(sparse, full), sorted.collect(Collectors.toList()));
+        }
+        Files.delete(directory);
+    }
+}
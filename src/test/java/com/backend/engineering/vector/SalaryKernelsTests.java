@@ -0,0 +1,76 @@
+package com.backend.engineering.vector;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SalaryKernelsTests {
+
+    private static final SalaryKernels KERNELS = SalaryKernels.get();
+    private static final SalaryKernels SCALAR = SalaryKernels.scalar();
+
+    @Test
+    void kernelsMatchStreamsForEveryTailLength() {
+        Random random = new Random(11);
+        for (int length = 0; length <= 70; length++) {
+            double[] values = random.doubles(length, 30_000, 150_000).toArray();
+            int[] codes = random.ints(length, 0, 4).toArray();
+            assertKernelsMatch(values, codes);
+        }
+        assertKernelsMatch(new Random(5).doubles(100_003, 30_000, 150_000).toArray(), new Random(6).ints(100_003, 0, 40).toArray());
+    }
+
+    @Test
+    void emptyInputsHaveNoExtremes() {
+        for (SalaryKernels kernels : new SalaryKernels[]{KERNELS, SCALAR}) {
+            assertEquals(0.0, kernels.sum(new double[0]));
+            assertTrue(Double.isNaN(kernels.min(new double[0])));
+            assertTrue(Double.isNaN(kernels.max(new double[0])));
+            assertEquals(-1, kernels.indexOfMax(new double[0]));
+            assertEquals(0, kernels.countWhere(new int[0], 1));
+        }
+    }
+
+    @Test
+    void indexOfMaxReturnsTheFirstOccurrence() {
+        double[] values = new double[41];
+        Arrays.fill(values, 1.0);
+        values[9] = 5.0;
+        values[33] = 5.0;
+        assertEquals(9, KERNELS.indexOfMax(values));
+        assertEquals(9, SCALAR.indexOfMax(values));
+        values[40] = 7.0;
+        assertEquals(40, KERNELS.indexOfMax(values));
+    }
+
+    @Test
+    void scalarKernelsCanBeForced() {
+        assertEquals("scalar", SCALAR.name());
+        assertTrue(KERNELS.name().equals("scalar") || KERNELS.name().startsWith("vector"), KERNELS.name());
+    }
+
+    private static void assertKernelsMatch(double[] values, int[] codes) {
+        double tolerance = 1e-9 * Math.max(1, values.length) * 150_000;
+        double sum = Arrays.stream(values).sum();
+        assertEquals(sum, KERNELS.sum(values), tolerance);
+        assertEquals(sum, SCALAR.sum(values), tolerance);
+        assertEquals(Arrays.stream(values).min().orElse(Double.NaN), KERNELS.min(values));
+        assertEquals(Arrays.stream(values).max().orElse(Double.NaN), KERNELS.max(values));
+        assertEquals(SCALAR.indexOfMax(values), KERNELS.indexOfMax(values));
+        assertEquals(Arrays.stream(values).filter(v -> v > 100_000).count(), KERNELS.countGreaterThan(values, 100_000));
+        assertEquals(Arrays.stream(values).filter(v -> v < 50_000).count(), KERNELS.countLessThan(values, 50_000));
+        assertEquals(SCALAR.countGreaterThan(values, 100_000), KERNELS.countGreaterThan(values, 100_000));
+        for (int code = 0; code < 4; code++) {
+            int selected = code;
+            double codeSum = IntStream.range(0, values.length).filter(i -> codes[i] == selected).mapToDouble(i -> values[i]).sum();
+            assertEquals(codeSum, KERNELS.sumWhere(values, codes, code), tolerance);
+            assertEquals(codeSum, SCALAR.sumWhere(values, codes, code), tolerance);
+            assertEquals(Arrays.stream(codes).filter(c -> c == selected).count(), KERNELS.countWhere(codes, code));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.backend.engineering.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class EmployeeAnalyticsControllerTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @DynamicPropertySource
+    static void dataset(DynamicPropertyRegistry registry) throws IOException {
+        Path csv = Files.createTempFile("employees", ".csv");
+        csv.toFile().deleteOnExit();
+        Files.write(csv, List.of(
+                "\"ID\",\"FirstName\",\"LastName\",\"Email\",\"Phone\",\"Department\",\"Position\",\"Salary\",\"HireDate\",\"Manager\"",
+                "\"1\",\"Jane\",\"Smith\",\"jane@example.com\",\"555-1\",\"IT\",\"Manager\",\"150000\",\"2012-04-02\",\"\"",
+                "\"2\",\"Ann\",\"Lee\",\"ann@example.com\",\"555-2\",\"IT\",\"Developer\",\"95000\",\"2016-05-10\",\"Jane Smith\"",
+                "\"3\",\"Bob\",\"Ray\",\"bob@example.com\",\"555-3\",\"HR\",\"Recruiter\",\"60000\",\"2019-08-20\",\"Jane Smith\"",
+                "\"4\",\"Cid\",\"Moe\",\"cid@example.com\",\"555-4\",\"IT\",\"Developer\",\"105000\",\"2021-01-15\",\"Jane Smith\""));
+        registry.add("analytics.dataset.path", csv::toString);
+    }
+
+    @Test
+    void rejectsInvalidParameters() throws Exception {
+        mvc.perform(get("/api/employees/top-earners").param("k", "0"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/employees/export").param("limit", "-1"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/employees/search").param("hiredFrom", "2020-13-01"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/employees/hired").param("from", "01/05/2020").param("to", "2021-01-01"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/employees/count").param("groupBy", "salary"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void repeatedQueriesHitTheCacheUntilReload() throws Exception {
+        mvc.perform(get("/api/employees/salary/total").param("groupBy", "position"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cacheHit").value(false))
+                .andExpect(jsonPath("$.result.Developer").value(200000.0));
+        mvc.perform(get("/api/employees/salary/total").param("groupBy", "position"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cacheHit").value(true));
+
+        mvc.perform(post("/api/employees/reload"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(4));
+        mvc.perform(get("/api/employees/salary/total").param("groupBy", "position"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cacheHit").value(false))
+                .andExpect(jsonPath("$.result.Developer").value(200000.0));
+    }
+
+    @Test
+    void exportWritesOneLinePerMatchWithTheRequestedFields() throws Exception {
+        MvcResult started = mvc.perform(get("/api/employees/export")
+                        .param("department", "IT")
+                        .param("minSalary", "100000")
+                        .param("fields", "firstName,email"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(List.of(
+                "{\"firstName\":\"Jane\",\"email\":\"jane@example.com\"}",
+                "{\"firstName\":\"Cid\",\"email\":\"cid@example.com\"}"), body.lines().toList());
+
+        mvc.perform(get("/api/employees/export").param("fields", "salary,bonus"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,94 @@
+package com.backend.engineering.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryCacheTests {
+
+    @Test
+    void entriesAreKeyedByVersion() {
+        QueryCache cache = new QueryCache(1 << 20);
+        cache.put(QueryKey.of("count"), 1, 42L);
+
+        assertEquals(42L, cache.get(QueryKey.of("count"), 1));
+        assertSame(QueryCache.MISS, cache.get(QueryKey.of("count"), 2));
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void evictBeforeDropsOnlyStaleVersions() {
+        QueryCache cache = new QueryCache(1 << 20);
+        cache.put(QueryKey.of("a"), 1, 1L);
+        cache.put(QueryKey.of("b"), 1, 2L);
+        cache.put(QueryKey.of("a"), 2, 3L);
+
+        cache.evictBefore(2);
+
+        assertEquals(1, cache.size());
+        assertSame(QueryCache.MISS, cache.get(QueryKey.of("a"), 1));
+        assertEquals(3L, cache.get(QueryKey.of("a"), 2));
+    }
+
+    @Test
+    void weightBudgetEvictsLeastRecentlyUsed() {
+        QueryCache cache = new QueryCache(2_500);
+        List<String> large = List.of("x".repeat(200), "y".repeat(200));
+        cache.put(QueryKey.of("first"), 1, large);
+        cache.put(QueryKey.of("second"), 1, large);
+        cache.get(QueryKey.of("first"), 1);
+        cache.put(QueryKey.of("third"), 1, large);
+
+        assertTrue(cache.weight() <= 2_500);
+        assertEquals(large, cache.get(QueryKey.of("first"), 1));
+        assertSame(QueryCache.MISS, cache.get(QueryKey.of("second"), 1));
+        assertEquals(large, cache.get(QueryKey.of("third"), 1));
+    }
+
+    @Test
+    void oversizedResultsAreNotCached() {
+        QueryCache cache = new QueryCache(100);
+        cache.put(QueryKey.of("big"), 1, "z".repeat(1_000));
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weight());
+    }
+
+    @Test
+    void resultsOfEvictedVersionsAreNotStored() {
+        QueryCache cache = new QueryCache(1 << 20);
+        cache.evictBefore(3);
+        cache.put(QueryKey.of("count"), 2, 42L);
+
+        assertEquals(0, cache.size());
+        assertSame(QueryCache.MISS, cache.get(QueryKey.of("count"), 2));
+    }
+
+    @Test
+    void nullResultsAreCached() {
+        QueryCache cache = new QueryCache(1 << 20);
+        cache.put(QueryKey.of("managers/top"), 1, null);
+
+        assertNull(cache.get(QueryKey.of("managers/top"), 1));
+        assertEquals(1, cache.hits());
+    }
+
+    @Test
+    void keysCompareTypedParameters() {
+        assertEquals(QueryKey.of("search", "HR", null), QueryKey.of("search", "HR", null));
+        assertNotEquals(QueryKey.of("search", null, "x"), QueryKey.of("search", "null", "x"));
+        assertNotEquals(QueryKey.of("search", "a&position=b", null), QueryKey.of("search", "a", "b"));
+        assertNotEquals(QueryKey.of("top-earners", 3), QueryKey.of("top-earners", 3L));
+
+        QueryCache cache = new QueryCache(1 << 20);
+        cache.put(QueryKey.of("search", (Object) null), 1, List.of());
+        assertSame(QueryCache.MISS, cache.get(QueryKey.of("search", "null"), 1));
+    }
+}